@@ -0,0 +1,35 @@
+package dev.jeschke.spring.warmup;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Describes where to record the loaded classes and how long to record them.
+ * <p>
+ * During the WarmUp and for {@code recordingDuration} afterwards, the names of all loaded classes are recorded. Once the
+ * recording ends, or the application shuts down, they are written to {@code file}, replacing its previous content. During the
+ * next start up, these classes are loaded concurrently as the first step of the WarmUp, before any endpoint is called.
+ *
+ * @param file              the class list file, read at start up and written once the recording ends
+ * @param recordingDuration how long to keep recording after the WarmUp is done, to include classes loaded by real traffic
+ */
+public record ClassPreloading(Path file, Duration recordingDuration) {
+
+    public ClassPreloading {
+        if (file == null) {
+            throw new IllegalArgumentException("File must not be null");
+        }
+        if (recordingDuration == null || recordingDuration.isNegative()) {
+            throw new IllegalArgumentException("Recording duration must not be negative, but was " + recordingDuration);
+        }
+    }
+
+    /**
+     * Records the loaded classes until five minutes after the WarmUp.
+     *
+     * @param file the class list file
+     */
+    public static ClassPreloading defaults(final Path file) {
+        return new ClassPreloading(file, Duration.ofMinutes(5));
+    }
+}
@@ -0,0 +1,33 @@
+package dev.jeschke.spring.warmup;
+
+import java.time.Duration;
+
+/**
+ * Describes how to pace repeated calls based on the activity of the JIT compiler.
+ * <p>
+ * Endpoints are called in bursts of {@code burstSize} calls. After each burst, the next burst only starts once the JIT compiler
+ * has caught up, i.e. the total compilation time reported by the JVM stopped increasing for one {@code pollInterval} (waiting at
+ * most ten poll intervals). Once a burst causes no more than {@code plateau} of additional compilation time, the endpoint is
+ * considered warm and is not called again.
+ *
+ * @param burstSize    the number of calls per burst
+ * @param maxBursts    the maximum number of bursts per endpoint
+ * @param pollInterval how often to check the compilation time while waiting for the compiler
+ * @param plateau      the compilation time per burst below which compilation is considered done
+ */
+public record CompilerPacing(int burstSize, int maxBursts, Duration pollInterval, Duration plateau) {
+
+    public CompilerPacing {
+        if (burstSize < 1 || maxBursts < 1) {
+            throw new IllegalArgumentException("Burst size and maximum bursts must be at least 1, but were %d and %d"
+                    .formatted(burstSize, maxBursts));
+        }
+    }
+
+    /**
+     * Calls each endpoint in bursts of 20 calls, at most 50 bursts, until a burst causes no new compilation.
+     */
+    public static CompilerPacing defaults() {
+        return new CompilerPacing(20, 50, Duration.ofMillis(50), Duration.ZERO);
+    }
+}
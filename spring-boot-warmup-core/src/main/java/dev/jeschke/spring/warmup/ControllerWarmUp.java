@@ -13,10 +13,12 @@ import java.lang.annotation.Target;
  * This annotation SHOULD NOT be used not request handlers that can cause side effects unless you are okay with the handler being run during start up.
  * <p>
  * Should the annotated method have a parameter annotated with @RequestBody, the initializer will try to automatically instantiate it.
- * This requires that the class has a zero parameter constructor that fully initializes all required fields.
+ * A zero parameter constructor is expected to fully initialize all required fields. Without one, records, Jackson creators,
+ * builders and the constructor with the most parameters are called with values satisfying the Bean Validation constraints.
  * If it's not possible to instantiate the parameter type, the handler MIGHT be called without a body.
  * <p>
- * This annotation CANNOT be used for methods that require path or query parameters.
+ * Handlers with path variables, e.g. {@code /users/{id}}, are only called with {@link #samples()}. Each sample is expanded into
+ * a concrete URL, so a handler can be called with several different values.
  */
 @Target(METHOD)
 @Retention(RUNTIME)
@@ -24,12 +26,71 @@ public @interface ControllerWarmUp {
     /**
      * A class to use as the body.
      * You can use this if your handler requires a request body, but you can't use the type annotated with @RequestBody.
-     * The class needs to have a zero-parameter constructor that fully initializes all required fields.
+     * It is instantiated the same way as the type annotated with @RequestBody.
      *
      * @return the class that will be used to construct the request body.
      */
     Class<?> requestBody() default DefaultRequestBodyType.class;
 
+    /**
+     * Endpoints with a higher priority are called first. Use this to make sure the most important endpoints are warm, even if the
+     * warm-up runs out of time.
+     *
+     * @return the priority of this endpoint
+     * @see WarmUpBuilder#setTimeBudget(java.time.Duration)
+     */
+    int priority() default 0;
+
+    /**
+     * Critical endpoints are called before all others. Once they are warm, the readiness indicator accepts traffic and the
+     * remaining endpoints are called in the background, one at a time.
+     *
+     * @return true if the application should only accept traffic once this endpoint is warm
+     * @see Endpoint#asCritical()
+     */
+    boolean critical() default false;
+
+    /**
+     * Values to call the handler with. The handler is called once per sample. Handlers whose path has variables are skipped if
+     * no sample is given.
+     * <p>
+     * Example:
+     * <pre>{@code
+     * @ControllerWarmUp(samples = {
+     *         @Sample(pathVariables = "id=1", queryParameters = {"expand=true", "fields=name"}),
+     *         @Sample(pathVariables = "id=2", headers = "Accept-Language=de")
+     * })
+     * @GetMapping("/users/{id}")
+     * public User getUser(@PathVariable("id") long id) {}
+     * }</pre>
+     *
+     * @return the samples to call the handler with
+     */
+    Sample[] samples() default {};
+
+    /**
+     * Describes one call of a handler. All values have the form {@code name=value}. Path variables and query parameters are URL
+     * encoded by the library, so give them unencoded, e.g. {@code name=café au lait}.
+     */
+    @Target({})
+    @Retention(RUNTIME)
+    @interface Sample {
+        /**
+         * @return the values of the path variables, e.g. {@code id=42}
+         */
+        String[] pathVariables() default {};
+
+        /**
+         * @return the query parameters to add, e.g. {@code page=1}. A name may occur multiple times
+         */
+        String[] queryParameters() default {};
+
+        /**
+         * @return the request headers to send, e.g. {@code Accept-Language=de}
+         */
+        String[] headers() default {};
+    }
+
     /**
      * For internal use only.
      *
@@ -1,5 +1,7 @@
 package dev.jeschke.spring.warmup;
 
+import java.util.Map;
+
 /**
  * Describes an endpoint for the controller warm up feature.
  *
@@ -7,8 +9,68 @@ package dev.jeschke.spring.warmup;
  * @param path        the API path to call, relative to localhost
  * @param body        the request body to send; null if the request should not include a body
  * @param contentType the content type of the request body
+ * @param priority    endpoints with a higher priority are called first; defaults to 0
+ * @param headers     additional request headers to send; defaults to none
+ * @param critical    if true, the application only accepts traffic once this endpoint is warm; defaults to false
  */
-public record Endpoint(String method, String path, Object body, String contentType) {
+public record Endpoint(
+        String method,
+        String path,
+        Object body,
+        String contentType,
+        int priority,
+        Map<String, String> headers,
+        boolean critical) {
+
+    public Endpoint {
+        headers = headers == null ? Map.of() : Map.copyOf(headers);
+    }
+
+    /**
+     * Describes an endpoint that is not critical
+     *
+     * @param method      the HTTP method to use (e.g. GET)
+     * @param path        the API path to call, relative to localhost
+     * @param body        the request body to send; null if the request should not include a body
+     * @param contentType the content type of the request body
+     * @param priority    endpoints with a higher priority are called first
+     * @param headers     additional request headers to send
+     */
+    public Endpoint(
+            final String method,
+            final String path,
+            final Object body,
+            final String contentType,
+            final int priority,
+            final Map<String, String> headers) {
+        this(method, path, body, contentType, priority, headers, false);
+    }
+
+    /**
+     * Describes an endpoint without additional headers
+     *
+     * @param method      the HTTP method to use (e.g. GET)
+     * @param path        the API path to call, relative to localhost
+     * @param body        the request body to send; null if the request should not include a body
+     * @param contentType the content type of the request body
+     * @param priority    endpoints with a higher priority are called first
+     */
+    public Endpoint(
+            final String method, final String path, final Object body, final String contentType, final int priority) {
+        this(method, path, body, contentType, priority, Map.of());
+    }
+
+    /**
+     * Describes an endpoint with the default priority
+     *
+     * @param method      the HTTP method to use (e.g. GET)
+     * @param path        the API path to call, relative to localhost
+     * @param body        the request body to send; null if the request should not include a body
+     * @param contentType the content type of the request body
+     */
+    public Endpoint(final String method, final String path, final Object body, final String contentType) {
+        this(method, path, body, contentType, 0);
+    }
 
     /**
      * Describes a GET endpoint
@@ -39,4 +101,30 @@ public record Endpoint(String method, String path, Object body, String contentTy
     public Endpoint(final String method, final String path) {
         this(method, path, null, null);
     }
+
+    /**
+     * @param priority endpoints with a higher priority are called first
+     * @return a copy of this endpoint with the given priority
+     */
+    public Endpoint withPriority(final int priority) {
+        return new Endpoint(method, path, body, contentType, priority, headers, critical);
+    }
+
+    /**
+     * @param headers additional request headers to send
+     * @return a copy of this endpoint with the given headers
+     */
+    public Endpoint withHeaders(final Map<String, String> headers) {
+        return new Endpoint(method, path, body, contentType, priority, headers, critical);
+    }
+
+    /**
+     * Critical endpoints are called before all others. Once they are warm, the readiness indicator accepts traffic and the
+     * remaining endpoints are called in the background, one at a time.
+     *
+     * @return a copy of this endpoint that is critical
+     */
+    public Endpoint asCritical() {
+        return new Endpoint(method, path, body, contentType, priority, headers, true);
+    }
 }
@@ -0,0 +1,24 @@
+package dev.jeschke.spring.warmup;
+
+import java.util.List;
+
+/**
+ * Describes how to warm up the {@code DataSource}s of the application.
+ * <p>
+ * Opens {@code connections} connections of every {@code DataSource} at the same time, so connection pools grow to this size.
+ * Every statement is prepared and executed on each of these connections, warming up the driver and its statement cache.
+ * Afterwards, all connections are returned to the pool.
+ *
+ * @param connections the number of connections to open per {@code DataSource}. Should not exceed the maximum pool size, or
+ *                    opening the connections blocks until the pool times out
+ * @param statements  the statements to execute, e.g. {@code SELECT 1}. Must be read-only, as they run on every connection
+ */
+public record JdbcWarmUp(int connections, List<String> statements) {
+
+    public JdbcWarmUp {
+        if (connections < 1) {
+            throw new IllegalArgumentException("Connections must be at least 1, but was " + connections);
+        }
+        statements = statements == null ? List.of() : List.copyOf(statements);
+    }
+}
@@ -0,0 +1,36 @@
+package dev.jeschke.spring.warmup;
+
+/**
+ * Describes when repeatedly called endpoints are considered warm.
+ * <p>
+ * Each endpoint is called at least {@code minTimes} and at most {@code maxTimes} times. After each call, the median latency of the
+ * last {@code window} calls is compared to the median latency of the {@code window} calls before them. Once both medians differ by
+ * no more than {@code tolerance}, the endpoint is considered warm and is not called again.
+ *
+ * @param minTimes  the minimum number of calls per endpoint
+ * @param maxTimes  the maximum number of calls per endpoint
+ * @param window    the number of calls the median latency is computed over
+ * @param tolerance the allowed relative difference between both medians, e.g. 0.1 for 10%
+ */
+public record LatencyConvergence(int minTimes, int maxTimes, int window, double tolerance) {
+
+    public LatencyConvergence {
+        if (window < 1) {
+            throw new IllegalArgumentException("Window must be at least 1, but was " + window);
+        }
+        if (minTimes < 0 || maxTimes < minTimes) {
+            throw new IllegalArgumentException(
+                    "Expected 0 <= minTimes <= maxTimes, but got %d and %d".formatted(minTimes, maxTimes));
+        }
+        if (tolerance < 0) {
+            throw new IllegalArgumentException("Tolerance must not be negative, but was " + tolerance);
+        }
+    }
+
+    /**
+     * Calls each endpoint between 10 and 1000 times, until the median latency over five calls changes by no more than 10%.
+     */
+    public static LatencyConvergence defaults() {
+        return new LatencyConvergence(10, 1000, 5, 0.1);
+    }
+}
@@ -0,0 +1,35 @@
+package dev.jeschke.spring.warmup;
+
+import java.time.Duration;
+
+/**
+ * Describes how fast repeatedly called endpoints need to be before the application accepts traffic.
+ * <p>
+ * Each endpoint is called until the median latency of its last {@code window} calls is at or below {@code target}, but at most
+ * {@code maxTimes} times. Should an endpoint miss its target, the readiness indicator keeps refusing traffic.
+ *
+ * @param target   the maximum median latency
+ * @param window   the number of calls the median latency is computed over
+ * @param maxTimes the maximum number of calls per endpoint
+ */
+public record LatencyTarget(Duration target, int window, int maxTimes) {
+
+    public LatencyTarget {
+        if (target == null || target.isNegative() || target.isZero()) {
+            throw new IllegalArgumentException("Target must be positive, but was " + target);
+        }
+        if (window < 1 || maxTimes < window) {
+            throw new IllegalArgumentException(
+                    "Expected 1 <= window <= maxTimes, but got %d and %d".formatted(window, maxTimes));
+        }
+    }
+
+    /**
+     * Calls each endpoint up to 1000 times, until the median latency over five calls is at or below the given target.
+     *
+     * @param target the maximum median latency
+     */
+    public static LatencyTarget of(final Duration target) {
+        return new LatencyTarget(target, 5, 1000);
+    }
+}
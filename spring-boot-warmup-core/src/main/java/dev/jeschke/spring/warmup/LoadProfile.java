@@ -0,0 +1,30 @@
+package dev.jeschke.spring.warmup;
+
+import java.time.Duration;
+
+/**
+ * Describes the load to generate during the WarmUp.
+ * <p>
+ * Requests are sent at a fixed rate, independent of how fast the application responds ("open loop"). The rate increases linearly
+ * from zero to {@code requestsPerSecond} during {@code rampUp}, then stays at {@code requestsPerSecond} for {@code duration}. If
+ * {@code maxInFlight} requests are already waiting for a response, further requests are skipped until a response arrives.
+ *
+ * @param requestsPerSecond the target rate
+ * @param rampUp            how long to increase the rate until it reaches the target rate
+ * @param duration          how long to keep the target rate after the ramp up
+ * @param maxInFlight       the maximum number of concurrent requests
+ */
+public record LoadProfile(double requestsPerSecond, Duration rampUp, Duration duration, int maxInFlight) {
+
+    public LoadProfile {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("Requests per second must be positive, but was " + requestsPerSecond);
+        }
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Max in flight must be at least 1, but was " + maxInFlight);
+        }
+        if (rampUp.isNegative() || duration.isNegative()) {
+            throw new IllegalArgumentException("Ramp up and duration must not be negative");
+        }
+    }
+}
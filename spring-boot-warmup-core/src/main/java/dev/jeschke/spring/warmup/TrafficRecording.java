@@ -0,0 +1,78 @@
+package dev.jeschke.spring.warmup;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Describes which real traffic to record for later replay.
+ * <p>
+ * Once the WarmUp is done, every incoming request is recorded with a probability of {@code sampleRate}. A recorded request
+ * consists of its method, path, query, body and the whitelisted {@code headers}. Requests are appended to {@code file} until
+ * it reaches {@code maxFileSize} bytes; afterwards, recording stops.
+ * <p>
+ * Only requests with one of the given {@code methods} are recorded, by default {@code GET} and {@code HEAD}. Requests to the
+ * actuator, like health probes, are never recorded.
+ *
+ * @param file        the file to append recorded requests to
+ * @param sampleRate  the share of requests to record, between 0 and 1
+ * @param maxFileSize the maximum size of the file in bytes
+ * @param headers     the names of the request headers to record; all other headers are dropped
+ * @param methods     the HTTP methods of the requests to record
+ */
+public record TrafficRecording(
+        Path file, double sampleRate, long maxFileSize, Set<String> headers, Set<String> methods) {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD");
+
+    public TrafficRecording {
+        if (file == null) {
+            throw new IllegalArgumentException("File must not be null");
+        }
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1, but was " + sampleRate);
+        }
+        if (maxFileSize < 1) {
+            throw new IllegalArgumentException("Max file size must be positive, but was " + maxFileSize);
+        }
+        headers = headers == null ? Set.of() : Set.copyOf(headers);
+        methods = methods == null || methods.isEmpty()
+                ? SAFE_METHODS
+                : methods.stream()
+                        .map(method -> method.toUpperCase(Locale.ROOT))
+                        .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Records only {@code GET} and {@code HEAD} requests.
+     */
+    public TrafficRecording(
+            final Path file, final double sampleRate, final long maxFileSize, final Set<String> headers) {
+        this(file, sampleRate, maxFileSize, headers, SAFE_METHODS);
+    }
+
+    /**
+     * Records requests with the given methods instead of only {@code GET} and {@code HEAD}.
+     * <p>
+     * <strong>Note:</strong> Recorded requests are replayed as they are. Methods like {@code POST}, {@code PUT}, {@code PATCH}
+     * or {@code DELETE} usually change data, so their replay during the next start up causes the same side effects again. Only
+     * add them if the application handles these requests without side effects.
+     *
+     * @param methods the HTTP methods of the requests to record
+     */
+    public TrafficRecording withMethods(final String... methods) {
+        return new TrafficRecording(file, sampleRate, maxFileSize, headers, Set.copyOf(Arrays.asList(methods)));
+    }
+
+    /**
+     * Records 1% of all {@code GET} and {@code HEAD} requests into a file of at most 10 MiB, keeping only the {@code Accept}
+     * header.
+     *
+     * @param file the file to append recorded requests to
+     */
+    public static TrafficRecording defaults(final Path file) {
+        return new TrafficRecording(file, 0.01, 10L * 1024 * 1024, Set.of("Accept"));
+    }
+}
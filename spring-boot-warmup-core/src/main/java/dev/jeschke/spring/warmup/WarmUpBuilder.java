@@ -2,8 +2,10 @@ package dev.jeschke.spring.warmup;
 
 import dev.jeschke.spring.warmup.internal.WarmUpSettings;
 import java.net.http.HttpClient;
+import java.nio.file.Path;
 import java.security.GeneralSecurityException;
 import java.time.Duration;
+import java.util.List;
 
 /**
  * Builder to configure the WarmUp library.
@@ -68,6 +70,22 @@ public interface WarmUpBuilder {
      */
     WarmUpBuilder disableReadinessIndicator();
 
+    /**
+     * Keeps the application not ready if an endpoint is still too slow after the maximum number of calls of its
+     * {@link LatencyTarget}. If not called, the readiness indicator waits until every target is met or missed, but then reports
+     * the application as ready either way.
+     * <p>
+     * Only targets that are missed because the endpoint stays too slow count. Targets of calls that fail or are cancelled, and
+     * all targets once the WarmUp stops early, e.g. because its {@link #setTimeBudget(Duration) time budget} is exhausted, do
+     * not affect the readiness.
+     * <p>
+     * <strong>Note:</strong> An application that keeps missing its targets never becomes ready. This setting is only evaluated
+     * on the top level builder.
+     *
+     * @see #initializingUntilFasterThan(LatencyTarget, Duration, WarmUpCustomizer)
+     */
+    WarmUpBuilder failReadinessOnMissedTarget();
+
     /**
      * Configures the protocol to use for REST calls. If not changed, the default is set to "http".
      * <p>
@@ -85,6 +103,19 @@ public interface WarmUpBuilder {
      */
     WarmUpBuilder setHttpClient(HttpClient httpClient);
 
+    /**
+     * Sets the HTTP version the library will use for REST calls. If not changed, the default of the {@link HttpClient} is used,
+     * which prefers HTTP/2.
+     * <p>
+     * With HTTP/2, concurrent calls share a single connection. Over plain http, this requires the server to support h2c.
+     * <p>
+     * <strong>Note:</strong> If you set a custom HttpClient, this setting has no effect.
+     *
+     * @param httpVersion the HTTP version to use
+     * @see #setHttpClient(HttpClient)
+     */
+    WarmUpBuilder setHttpVersion(HttpClient.Version httpVersion);
+
     /**
      * Sets the host name to connect to. If not changed, defaults to localhost.
      * <p>
@@ -121,6 +152,238 @@ public interface WarmUpBuilder {
      */
     WarmUpBuilder enableHttpTlsVerification() throws GeneralSecurityException;
 
+    /**
+     * Enables the in-process dispatch. Instead of sending REST calls over the network, calls are dispatched directly into the
+     * {@code DispatcherServlet}, passing through all registered filters. This makes each call much cheaper and works without a
+     * running web server, but does not warm up the web server itself.
+     * <p>
+     * Requires spring-test on the classpath; without it, calls are sent over the network.
+     * <p>
+     * This feature is disabled by default.
+     * <p>
+     * <strong>Note:</strong> This setting is only evaluated on the top level builder.
+     *
+     * @see #disableInProcessDispatch()
+     */
+    WarmUpBuilder enableInProcessDispatch();
+
+    /**
+     * Disables the in-process dispatch.
+     * <p>
+     * The feature is disabled by default, you should not need to call this method under normal circumstances.
+     *
+     * @see #enableInProcessDispatch()
+     */
+    WarmUpBuilder disableInProcessDispatch();
+
+    /**
+     * Enables the message converter warm up. The request and response body types of all handler methods are serialized and
+     * deserialized once with the application's message converters, so the (de-)serializers are cached before the first request.
+     * No endpoint is called.
+     * <p>
+     * This feature is disabled by default.
+     * <p>
+     * <strong>Note:</strong> This setting is only evaluated on the top level builder.
+     *
+     * @see #disableMessageConverterWarmUp()
+     */
+    WarmUpBuilder enableMessageConverterWarmUp();
+
+    /**
+     * Disables the message converter warm up.
+     * <p>
+     * The feature is disabled by default, you should not need to call this method under normal circumstances.
+     *
+     * @see #enableMessageConverterWarmUp()
+     */
+    WarmUpBuilder disableMessageConverterWarmUp();
+
+    /**
+     * Enables the validation warm up. The Bean Validation metadata of all types validated by handler methods and of all
+     * {@code @Validated} beans is built, and a generated instance of each type is validated once, e.g. to compile the regular
+     * expressions of {@code @Pattern}. No endpoint is called.
+     * <p>
+     * Requires a Bean Validation provider like Hibernate Validator; without one, nothing is warmed up.
+     * <p>
+     * This feature is disabled by default.
+     * <p>
+     * <strong>Note:</strong> This setting is only evaluated on the top level builder.
+     *
+     * @see #disableValidationWarmUp()
+     */
+    WarmUpBuilder enableValidationWarmUp();
+
+    /**
+     * Disables the validation warm up.
+     * <p>
+     * The feature is disabled by default, you should not need to call this method under normal circumstances.
+     *
+     * @see #enableValidationWarmUp()
+     */
+    WarmUpBuilder disableValidationWarmUp();
+
+    /**
+     * Enables the initialization of lazy beans. Use this together with {@code spring.main.lazy-initialization=true}: the
+     * application starts quickly, and all lazy singleton beans are created in the background before any endpoint is called,
+     * instead of during the first requests. Beans without dependencies on each other are created concurrently.
+     * <p>
+     * The readiness indicator reports the application as ready only once all lazy beans are created.
+     * <p>
+     * This feature is disabled by default.
+     * <p>
+     * <strong>Note:</strong> This setting is only evaluated on the top level builder.
+     *
+     * @see #disableLazyBeanInitialization()
+     */
+    WarmUpBuilder enableLazyBeanInitialization();
+
+    /**
+     * Disables the initialization of lazy beans.
+     * <p>
+     * The feature is disabled by default, you should not need to call this method under normal circumstances.
+     *
+     * @see #enableLazyBeanInitialization()
+     */
+    WarmUpBuilder disableLazyBeanInitialization();
+
+    /**
+     * Configures how many endpoints may be called concurrently. If not changed, endpoints are called one after another.
+     * <p>
+     * Endpoints configured with {@link #initializingMultipleTimes(int, Duration, WarmUpCustomizer)} are still called in order; only
+     * calls to different endpoints run concurrently.
+     * <p>
+     * <strong>Note:</strong> This setting is only evaluated on the top level builder.
+     *
+     * @param parallelism the maximum number of concurrent calls; must be at least 1
+     */
+    WarmUpBuilder setParallelism(int parallelism);
+
+    /**
+     * Limits how long the whole WarmUp may take. If not changed, the WarmUp runs until all steps are done.
+     * <p>
+     * Once the time budget is exhausted, all remaining WarmUp steps are cancelled and the readiness indicator reports the
+     * application as ready. Endpoints with a higher {@link Endpoint#priority()} are called first, so they are most likely to be
+     * warm when the budget runs out.
+     * <p>
+     * <strong>Note:</strong> This setting is only evaluated on the top level builder.
+     *
+     * @param timeBudget the maximum duration of the WarmUp
+     */
+    WarmUpBuilder setTimeBudget(Duration timeBudget);
+
+    /**
+     * Limits how long a single REST call may take. If not changed, calls have no timeout.
+     * <p>
+     * Calls that time out are logged and skipped; the WarmUp continues with the next call.
+     * <p>
+     * <strong>Note:</strong> This setting is only evaluated on the top level builder. It is applied as read timeout to every
+     * HTTP call, also when you configure a custom HttpClient using {@link #setHttpClient(HttpClient)}. The connect timeout is
+     * still the one of that client. Calls dispatched in-process are not limited.
+     *
+     * @param requestTimeout the maximum duration of a single call
+     */
+    WarmUpBuilder setRequestTimeout(Duration requestTimeout);
+
+    /**
+     * Enables recording of real traffic. Once the WarmUp is done, a sample of the incoming requests is appended to the configured
+     * file, so it can be replayed during the next start up using {@link #enableTrafficReplay(Path)}.
+     * <p>
+     * This feature is disabled by default.
+     * <p>
+     * <strong>Note:</strong> Recorded requests may contain personal data. Only whitelist headers that are safe to store, and make
+     * sure the file is protected accordingly.
+     * <p>
+     * <strong>Note:</strong> This setting is only evaluated on the top level builder.
+     * <p>
+     * {@snippet :
+     *  public WarmUpCustomizer warmUpCustomizer() {
+     *      return builder->builder
+     *          .enableTrafficRecording(TrafficRecording.defaults(Path.of("/var/lib/app/traffic.rec")))
+     *          .enableTrafficReplay(Path.of("/var/lib/app/traffic.rec"));
+     *  }
+     * }
+     *
+     * @param recording where and how much traffic to record
+     * @see TrafficRecording
+     */
+    WarmUpBuilder enableTrafficRecording(TrafficRecording recording);
+
+    /**
+     * Replays traffic recorded with {@link #enableTrafficRecording(TrafficRecording)} during the WarmUp. Requests are sent in the
+     * recorded order; failing requests are skipped. If the file does not exist, nothing is replayed.
+     * <p>
+     * This feature is disabled by default.
+     * <p>
+     * <strong>Note:</strong> This setting is only evaluated on the top level builder.
+     *
+     * @param file the file containing the recorded traffic
+     */
+    WarmUpBuilder enableTrafficReplay(Path file);
+
+    /**
+     * Writes a JSON report once the WarmUp is done. For each endpoint, it lists the latency of the first and the last call, the
+     * resulting speed-up, the bytes allocated while calling it and the number of failed calls. An existing file is replaced.
+     * <p>
+     * This feature is disabled by default.
+     * <p>
+     * <strong>Note:</strong> This setting is only evaluated on the top level builder.
+     *
+     * @param file where to write the report
+     */
+    WarmUpBuilder enableReportFile(Path file);
+
+    /**
+     * Preloads the classes needed by the WarmUp and the first requests. The classes loaded during the WarmUp and a while
+     * afterwards are recorded into a class list file using Java Flight Recorder. During the next start up, the recorded classes
+     * are loaded concurrently as the first step of the WarmUp, before any endpoint is called. See {@link ClassPreloading} for
+     * details.
+     * <p>
+     * This feature is disabled by default.
+     * <p>
+     * <strong>Note:</strong> Preloading also runs the static initializers of the recorded classes.
+     * <p>
+     * <strong>Note:</strong> This setting is only evaluated on the top level builder.
+     * <p>
+     * {@snippet :
+     *  public WarmUpCustomizer warmUpCustomizer() {
+     *      return builder->builder.enableClassPreloading(ClassPreloading.defaults(Path.of("/var/lib/app/classes.lst")));
+     *  }
+     * }
+     *
+     * @param preloading where to record the classes and how long
+     * @see ClassPreloading
+     */
+    WarmUpBuilder enableClassPreloading(ClassPreloading preloading);
+
+    /**
+     * Warms up the connection pools of all {@code DataSource} beans. See {@link JdbcWarmUp} for details.
+     * <p>
+     * This feature is disabled by default.
+     * <p>
+     * <strong>Note:</strong> This setting is only evaluated on the top level builder.
+     * <p>
+     * {@snippet :
+     *  public WarmUpCustomizer warmUpCustomizer() {
+     *      return builder->builder.enableJdbcWarmUp(new JdbcWarmUp(10, List.of("SELECT id FROM users WHERE id = 1")));
+     *  }
+     * }
+     *
+     * @param jdbcWarmUp how many connections to open and which statements to execute
+     * @see JdbcWarmUp
+     */
+    WarmUpBuilder enableJdbcWarmUp(JdbcWarmUp jdbcWarmUp);
+
+    /**
+     * Opens the given number of connections of all {@code DataSource} beans and executes the statements on each of them.
+     *
+     * @param connections the number of connections to open per {@code DataSource}
+     * @param statements  the read-only statements to execute
+     * @see #enableJdbcWarmUp(JdbcWarmUp)
+     */
+    default WarmUpBuilder enableJdbcWarmUp(final int connections, final String... statements) {
+        return enableJdbcWarmUp(new JdbcWarmUp(connections, List.of(statements)));
+    }
+
     /**
      * Modifies the given customizer to call defined endpoints multiple times. This can be useful if your endpoint needs to be called
      * multiple times to "fully" warm up.
@@ -166,6 +429,141 @@ public interface WarmUpBuilder {
      */
     WarmUpBuilder initializingMultipleTimes(int times, Duration interval, WarmUpCustomizer customizer) throws Exception;
 
+    /**
+     * Modifies the given customizer to call defined endpoints until their latency stops improving. Instead of a fixed number of
+     * calls, each endpoint is called as often as it takes to become warm.
+     * <p>
+     * By default, endpoints will be called with 10ms time between calls, using {@link LatencyConvergence#defaults()}. See overrides
+     * if you want to change these parameters.
+     * <p>
+     * <strong>Note:</strong> While valid code, nesting this method multiple times is not supported. Only the first level will be evaluated.
+     *
+     * @throws Exception any exception thrown by the customizer
+     * @see LatencyConvergence
+     */
+    default WarmUpBuilder initializingUntilStable(WarmUpCustomizer customizer) throws Exception {
+        return initializingUntilStable(LatencyConvergence.defaults(), Duration.ofMillis(10), customizer);
+    }
+
+    /**
+     * Modifies the given customizer to call defined endpoints until their latency stops improving. Instead of a fixed number of
+     * calls, each endpoint is called as often as it takes to become warm.
+     * <p>
+     * <strong>Note:</strong> While valid code, nesting this method multiple times is not supported. Only the first level will be evaluated.
+     * <p>
+     * {@snippet :
+     *  public WarmUpCustomizer warmUpCustomizer() {
+     *      return builder->builder.initializingUntilStable(
+     *          new LatencyConvergence(20, 500, 10, 0.05), // between 20 and 500 calls, until latency changes less than 5%
+     *          Duration.ofMillis(10),
+     *          builder -> builder.addEndpoint("/getPath")
+     *      );
+     *  }
+     * }
+     *
+     * @param convergence when to stop calling an endpoint
+     * @param interval    how long to wait between calls
+     * @throws Exception any exception thrown by the customizer
+     */
+    WarmUpBuilder initializingUntilStable(
+            LatencyConvergence convergence, Duration interval, WarmUpCustomizer customizer) throws Exception;
+
+    /**
+     * Modifies the given customizer to call defined endpoints until they are fast enough. Each endpoint is called until its median
+     * latency is at or below the target, using {@link LatencyTarget#of(Duration)} with 10ms time between calls.
+     * <p>
+     * <strong>Note:</strong> While valid code, nesting this method multiple times is not supported. Only the first level will be evaluated.
+     *
+     * @param target the maximum median latency of each endpoint
+     * @throws Exception any exception thrown by the customizer
+     * @see #initializingUntilFasterThan(LatencyTarget, Duration, WarmUpCustomizer)
+     */
+    default WarmUpBuilder initializingUntilFasterThan(final Duration target, final WarmUpCustomizer customizer)
+            throws Exception {
+        return initializingUntilFasterThan(LatencyTarget.of(target), Duration.ofMillis(10), customizer);
+    }
+
+    /**
+     * Modifies the given customizer to call defined endpoints until they are fast enough. Combined with the
+     * {@link #enableReadinessIndicator() readiness indicator}, the application only accepts traffic once every endpoint met its
+     * target or was called {@link LatencyTarget#maxTimes()} times. Use {@link #failReadinessOnMissedTarget()} to keep the
+     * application not ready if an endpoint is still too slow then.
+     * <p>
+     * To use different targets for different endpoints, call this method once per target.
+     * <p>
+     * <strong>Note:</strong> While valid code, nesting this method multiple times is not supported. Only the first level will be evaluated.
+     * <p>
+     * {@snippet :
+     *  public WarmUpCustomizer warmUpCustomizer() {
+     *      return builder->builder.enableReadinessIndicator()
+     *          .initializingUntilFasterThan(
+     *              new LatencyTarget(Duration.ofMillis(20), 10, 500), // median of 10 calls below 20ms, at most 500 calls
+     *              Duration.ofMillis(10),
+     *              builder -> builder.addEndpoint("/getPath")
+     *          );
+     *  }
+     * }
+     *
+     * @param target   when an endpoint is fast enough
+     * @param interval how long to wait between calls
+     * @throws Exception any exception thrown by the customizer
+     */
+    WarmUpBuilder initializingUntilFasterThan(LatencyTarget target, Duration interval, WarmUpCustomizer customizer)
+            throws Exception;
+
+    /**
+     * Modifies the given customizer to call defined endpoints in bursts, paced by the activity of the JIT compiler. The next burst
+     * only starts once the compiler has caught up, and calls stop once they cause no more compilation.
+     * <p>
+     * By default, {@link CompilerPacing#defaults()} is used. If the JVM does not report compilation times, endpoints are only called
+     * for a single burst.
+     * <p>
+     * <strong>Note:</strong> While valid code, nesting this method multiple times is not supported. Only the first level will be evaluated.
+     *
+     * @throws Exception any exception thrown by the customizer
+     * @see CompilerPacing
+     */
+    default WarmUpBuilder initializingUntilCompiled(WarmUpCustomizer customizer) throws Exception {
+        return initializingUntilCompiled(CompilerPacing.defaults(), customizer);
+    }
+
+    /**
+     * Modifies the given customizer to call defined endpoints in bursts, paced by the activity of the JIT compiler. The next burst
+     * only starts once the compiler has caught up, and calls stop once they cause no more compilation.
+     * <p>
+     * If the JVM does not report compilation times, endpoints are only called for a single burst.
+     * <p>
+     * <strong>Note:</strong> While valid code, nesting this method multiple times is not supported. Only the first level will be evaluated.
+     *
+     * @param pacing how to pace the calls
+     * @throws Exception any exception thrown by the customizer
+     */
+    WarmUpBuilder initializingUntilCompiled(CompilerPacing pacing, WarmUpCustomizer customizer) throws Exception;
+
+    /**
+     * Modifies the given customizer to send load to the defined endpoints, following the given profile. Endpoints are called in
+     * turns, at the rate defined by the profile.
+     * <p>
+     * Unlike {@link #initializingMultipleTimes(int, Duration, WarmUpCustomizer)}, requests do not wait for the previous response.
+     * This allows the application to reach the concurrency it needs under production load, e.g. to grow its thread and
+     * connection pools.
+     * <p>
+     * <strong>Note:</strong> While valid code, nesting this method multiple times is not supported. Only the first level will be evaluated.
+     * <p>
+     * {@snippet :
+     *  public WarmUpCustomizer warmUpCustomizer() {
+     *      return builder->builder.drivingLoad(
+     *          new LoadProfile(200, Duration.ofSeconds(10), Duration.ofSeconds(20), 50),
+     *          builder -> builder.addEndpoint("/getPath")
+     *      );
+     *  }
+     * }
+     *
+     * @param profile the load to generate
+     * @throws Exception any exception thrown by the customizer
+     */
+    WarmUpBuilder drivingLoad(LoadProfile profile, WarmUpCustomizer customizer) throws Exception;
+
     /**
      * Construct the final settings.
      * <p>
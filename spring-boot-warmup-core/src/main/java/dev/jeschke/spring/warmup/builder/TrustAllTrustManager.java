@@ -1,12 +1,26 @@
 package dev.jeschke.spring.warmup.builder;
 
 import java.net.Socket;
+import java.security.GeneralSecurityException;
 import java.security.cert.X509Certificate;
+import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509ExtendedTrustManager;
 
 @SuppressWarnings("java:S4830")
 public class TrustAllTrustManager extends X509ExtendedTrustManager {
+
+    /**
+     * @return an SSLContext that accepts all certificates
+     * @throws GeneralSecurityException if the SSLContext could not be created
+     */
+    public static SSLContext createSslContext() throws GeneralSecurityException {
+        final var sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, new TrustManager[] {new TrustAllTrustManager()}, null);
+        return sslContext;
+    }
+
     @Override
     public void checkClientTrusted(final X509Certificate[] chain, final String authType) {
         // Don't check certificates
@@ -0,0 +1,352 @@
+package dev.jeschke.spring.warmup.builder;
+
+import dev.jeschke.spring.warmup.ClassPreloading;
+import dev.jeschke.spring.warmup.CompilerPacing;
+import dev.jeschke.spring.warmup.Endpoint;
+import dev.jeschke.spring.warmup.JdbcWarmUp;
+import dev.jeschke.spring.warmup.LatencyConvergence;
+import dev.jeschke.spring.warmup.LatencyTarget;
+import dev.jeschke.spring.warmup.LoadProfile;
+import dev.jeschke.spring.warmup.TrafficRecording;
+import dev.jeschke.spring.warmup.WarmUpBuilder;
+import dev.jeschke.spring.warmup.WarmUpCustomizer;
+import dev.jeschke.spring.warmup.internal.LoadWarmUpSettings;
+import dev.jeschke.spring.warmup.internal.RepeatingWarmUpSettings;
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class WarmUpBuilderImpl implements WarmUpBuilder {
+
+    private static final String APPLICATION_JSON = "application/json";
+
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private boolean enableAutomaticWarmUpEndpoint = false;
+    private boolean enableReadinessIndicator = true;
+    private boolean failReadinessOnMissedTarget = false;
+    private String protocol = "http";
+    private HttpClient httpClient = null;
+    private HttpClient.Version httpVersion = null;
+    private String httpHostname = "localhost";
+    private boolean enableTlsVerification = true;
+    private int parallelism = 1;
+    private Duration timeBudget = null;
+    private Duration requestTimeout = null;
+    private TrafficRecording trafficRecording = null;
+    private Path trafficReplayFile = null;
+    private Path reportFile = null;
+    private JdbcWarmUp jdbcWarmUp = null;
+    private boolean enableInProcessDispatch = false;
+    private boolean enableMessageConverterWarmUp = false;
+    private boolean enableValidationWarmUp = false;
+    private boolean enableLazyBeanInitialization = false;
+    private ClassPreloading classPreloading = null;
+    private final Collection<RepeatingWarmUpSettings> repeatingWarmUpSettings = new ArrayList<>();
+    private final Collection<LoadWarmUpSettings> loadWarmUpSettings = new ArrayList<>();
+
+    public WarmUpBuilderImpl() {
+        // Top level builder, uses the defaults
+    }
+
+    /**
+     * Creates a nested builder that uses the same HTTP client configuration as its parent
+     */
+    private WarmUpBuilderImpl(final WarmUpBuilderImpl parent) {
+        this.httpClient = parent.httpClient;
+        this.httpVersion = parent.httpVersion;
+        this.enableTlsVerification = parent.enableTlsVerification;
+    }
+
+    @Override
+    public WarmUpBuilder addEndpoint(final Endpoint endpoint) {
+        endpoints.add(endpoint);
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder addEndpoint(final String path) {
+        endpoints.add(new Endpoint(path));
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder addEndpoint(final String method, final String path) {
+        endpoints.add(new Endpoint(method, path));
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder addEndpoint(final String path, final Object requestBody) {
+        endpoints.add(new Endpoint(path, requestBody, APPLICATION_JSON));
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder addEndpoint(final String path, final Object requestBody, final String contentType) {
+        endpoints.add(new Endpoint(path, requestBody, contentType));
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder addEndpoint(final String method, final String path, final Object requestBody) {
+        endpoints.add(new Endpoint(method, path, requestBody, APPLICATION_JSON));
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder addEndpoint(
+            final String method, final String path, final Object requestBody, final String contentType) {
+        endpoints.add(new Endpoint(method, path, requestBody, contentType));
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder enableAutomaticMvcWarmUpEndpoint() {
+        enableAutomaticWarmUpEndpoint = true;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder disableAutomaticMvcWarmUpEndpoint() {
+        enableAutomaticWarmUpEndpoint = false;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder enableReadinessIndicator() {
+        enableReadinessIndicator = true;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder disableReadinessIndicator() {
+        enableReadinessIndicator = false;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder failReadinessOnMissedTarget() {
+        failReadinessOnMissedTarget = true;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder setRestProtocol(final String protocol) {
+        this.protocol = protocol;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder setHttpClient(final HttpClient httpClient) {
+        this.httpClient = httpClient;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder setHttpHostname(final String hostname) {
+        this.httpHostname = hostname;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder disableHttpTlsVerification() {
+        this.enableTlsVerification = false;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder enableHttpTlsVerification() {
+        this.enableTlsVerification = true;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder setHttpVersion(final HttpClient.Version httpVersion) {
+        this.httpVersion = httpVersion;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder enableInProcessDispatch() {
+        this.enableInProcessDispatch = true;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder disableInProcessDispatch() {
+        this.enableInProcessDispatch = false;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder enableMessageConverterWarmUp() {
+        this.enableMessageConverterWarmUp = true;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder disableMessageConverterWarmUp() {
+        this.enableMessageConverterWarmUp = false;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder enableValidationWarmUp() {
+        this.enableValidationWarmUp = true;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder disableValidationWarmUp() {
+        this.enableValidationWarmUp = false;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder enableLazyBeanInitialization() {
+        this.enableLazyBeanInitialization = true;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder disableLazyBeanInitialization() {
+        this.enableLazyBeanInitialization = false;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder setParallelism(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, but was " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder setTimeBudget(final Duration timeBudget) {
+        this.timeBudget = timeBudget;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder setRequestTimeout(final Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder enableTrafficRecording(final TrafficRecording recording) {
+        this.trafficRecording = recording;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder enableTrafficReplay(final Path file) {
+        this.trafficReplayFile = file;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder enableReportFile(final Path file) {
+        this.reportFile = file;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder enableClassPreloading(final ClassPreloading preloading) {
+        this.classPreloading = preloading;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder enableJdbcWarmUp(final JdbcWarmUp jdbcWarmUp) {
+        this.jdbcWarmUp = jdbcWarmUp;
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder initializingMultipleTimes(
+            final int times, final Duration interval, final WarmUpCustomizer customizer) throws Exception {
+        repeatingWarmUpSettings.add(new RepeatingWarmUpSettings(
+                times, interval, customizer.apply(new WarmUpBuilderImpl(this)).build()));
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder initializingUntilStable(
+            final LatencyConvergence convergence, final Duration interval, final WarmUpCustomizer customizer)
+            throws Exception {
+        repeatingWarmUpSettings.add(new RepeatingWarmUpSettings(
+                convergence.maxTimes(),
+                interval,
+                customizer.apply(new WarmUpBuilderImpl(this)).build(),
+                convergence,
+                null));
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder initializingUntilFasterThan(
+            final LatencyTarget target, final Duration interval, final WarmUpCustomizer customizer) throws Exception {
+        repeatingWarmUpSettings.add(new RepeatingWarmUpSettings(
+                target.maxTimes(),
+                interval,
+                customizer.apply(new WarmUpBuilderImpl(this)).build(),
+                null,
+                null,
+                target));
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder initializingUntilCompiled(final CompilerPacing pacing, final WarmUpCustomizer customizer)
+            throws Exception {
+        repeatingWarmUpSettings.add(new RepeatingWarmUpSettings(
+                pacing.burstSize() * pacing.maxBursts(),
+                pacing.pollInterval(),
+                customizer.apply(new WarmUpBuilderImpl(this)).build(),
+                null,
+                pacing));
+        return this;
+    }
+
+    @Override
+    public WarmUpBuilder drivingLoad(final LoadProfile profile, final WarmUpCustomizer customizer) throws Exception {
+        loadWarmUpSettings.add(new LoadWarmUpSettings(
+                profile, customizer.apply(new WarmUpBuilderImpl(this)).build()));
+        return this;
+    }
+
+    @Override
+    public WarmUpSettings build() {
+        return new WarmUpSettings(
+                endpoints,
+                enableAutomaticWarmUpEndpoint,
+                enableReadinessIndicator,
+                failReadinessOnMissedTarget,
+                protocol,
+                httpClient,
+                httpHostname,
+                enableTlsVerification,
+                repeatingWarmUpSettings,
+                parallelism,
+                timeBudget,
+                requestTimeout,
+                loadWarmUpSettings,
+                trafficRecording,
+                trafficReplayFile,
+                enableInProcessDispatch,
+                httpVersion,
+                reportFile,
+                jdbcWarmUp,
+                enableMessageConverterWarmUp,
+                enableValidationWarmUp,
+                enableLazyBeanInitialization,
+                classPreloading);
+    }
+}
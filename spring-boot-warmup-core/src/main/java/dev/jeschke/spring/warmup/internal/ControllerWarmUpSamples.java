@@ -0,0 +1,158 @@
+package dev.jeschke.spring.warmup.internal;
+
+import dev.jeschke.spring.warmup.ControllerWarmUp;
+import dev.jeschke.spring.warmup.ControllerWarmUp.Sample;
+import dev.jeschke.spring.warmup.Endpoint;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Expands the path pattern of a handler annotated with {@link ControllerWarmUp} into concrete endpoints, one per
+ * {@link ControllerWarmUp#samples() sample}.
+ * <p>
+ * For internal use only.
+ * @hidden
+ */
+public final class ControllerWarmUpSamples {
+
+    private ControllerWarmUpSamples() {}
+
+    /**
+     * @param annotation  the annotation of the handler
+     * @param method      the HTTP method of the handler
+     * @param patterns    the path patterns of the handler, e.g. {@code /users/{id}}
+     * @param body        the request body to send, may be null
+     * @param contentType the content type of the request body
+     * @return the endpoints of every sample, or of the handler itself if it has no samples
+     * @throws IllegalArgumentException if a sample cannot be expanded with any of the patterns
+     */
+    public static List<Endpoint> toEndpoints(
+            final ControllerWarmUp annotation,
+            final String method,
+            final Collection<String> patterns,
+            final Object body,
+            final String contentType) {
+        final var samples = annotation.samples().length == 0 ? new Sample[] {null} : annotation.samples();
+        final var endpoints = new LinkedHashSet<Endpoint>();
+        for (final var sample : samples) {
+            final var headers = sample == null ? Map.<String, String>of() : parse(sample.headers());
+            for (final var path : expandAll(patterns, sample)) {
+                endpoints.add(new Endpoint(
+                        method, path, body, contentType, annotation.priority(), headers, annotation.critical()));
+            }
+        }
+        return List.copyOf(endpoints);
+    }
+
+    /*
+     * A handler can be mapped to several patterns, e.g. /users and /users/{id}. The sample is expanded with every
+     * pattern whose variables it covers
+     */
+    private static List<String> expandAll(final Collection<String> patterns, final Sample sample) {
+        final var pathVariables = sample == null ? Map.<String, String>of() : parse(sample.pathVariables());
+        final var queryParameters = sample == null ? List.<String>of() : List.of(sample.queryParameters());
+        final var paths = new ArrayList<String>();
+        IllegalArgumentException failure = null;
+        for (final var pattern : patterns) {
+            try {
+                paths.add(expand(pattern, pathVariables, queryParameters));
+            } catch (final IllegalArgumentException e) {
+                failure = e;
+            }
+        }
+        if (!paths.isEmpty()) {
+            return paths;
+        }
+        throw failure != null ? failure : new IllegalArgumentException("The handler has no path pattern");
+    }
+
+    private static String expand(
+            final String pattern, final Map<String, String> pathVariables, final List<String> queryParameters) {
+        final var path = new StringBuilder();
+        var index = 0;
+        while (index < pattern.length()) {
+            final var character = pattern.charAt(index);
+            if (character == '{') {
+                final var end = findClosingBrace(pattern, index);
+                path.append(expandVariable(pattern.substring(index + 1, end), pathVariables, pattern));
+                index = end + 1;
+            } else if (character == '*') {
+                throw new IllegalArgumentException("The wildcard pattern %s cannot be expanded".formatted(pattern));
+            } else {
+                path.append(character);
+                index++;
+            }
+        }
+        final var query = new StringJoiner("&", "?", "").setEmptyValue("");
+        for (final var queryParameter : queryParameters) {
+            final var nameAndValue = split(queryParameter);
+            query.add(encode(nameAndValue[0]) + "=" + encode(nameAndValue[1]));
+        }
+        return path.append(query).toString();
+    }
+
+    private static int findClosingBrace(final String pattern, final int start) {
+        // Regular expressions of variables may contain braces themselves, e.g. {id:\d{3}}
+        var depth = 0;
+        for (var index = start; index < pattern.length(); index++) {
+            if (pattern.charAt(index) == '{') {
+                depth++;
+            } else if (pattern.charAt(index) == '}' && --depth == 0) {
+                return index;
+            }
+        }
+        throw new IllegalArgumentException("The pattern %s has an unclosed variable".formatted(pattern));
+    }
+
+    private static String expandVariable(
+            final String variable, final Map<String, String> pathVariables, final String pattern) {
+        final var separator = variable.indexOf(':');
+        final var name = separator < 0 ? variable : variable.substring(0, separator);
+        // A catch-all variable like {*path} may span several segments
+        final var catchAll = name.startsWith("*");
+        final var value = pathVariables.get(catchAll ? name.substring(1) : name);
+        if (value == null) {
+            throw new IllegalArgumentException(
+                    "No sample value for the path variable %s of %s".formatted(name, pattern));
+        }
+        if (!catchAll) {
+            return encode(value);
+        }
+        final var segments = new StringJoiner("/");
+        for (final var segment : value.split("/", -1)) {
+            segments.add(encode(segment));
+        }
+        return segments.toString();
+    }
+
+    /*
+     * Spaces are encoded as %20 instead of +, since only form decoding turns a + back into a space
+     */
+    private static String encode(final String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private static Map<String, String> parse(final String[] values) {
+        final var parsed = new LinkedHashMap<String, String>();
+        for (final var value : values) {
+            final var nameAndValue = split(value);
+            parsed.put(nameAndValue[0], nameAndValue[1]);
+        }
+        return parsed;
+    }
+
+    private static String[] split(final String value) {
+        final var separator = value.indexOf('=');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Expected a sample value like name=value, got %s".formatted(value));
+        }
+        return new String[] {value.substring(0, separator), value.substring(separator + 1)};
+    }
+}
@@ -0,0 +1,63 @@
+package dev.jeschke.spring.warmup.internal;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds the URI to call for the path of an endpoint.
+ * <p>
+ * The URI is passed to the client as {@link URI}, not as URI template, so paths that are already encoded, like the expanded
+ * samples of {@code @ControllerWarmUp} or recorded requests, are not encoded a second time.
+ * <p>
+ * For internal use only.
+ * @hidden
+ */
+public final class EndpointUris {
+
+    // Legal in a URI, except for the characters below
+    private static final String ILLEGAL_CHARACTERS = " \"<>[\\]^`{|}";
+
+    private EndpointUris() {}
+
+    /**
+     * @param baseUrl the URL of the application, e.g. {@code http://localhost:8080}
+     * @param path    the path of the endpoint, including its query. Must be encoded, unless it contains characters that are
+     *                illegal in a URI, like spaces, in which case they are encoded here
+     */
+    public static URI toUri(final String baseUrl, final String path) {
+        final var relativePath = path.replaceFirst("^/+", "");
+        try {
+            // Also encodes non-ASCII characters, which are legal in a java.net.URI, but not in a request line
+            return URI.create(new URI(baseUrl + "/" + relativePath).toASCIIString());
+        } catch (final URISyntaxException e) {
+            return URI.create(baseUrl + "/" + encodeIllegalCharacters(relativePath));
+        }
+    }
+
+    /*
+     * Encoded characters are kept, so parts of the path that are already encoded are not encoded a second time
+     */
+    private static String encodeIllegalCharacters(final String path) {
+        final var bytes = path.getBytes(StandardCharsets.UTF_8);
+        final var encoded = new StringBuilder();
+        for (var index = 0; index < bytes.length; index++) {
+            final var character = bytes[index] & 0xFF;
+            final var legal = character == '%'
+                    ? isEncoded(bytes, index)
+                    : character > ' ' && character < 0x7F && ILLEGAL_CHARACTERS.indexOf(character) < 0;
+            if (legal) {
+                encoded.append((char) character);
+            } else {
+                encoded.append("%%%02X".formatted(character));
+            }
+        }
+        return encoded.toString();
+    }
+
+    private static boolean isEncoded(final byte[] bytes, final int index) {
+        return index + 2 < bytes.length
+                && Character.digit(bytes[index + 1], 16) >= 0
+                && Character.digit(bytes[index + 2], 16) >= 0;
+    }
+}
@@ -0,0 +1,94 @@
+package dev.jeschke.spring.warmup.internal;
+
+import dev.jeschke.spring.warmup.builder.TrustAllTrustManager;
+import java.net.http.HttpClient;
+import java.security.GeneralSecurityException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * For internal use only.
+ * @hidden
+ */
+public class HttpClientPool<T> {
+
+    private final Supplier<HttpClient.Builder> builders;
+    private final Function<HttpClient, T> wrapper;
+    private final ConcurrentMap<Object, PooledClient<T>> clients = new ConcurrentHashMap<>();
+
+    /**
+     * @param builders creates a fresh builder for each client
+     * @param wrapper  wraps a client into the type used for calls, e.g. a RestClient
+     */
+    public HttpClientPool(final Supplier<HttpClient.Builder> builders, final Function<HttpClient, T> wrapper) {
+        this.builders = builders;
+        this.wrapper = wrapper;
+    }
+
+    /**
+     * Returns a client for the given settings. Settings with the same protocol, TLS mode and HTTP version share a client, so
+     * connections are reused across all calls.
+     */
+    public T get(final WarmUpSettings settings) {
+        return clients.computeIfAbsent(getKey(settings), key -> create(settings))
+                .client();
+    }
+
+    /**
+     * Closes all clients created by the pool. Custom clients set with
+     * {@link dev.jeschke.spring.warmup.WarmUpBuilder#setHttpClient(HttpClient)} are left open. Later calls to
+     * {@link #get(WarmUpSettings)} create new clients.
+     */
+    public void close() {
+        final var closing = List.copyOf(clients.values());
+        clients.clear();
+        closing.forEach(PooledClient::close);
+    }
+
+    private Object getKey(final WarmUpSettings settings) {
+        // Custom clients are used as they are, so they are their own key
+        return settings.httpClient() != null
+                ? settings.httpClient()
+                : new ClientKey(settings.protocol(), settings.enableHttpTlsVerification(), settings.httpVersion());
+    }
+
+    private PooledClient<T> create(final WarmUpSettings settings) {
+        final var owned = settings.httpClient() == null;
+        final var httpClient = owned ? build(settings) : settings.httpClient();
+        return new PooledClient<>(wrapper.apply(httpClient), httpClient, owned);
+    }
+
+    private HttpClient build(final WarmUpSettings settings) {
+        final var builder = builders.get();
+        if (!settings.enableHttpTlsVerification()) {
+            try {
+                builder.sslContext(TrustAllTrustManager.createSslContext());
+            } catch (final GeneralSecurityException e) {
+                throw new IllegalStateException("Could not disable TLS verification", e);
+            }
+        }
+        if (settings.httpVersion() != null) {
+            builder.version(settings.httpVersion());
+        }
+        return builder.build();
+    }
+
+    private record ClientKey(String protocol, boolean enableTlsVerification, HttpClient.Version httpVersion) {}
+
+    private record PooledClient<T>(T client, HttpClient httpClient, boolean owned) {
+        void close() {
+            // HttpClient is only AutoCloseable since Java 21. On older versions, it is closed once it is garbage
+            // collected
+            if (owned && httpClient instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (final Exception e) {
+                    // The WarmUp is done, nothing left to do
+                }
+            }
+        }
+    }
+}
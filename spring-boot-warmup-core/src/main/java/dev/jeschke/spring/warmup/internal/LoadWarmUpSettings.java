@@ -0,0 +1,9 @@
+package dev.jeschke.spring.warmup.internal;
+
+import dev.jeschke.spring.warmup.LoadProfile;
+
+/**
+ * For internal use only.
+ * @hidden
+ */
+public record LoadWarmUpSettings(LoadProfile profile, WarmUpSettings settings) {}
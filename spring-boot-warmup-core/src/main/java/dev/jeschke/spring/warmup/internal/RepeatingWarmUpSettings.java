@@ -1,9 +1,32 @@
 package dev.jeschke.spring.warmup.internal;
 
+import dev.jeschke.spring.warmup.CompilerPacing;
+import dev.jeschke.spring.warmup.LatencyConvergence;
+import dev.jeschke.spring.warmup.LatencyTarget;
 import java.time.Duration;
 
 /**
  * For internal use only.
  * @hidden
  */
-public record RepeatingWarmUpSettings(int times, Duration interval, WarmUpSettings settings) {}
+public record RepeatingWarmUpSettings(
+        int times,
+        Duration interval,
+        WarmUpSettings settings,
+        LatencyConvergence convergence,
+        CompilerPacing compilerPacing,
+        LatencyTarget latencyTarget) {
+
+    public RepeatingWarmUpSettings(final int times, final Duration interval, final WarmUpSettings settings) {
+        this(times, interval, settings, null, null);
+    }
+
+    public RepeatingWarmUpSettings(
+            final int times,
+            final Duration interval,
+            final WarmUpSettings settings,
+            final LatencyConvergence convergence,
+            final CompilerPacing compilerPacing) {
+        this(times, interval, settings, convergence, compilerPacing, null);
+    }
+}
@@ -1,8 +1,14 @@
 package dev.jeschke.spring.warmup.internal;
 
+import dev.jeschke.spring.warmup.ClassPreloading;
 import dev.jeschke.spring.warmup.Endpoint;
+import dev.jeschke.spring.warmup.JdbcWarmUp;
+import dev.jeschke.spring.warmup.TrafficRecording;
 import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.function.Predicate;
 
 /**
  * For internal use only.
@@ -12,8 +18,92 @@ public record WarmUpSettings(
         Collection<Endpoint> endpoints,
         boolean enableAutomaticMvcEndpoint,
         boolean enableReadinessIndicator,
+        boolean failReadinessOnMissedTarget,
         String protocol,
         HttpClient httpClient,
         String hostname,
         boolean enableHttpTlsVerification,
-        Collection<RepeatingWarmUpSettings> repeatingWarmUpSettings) {}
+        Collection<RepeatingWarmUpSettings> repeatingWarmUpSettings,
+        int parallelism,
+        Duration timeBudget,
+        Duration requestTimeout,
+        Collection<LoadWarmUpSettings> loadWarmUpSettings,
+        TrafficRecording trafficRecording,
+        Path trafficReplayFile,
+        boolean enableInProcessDispatch,
+        HttpClient.Version httpVersion,
+        Path reportFile,
+        JdbcWarmUp jdbcWarmUp,
+        boolean enableMessageConverterWarmUp,
+        boolean enableValidationWarmUp,
+        boolean enableLazyBeanInitialization,
+        ClassPreloading classPreloading) {
+
+    /**
+     * @return true if any endpoint, including repeated calls and load, is critical
+     */
+    public boolean hasCriticalEndpoints() {
+        return endpoints.stream().anyMatch(Endpoint::critical)
+                || repeatingWarmUpSettings.stream()
+                        .anyMatch(repeating -> repeating.settings().hasCriticalEndpoints())
+                || loadWarmUpSettings.stream().anyMatch(load -> load.settings().hasCriticalEndpoints());
+    }
+
+    /**
+     * @return these settings with only the critical endpoints. Keeps the class preloading, the lazy bean initialization, the
+     *         automatic endpoint and the JDBC, message converter and validation warm up, which warm up shared parts of the
+     *         application, but no traffic replay
+     */
+    public WarmUpSettings criticalPart() {
+        return filter(Endpoint::critical, true, null, parallelism);
+    }
+
+    /**
+     * @return these settings with only the endpoints that are not critical, called one at a time
+     */
+    public WarmUpSettings backgroundPart() {
+        return filter(endpoint -> !endpoint.critical(), false, trafficReplayFile, 1);
+    }
+
+    private WarmUpSettings filter(
+            final Predicate<Endpoint> filter,
+            final boolean keepShared,
+            final Path trafficReplay,
+            final int parallelism) {
+        return new WarmUpSettings(
+                endpoints.stream().filter(filter).toList(),
+                keepShared && enableAutomaticMvcEndpoint,
+                enableReadinessIndicator,
+                failReadinessOnMissedTarget,
+                protocol,
+                httpClient,
+                hostname,
+                enableHttpTlsVerification,
+                repeatingWarmUpSettings.stream()
+                        .map(repeating -> new RepeatingWarmUpSettings(
+                                repeating.times(),
+                                repeating.interval(),
+                                repeating.settings().filter(filter, keepShared, null, parallelism),
+                                repeating.convergence(),
+                                repeating.compilerPacing(),
+                                repeating.latencyTarget()))
+                        .toList(),
+                parallelism,
+                timeBudget,
+                requestTimeout,
+                loadWarmUpSettings.stream()
+                        .map(load -> new LoadWarmUpSettings(
+                                load.profile(), load.settings().filter(filter, keepShared, null, parallelism)))
+                        .toList(),
+                trafficRecording,
+                trafficReplay,
+                enableInProcessDispatch,
+                httpVersion,
+                reportFile,
+                keepShared ? jdbcWarmUp : null,
+                keepShared && enableMessageConverterWarmUp,
+                keepShared && enableValidationWarmUp,
+                keepShared && enableLazyBeanInitialization,
+                keepShared ? classPreloading : null);
+    }
+}
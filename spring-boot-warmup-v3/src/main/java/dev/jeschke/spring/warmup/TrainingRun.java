@@ -0,0 +1,59 @@
+package dev.jeschke.spring.warmup;
+
+import dev.jeschke.spring.warmup.listener.WarmUpListener;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exits the application once the WarmUp is done, if {@code warmup.training-run} is set. The JVM writes archives like the
+ * AppCDS archive of {@code -XX:ArchiveClassesAtExit} or the AOT cache of {@code -XX:AOTCacheOutput} when it exits, so they
+ * contain the classes and methods used by the WarmUp.
+ * <p>
+ * Runs after all other listeners, so e.g. the report is written before the application exits. Exits with code
+ * {@value #FAILED_EXIT_CODE} if the WarmUp failed or exceeded its time budget, so a build does not ship an archive of an
+ * incomplete training.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(value = "warmup.training-run", havingValue = "true")
+@RequiredArgsConstructor
+public class TrainingRun implements WarmUpListener {
+
+    static final int FAILED_EXIT_CODE = 1;
+
+    private final ApplicationContext context;
+    // Lazy, as the WarmUpRunner itself depends on all listeners
+    private final ObjectProvider<WarmUpRunner> warmUpRunner;
+    private final AtomicBoolean exiting = new AtomicBoolean(false);
+
+    @Override
+    public void warmUpFinished(final Duration duration) {
+        if (!exiting.compareAndSet(false, true)) {
+            return;
+        }
+        final var exitCode = warmUpRunner.getObject().isCompleted() ? 0 : FAILED_EXIT_CODE;
+        if (exitCode == 0) {
+            log.info("Training run finished after {}. Will exit", duration);
+        } else {
+            log.warn("Training run did not complete the WarmUp within {}. Will exit with code {}", duration, exitCode);
+        }
+        // Closing the context waits for the task executor, which runs the WarmUp itself
+        final var thread =
+                new Thread(() -> exit(SpringApplication.exit(context, () -> exitCode)), "warmup-training-run");
+        thread.start();
+    }
+
+    void exit(final int exitCode) {
+        System.exit(exitCode);
+    }
+}
@@ -4,11 +4,13 @@ import static java.util.Objects.requireNonNullElseGet;
 
 import dev.jeschke.spring.warmup.builder.WarmUpBuilderImpl;
 import dev.jeschke.spring.warmup.initializers.WarmUpInitializer;
+import dev.jeschke.spring.warmup.internal.HttpClientPool;
 import dev.jeschke.spring.warmup.internal.WarmUpSettings;
 import java.net.http.HttpClient;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.bind.Name;
 import org.springframework.context.ApplicationContext;
 import org.springframework.http.client.JdkClientHttpRequestFactory;
@@ -16,17 +18,22 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
 @Component
-@RequiredArgsConstructor
 public class WarmUpFactory {
     private final ApplicationContext context;
 
-    @Name("defaultWarmUpHttpClient")
-    private final HttpClient.Builder defaultWarmUpHttpClient;
-
     private final RestClient.Builder restClientBuilder;
 
     private final AtomicReference<Result<WarmUpSettings>> cachedSettings = new AtomicReference<>();
-    private final AtomicReference<RestClient> cachedRestClient = new AtomicReference<>();
+    private final HttpClientPool<RestClient> clientPool;
+
+    public WarmUpFactory(
+            final ApplicationContext context,
+            @Name("defaultWarmUpHttpClient") final ObjectProvider<HttpClient.Builder> defaultWarmUpHttpClient,
+            final RestClient.Builder restClientBuilder) {
+        this.context = context;
+        this.restClientBuilder = restClientBuilder;
+        this.clientPool = new HttpClientPool<>(defaultWarmUpHttpClient::getObject, this::buildRestClient);
+    }
 
     // Remove once we have something better for the unreachable code
     @SuppressWarnings("java:S112")
@@ -41,15 +48,36 @@ public class WarmUpFactory {
         throw new RuntimeException("unreachable");
     }
 
-    public RestClient getRestClient(final HttpClient httpClient) {
-        return cachedRestClient.updateAndGet(
-                restClient -> requireNonNullElseGet(restClient, () -> buildRestClient(httpClient)));
+    /**
+     * @return the settings of the top level builder, if they have been built successfully. Global settings are only evaluated here.
+     */
+    public Optional<WarmUpSettings> getCachedSettings() {
+        return cachedSettings.get() instanceof Result.Success<WarmUpSettings> success
+                ? Optional.of(success.result())
+                : Optional.empty();
+    }
+
+    /**
+     * Returns a client for the given settings. Settings with the same protocol, TLS mode and HTTP version share a client, so
+     * connections are reused across all calls.
+     */
+    public RestClient getRestClient(final WarmUpSettings settings) {
+        return clientPool.get(settings);
+    }
+
+    /**
+     * Closes all clients created by the library. Custom clients set with {@link WarmUpBuilder#setHttpClient(HttpClient)} are left
+     * open. Later calls to {@link #getRestClient(WarmUpSettings)} create new clients.
+     */
+    public void closeClients() {
+        clientPool.close();
     }
 
     private RestClient buildRestClient(final HttpClient httpClient) {
-        return restClientBuilder
-                .requestFactory(new JdkClientHttpRequestFactory(httpClient))
-                .build();
+        final var requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        // The request timeout is a global setting, so only the top level settings are relevant
+        getCachedSettings().map(WarmUpSettings::requestTimeout).ifPresent(requestFactory::setReadTimeout);
+        return restClientBuilder.clone().requestFactory(requestFactory).build();
     }
 
     private Result<WarmUpSettings> buildSettings(final List<WarmUpInitializer> initializers) {
@@ -66,7 +94,7 @@ public class WarmUpFactory {
     // Sonar complains that Exception is too generic, but that's what we get, so what can we do
     @SuppressWarnings("java:S112")
     private WarmUpBuilder configureCustomizers(final ApplicationContext applicationContext) throws Exception {
-        WarmUpBuilder result = new WarmUpBuilderImpl(defaultWarmUpHttpClient);
+        WarmUpBuilder result = new WarmUpBuilderImpl();
         for (final var customizer :
                 applicationContext.getBeansOfType(WarmUpCustomizer.class).values()) {
             result = customizer.apply(result);
@@ -3,6 +3,7 @@ package dev.jeschke.spring.warmup;
 import static org.springframework.boot.availability.ReadinessState.ACCEPTING_TRAFFIC;
 import static org.springframework.boot.availability.ReadinessState.REFUSING_TRAFFIC;
 
+import dev.jeschke.spring.warmup.initializers.LatencyTargets;
 import dev.jeschke.spring.warmup.initializers.WarmUpInitializer;
 import java.util.List;
 import org.springframework.boot.actuate.availability.ReadinessStateHealthIndicator;
@@ -18,25 +19,28 @@ public class WarmUpReadinessIndicator extends ReadinessStateHealthIndicator {
     private final WarmUpRunner warmUpRunner;
     private final WarmUpFactory factory;
     private final List<WarmUpInitializer> initializers;
+    private final LatencyTargets latencyTargets;
 
     public WarmUpReadinessIndicator(
             final ApplicationAvailability availability,
             final WarmUpRunner warmUpRunner,
             final WarmUpFactory factory,
-            final List<WarmUpInitializer> initializers) {
+            final List<WarmUpInitializer> initializers,
+            final LatencyTargets latencyTargets) {
         super(availability);
         this.warmUpRunner = warmUpRunner;
         this.factory = factory;
         this.initializers = initializers;
+        this.latencyTargets = latencyTargets;
     }
 
     @Override
     protected AvailabilityState getState(final ApplicationAvailability applicationAvailability) {
         try {
             final var settings = factory.getSettings(initializers);
-            return !warmUpRunner.isWarmedUp() && settings.enableReadinessIndicator()
-                    ? REFUSING_TRAFFIC
-                    : ACCEPTING_TRAFFIC;
+            final var warm = warmUpRunner.isCriticalWarmedUp()
+                    && (!settings.failReadinessOnMissedTarget() || latencyTargets.allMet());
+            return !warm && settings.enableReadinessIndicator() ? REFUSING_TRAFFIC : ACCEPTING_TRAFFIC;
         } catch (final Exception e) {
             // Don't log here, this method might be called often. The error will be logged somewhere else
             return ACCEPTING_TRAFFIC;
@@ -1,7 +1,17 @@
 package dev.jeschke.spring.warmup;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import dev.jeschke.spring.warmup.initializers.LatencyTargets;
 import dev.jeschke.spring.warmup.initializers.WarmUpInitializer;
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import dev.jeschke.spring.warmup.jfr.WarmUpPhaseEvent;
+import dev.jeschke.spring.warmup.listener.WarmUpListeners;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,21 +27,129 @@ public class WarmUpRunner {
 
     private final List<WarmUpInitializer> initializers;
     private final WarmUpFactory factory;
+    private final WarmUpListeners listeners;
+    private final LatencyTargets latencyTargets;
     private final AtomicBoolean done = new AtomicBoolean(false);
+    private final AtomicBoolean criticalDone = new AtomicBoolean(false);
+    private final AtomicBoolean completed = new AtomicBoolean(false);
 
     @Async
     @EventListener
     public void onContextRefreshed(final ContextRefreshedEvent ignoredEvent) {
+        final var event = new WarmUpPhaseEvent(WarmUpPhaseEvent.WARM_UP);
+        event.begin();
+        final var start = System.nanoTime();
+        listeners.warmUpStarted();
         try {
             final var settings = factory.getSettings(initializers);
-            initializers.forEach(initializer -> initializer.warmUp(settings));
+            if (settings.timeBudget() == null) {
+                warmUp(settings);
+                completed.set(true);
+            } else {
+                completed.set(warmUpWithinBudget(settings));
+            }
+        } catch (final InterruptedException e) {
+            log.warn("Was interrupted. Will stop warm up", e);
+            Thread.currentThread().interrupt();
         } catch (final Exception e) {
             log.error("Could not execute warm up steps", e);
+        } finally {
+            if (completed.get()) {
+                latencyTargets.releasePending();
+            } else {
+                // The WarmUp stopped early, e.g. because its time budget is exhausted. The application is ready anyway
+                latencyTargets.clear();
+            }
+            factory.closeClients();
+            listeners.warmUpFinished(Duration.ofNanos(System.nanoTime() - start));
+            event.commit();
         }
+        criticalDone.set(true);
         done.set(true);
     }
 
+    /**
+     * @return true once all endpoints are warm, or the WarmUp stopped
+     */
     public boolean isWarmedUp() {
         return done.get();
     }
+
+    /**
+     * Available to the {@link dev.jeschke.spring.warmup.listener.WarmUpListener}s once the WarmUp is finished.
+     *
+     * @return true if the WarmUp ran all its steps, false while it runs, or if it failed, was interrupted or exceeded its time
+     *         budget
+     */
+    public boolean isCompleted() {
+        return completed.get();
+    }
+
+    /**
+     * @return true once all critical endpoints are warm, or the WarmUp stopped. Without critical endpoints, this is the same as
+     *         {@link #isWarmedUp()}
+     */
+    public boolean isCriticalWarmedUp() {
+        return criticalDone.get();
+    }
+
+    private void warmUp(final WarmUpSettings settings) {
+        if (!settings.hasCriticalEndpoints()) {
+            runInitializers(settings);
+            return;
+        }
+        runInitializers(settings.criticalPart());
+        latencyTargets.releasePending();
+        // Targets of background endpoints must not revoke the readiness again
+        latencyTargets.stopTracking();
+        criticalDone.set(true);
+        log.info("Critical endpoints are warm. Will warm up the remaining endpoints in the background");
+
+        // The background part only reduces the competition with real requests by making one call at a time. The
+        // priority is a hint at most, HotSpot ignores it on Linux unless running as root with
+        // -XX:ThreadPriorityPolicy=1.
+        // Threads inherit the priority of the thread creating them, so this also applies to the threads making the
+        // calls
+        final var thread = Thread.currentThread();
+        final var priority = thread.getPriority();
+        thread.setPriority(Thread.MIN_PRIORITY);
+        try {
+            runInitializers(settings.backgroundPart());
+        } finally {
+            thread.setPriority(priority);
+        }
+    }
+
+    private void runInitializers(final WarmUpSettings settings) {
+        for (final var initializer : initializers) {
+            final var event = new WarmUpPhaseEvent(initializer.getClass().getSimpleName());
+            event.begin();
+            try {
+                initializer.warmUp(settings);
+            } finally {
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * @return false if the time budget ran out
+     */
+    private boolean warmUpWithinBudget(final WarmUpSettings settings) throws InterruptedException, ExecutionException {
+        final var executor = Executors.newSingleThreadExecutor(runnable -> {
+            final var thread = new Thread(runnable, "warmup-budget");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            executor.submit(() -> warmUp(settings)).get(settings.timeBudget().toMillis(), MILLISECONDS);
+            return true;
+        } catch (final TimeoutException e) {
+            log.warn("Warm up did not finish within {}. Will cancel the remaining steps", settings.timeBudget());
+            return false;
+        } finally {
+            // Interrupts the remaining steps, if any
+            executor.shutdownNow();
+        }
+    }
 }
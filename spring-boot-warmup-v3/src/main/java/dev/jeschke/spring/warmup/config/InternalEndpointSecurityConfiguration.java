@@ -2,6 +2,9 @@ package dev.jeschke.spring.warmup.config;
 
 import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.AUTOMATIC_WARM_UP_ENDPOINT;
 
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -11,6 +14,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
 
 @AutoConfiguration
 @ConditionalOnClass({SecurityFilterChain.class, HttpSecurity.class})
@@ -21,10 +25,23 @@ public class InternalEndpointSecurityConfiguration {
     @Order(1)
     @SuppressWarnings("java:S4502") // Disabling CSRF is safe, it won't be registered after warmup is done
     public SecurityFilterChain warmUpSecurity(final HttpSecurity httpSecurity) throws Exception {
+        // Also matches the endpoint itself, not only the paths below it
         return httpSecurity
-                .securityMatcher(new AntPathRequestMatcher(AUTOMATIC_WARM_UP_ENDPOINT))
+                .securityMatcher(new OrRequestMatcher(
+                        new AntPathRequestMatcher(AUTOMATIC_WARM_UP_ENDPOINT + "/**"),
+                        InternalEndpointSecurityConfiguration::isErrorOfWarmUpEndpoint))
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(customizer -> customizer.anyRequest().permitAll())
                 .build();
     }
+
+    /*
+     * The invalid body is rejected with a 400 status, which the servlet container renders by dispatching to the error page of
+     * the application, e.g. /error. That dispatch must not be rejected by the chain of the application either.
+     */
+    private static boolean isErrorOfWarmUpEndpoint(final HttpServletRequest request) {
+        return request.getDispatcherType() == DispatcherType.ERROR
+                && request.getAttribute(RequestDispatcher.ERROR_REQUEST_URI) instanceof final String uri
+                && uri.startsWith(request.getContextPath() + AUTOMATIC_WARM_UP_ENDPOINT);
+    }
 }
@@ -1,6 +1,7 @@
 package dev.jeschke.spring.warmup.config;
 
 import static java.net.http.HttpClient.Redirect.ALWAYS;
+import static org.springframework.beans.factory.config.ConfigurableBeanFactory.SCOPE_PROTOTYPE;
 
 import dev.jeschke.spring.warmup.IgnoreBean;
 import java.net.http.HttpClient;
@@ -9,6 +10,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Scope;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 @EnableAsync
@@ -17,7 +19,9 @@ import org.springframework.scheduling.annotation.EnableAsync;
 @ComponentScan(value = "dev.jeschke.spring.warmup", excludeFilters = @Filter(IgnoreBean.class))
 public class WarmUpConfiguration {
 
+    // A prototype, so each pooled client starts with a fresh builder
     @Bean("defaultWarmUpHttpClient")
+    @Scope(SCOPE_PROTOTYPE)
     public HttpClient.Builder defaultHttpClient() {
         return HttpClient.newBuilder().followRedirects(ALWAYS);
     }
@@ -1,9 +1,26 @@
 package dev.jeschke.spring.warmup.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
 
+/**
+ * @param http        the configuration of the internal endpoint
+ * @param trainingRun Whether to exit the application once the WarmUp is done, e.g. to create an AppCDS archive or AOT cache.
+ */
 @ConfigurationProperties("warmup")
-public record WarmUpConfigurationProperties(HttpConfigurationProperties http) {
+public record WarmUpConfigurationProperties(HttpConfigurationProperties http, boolean trainingRun) {
+
+    @ConstructorBinding
+    public WarmUpConfigurationProperties {}
+
+    /**
+     * Keeps the constructor of earlier versions, without training run.
+     *
+     * @param http the configuration of the internal endpoint
+     */
+    public WarmUpConfigurationProperties(final HttpConfigurationProperties http) {
+        this(http, false);
+    }
 
     public record HttpConfigurationProperties(InternalEndpointConfigurationProperties internal) {
 
@@ -0,0 +1,27 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import java.lang.management.ManagementFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AllocationMonitor {
+
+    private final com.sun.management.ThreadMXBean threadBean =
+            ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean ? bean : null;
+
+    /**
+     * @return false if the JVM does not report allocations per thread
+     */
+    public boolean isAvailable() {
+        return threadBean != null
+                && threadBean.isThreadAllocatedMemorySupported()
+                && threadBean.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * @return the bytes allocated by the current thread so far; -1 if not {@link #isAvailable() available}
+     */
+    public long getAllocatedBytes() {
+        return isAvailable() ? threadBean.getCurrentThreadAllocatedBytes() : -1;
+    }
+}
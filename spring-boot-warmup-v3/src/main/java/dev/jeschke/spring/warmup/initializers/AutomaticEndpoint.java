@@ -1,18 +1,46 @@
 package dev.jeschke.spring.warmup.initializers;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE;
+import static org.springframework.http.MediaType.TEXT_PLAIN_VALUE;
 
 import dev.jeschke.spring.warmup.IgnoreBean;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @IgnoreBean // Don't auto-discover this bean. It will be registered manually, if necessary
 @RestController
 public class AutomaticEndpoint {
 
     public static final String AUTOMATIC_WARM_UP_ENDPOINT = "/automaticWarmUpEndpoint";
+    public static final String INVALID_BODY_ENDPOINT = AUTOMATIC_WARM_UP_ENDPOINT + "/invalid";
+    public static final String PARAMETERS_ENDPOINT = AUTOMATIC_WARM_UP_ENDPOINT + "/parameters/";
+    public static final String MULTIPART_ENDPOINT = AUTOMATIC_WARM_UP_ENDPOINT + "/multipart";
+    public static final String STREAMING_ENDPOINT = AUTOMATIC_WARM_UP_ENDPOINT + "/streaming";
+    public static final String HEADER = "X-WarmUp";
+
+    private static final int STREAMED_CHUNKS = 16;
 
     @PostMapping(
             value = AUTOMATIC_WARM_UP_ENDPOINT,
@@ -21,4 +49,47 @@ public class AutomaticEndpoint {
     public AutomaticEndpointRequestBody warmUp(@RequestBody @Validated final AutomaticEndpointRequestBody requestBody) {
         return requestBody;
     }
+
+    /**
+     * Called with an invalid body, so the validation fails and the error response is rendered by the error handling of the
+     * application, like any {@code @ControllerAdvice}. The WarmUp expects the resulting 400 status.
+     */
+    @PostMapping(value = INVALID_BODY_ENDPOINT, consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    public AutomaticEndpointRequestBody warmUpInvalidBody(
+            @RequestBody @Validated final AutomaticEndpointRequestBody requestBody) {
+        return requestBody;
+    }
+
+    @GetMapping(value = PARAMETERS_ENDPOINT + "{id}", produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> warmUpParameters(
+            @PathVariable("id") final long id,
+            @RequestParam("number") final int number,
+            @RequestParam("date") @DateTimeFormat(iso = ISO.DATE) final LocalDate date,
+            @RequestParam("day") final DayOfWeek day,
+            @RequestParam("values") final List<String> values,
+            @RequestParam(name = "flag", required = false, defaultValue = "false") final boolean flag,
+            @RequestHeader(HEADER) final String header) {
+        return ResponseEntity.ok()
+                .eTag(Long.toString(id))
+                .lastModified(Instant.EPOCH)
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(1)))
+                .header(HEADER, header)
+                .body(Map.of("id", id, "number", number, "date", date, "day", day, "values", values, "flag", flag));
+    }
+
+    @PostMapping(value = MULTIPART_ENDPOINT, consumes = MULTIPART_FORM_DATA_VALUE, produces = TEXT_PLAIN_VALUE)
+    public String warmUpMultipart(
+            @RequestPart("file") final MultipartFile file, @RequestParam("name") final String name) throws IOException {
+        return "%s: %s bytes".formatted(name, file.getBytes().length);
+    }
+
+    @GetMapping(value = STREAMING_ENDPOINT, produces = TEXT_PLAIN_VALUE)
+    public StreamingResponseBody warmUpStreaming() {
+        return outputStream -> {
+            for (var chunk = 0; chunk < STREAMED_CHUNKS; chunk++) {
+                outputStream.write("chunk %s%n".formatted(chunk).getBytes(StandardCharsets.UTF_8));
+                outputStream.flush();
+            }
+        };
+    }
 }
@@ -1,15 +1,42 @@
 package dev.jeschke.spring.warmup.initializers;
 
 import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.AUTOMATIC_WARM_UP_ENDPOINT;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.HEADER;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.INVALID_BODY_ENDPOINT;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.MULTIPART_ENDPOINT;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.PARAMETERS_ENDPOINT;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.STREAMING_ENDPOINT;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE;
 
 import dev.jeschke.spring.warmup.Endpoint;
+import dev.jeschke.spring.warmup.initializers.ParallelInvocation.Invocation;
 import dev.jeschke.spring.warmup.internal.RepeatingWarmUpSettings;
 import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import dev.jeschke.spring.warmup.jfr.WarmUpControllerReloadEvent;
+import dev.jeschke.spring.warmup.listener.WarmUpCall;
+import dev.jeschke.spring.warmup.listener.WarmUpListeners;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 @Slf4j
@@ -18,9 +45,17 @@ import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandl
 public class AutomaticEndpointHttpInitializer implements WarmUpInitializer {
 
     public static final String CONTROLLER_BEAN_NAME = "warmUpAutomaticEndpoint";
+    public static final String NAME = AutomaticEndpointHttpInitializer.class.getSimpleName();
+    // The mapping for @Controller beans. Others, like the one of the actuator, only map their own handlers
+    static final String HANDLER_MAPPING_BEAN_NAME = "requestMappingHandlerMapping";
+    // Same check as the ValidationAutoConfiguration of Spring Boot. Without a provider, the invalid body is accepted
+    static final String VALIDATION_PROVIDER = "META-INF/services/jakarta.validation.spi.ValidationProvider";
+
     private final GenericApplicationContext context;
     private final RepeatingInvocation repeatingInvocation;
+    private final ParallelInvocation parallelInvocation;
     private final HttpClient httpClient;
+    private final WarmUpListeners listeners;
 
     @Override
     public void warmUp(final WarmUpSettings settings) {
@@ -32,42 +67,125 @@ public class AutomaticEndpointHttpInitializer implements WarmUpInitializer {
             return;
         }
 
-        context.registerBean(CONTROLLER_BEAN_NAME, AutomaticEndpoint.class);
-        reloadControllers();
+        final var handlerMapping = context.getBean(HANDLER_MAPPING_BEAN_NAME, RequestMappingHandlerMapping.class);
+        final var mappings = buildMappings(handlerMapping);
 
         try {
-            if (!skipSingleCall) {
-                httpClient.callEndpoint(buildInternalEndpoint(), settings);
-            }
-            for (final var repeatingWarmUpSetting : settings.repeatingWarmUpSettings()) {
-                if (repeatingWarmUpSetting.settings().enableAutomaticMvcEndpoint()) {
-                    repeatingInvocation.invokeRepeating(
-                            repeatingWarmUpSetting.times(),
-                            repeatingWarmUpSetting.interval(),
-                            () -> httpClient.callEndpoint(buildInternalEndpoint(), repeatingWarmUpSetting.settings()));
+            context.registerBean(CONTROLLER_BEAN_NAME, AutomaticEndpoint.class);
+            registerMappings(handlerMapping, mappings);
+            final var invocations = new ArrayList<Invocation>();
+            final var validation = new ClassPathResource(VALIDATION_PROVIDER, context.getClassLoader()).exists();
+            for (final var endpoint : buildInternalEndpoints(validation)) {
+                if (!skipSingleCall) {
+                    invocations.add(() -> {
+                        call(new WarmUpCall(NAME, endpoint, 0), settings);
+                        listeners.endpointFinished(NAME, endpoint);
+                    });
+                }
+                for (final var repeatingWarmUpSetting : settings.repeatingWarmUpSettings()) {
+                    if (repeatingWarmUpSetting.settings().enableAutomaticMvcEndpoint()) {
+                        final var calls = WarmUpCall.sequence(NAME, endpoint);
+                        invocations.add(() -> {
+                            repeatingInvocation.invoke(
+                                    repeatingWarmUpSetting, () -> call(calls.get(), repeatingWarmUpSetting.settings()));
+                            listeners.endpointFinished(NAME, endpoint);
+                        });
+                    }
                 }
             }
+            listeners.endpointsScheduled(NAME, invocations.size());
+            parallelInvocation.invokeAll(settings.parallelism(), invocations);
         } catch (final InterruptedException e) {
             log.warn("Was interrupted. Will stop repeating calls", e);
             Thread.currentThread().interrupt();
         } finally {
-            context.removeBeanDefinition(CONTROLLER_BEAN_NAME);
-            reloadControllers();
+            // Also cleans up after a failed registration. Unregistering a mapping that was not registered does nothing
+            unregisterMappings(handlerMapping, mappings.keySet());
+            if (context.containsBeanDefinition(CONTROLLER_BEAN_NAME)) {
+                context.removeBeanDefinition(CONTROLLER_BEAN_NAME);
+            }
+        }
+    }
+
+    private void call(final WarmUpCall call, final WarmUpSettings settings) {
+        if (INVALID_BODY_ENDPOINT.equals(call.endpoint().path())) {
+            httpClient.callEndpointExpecting(call, settings, HttpStatus.BAD_REQUEST);
+        } else {
+            httpClient.callEndpoint(call, settings);
+        }
+    }
+
+    /**
+     * Each endpoint initializes a different part of Spring MVC: (de-)serialization and validation, the error handling,
+     * conversion of path variables, query parameters and headers, response headers, multipart parsing and async streaming.
+     * The error handling is only called if the application can validate the body.
+     */
+    static List<Endpoint> buildInternalEndpoints(final boolean validation) {
+        final var fileHeaders = new HttpHeaders();
+        fileHeaders.setContentType(MediaType.TEXT_PLAIN);
+        fileHeaders.setContentDisposition(ContentDisposition.formData()
+                .name("file")
+                .filename("warmup.txt")
+                .build());
+        final var multipart = new LinkedMultiValueMap<String, Object>();
+        multipart.add("file", new HttpEntity<>("warm up".getBytes(StandardCharsets.UTF_8), fileHeaders));
+        multipart.add("name", "warmup");
+        final var endpoints = new ArrayList<Endpoint>();
+        endpoints.add(new Endpoint(
+                AUTOMATIC_WARM_UP_ENDPOINT, AutomaticEndpointRequestBody.createDefault(), APPLICATION_JSON_VALUE));
+        if (validation) {
+            // Fails the validation, as all values are missing
+            endpoints.add(
+                    new Endpoint(INVALID_BODY_ENDPOINT, new AutomaticEndpointRequestBody(), APPLICATION_JSON_VALUE));
+        }
+        endpoints.add(new Endpoint(PARAMETERS_ENDPOINT + "42?number=7&date=2000-01-01&day=MONDAY&values=a,b&flag=true")
+                .withHeaders(Map.of(HEADER, "warmup")));
+        endpoints.add(new Endpoint(MULTIPART_ENDPOINT, multipart, MULTIPART_FORM_DATA_VALUE));
+        endpoints.add(new Endpoint(STREAMING_ENDPOINT));
+        return endpoints;
+    }
+
+    private Map<RequestMappingInfo, Method> buildMappings(final RequestMappingHandlerMapping handlerMapping) {
+        final var mappings = new LinkedHashMap<RequestMappingInfo, Method>();
+        for (final var method : AutomaticEndpoint.class.getDeclaredMethods()) {
+            final var mapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+            if (mapping != null) {
+                // Same as for annotated controllers, with the path matching options of the application
+                mappings.put(
+                        RequestMappingInfo.paths(mapping.path())
+                                .methods(mapping.method())
+                                .params(mapping.params())
+                                .headers(mapping.headers())
+                                .consumes(mapping.consumes())
+                                .produces(mapping.produces())
+                                .options(handlerMapping.getBuilderConfiguration())
+                                .build(),
+                        method);
+            }
         }
+        return mappings;
     }
 
-    private Endpoint buildInternalEndpoint() {
-        return new Endpoint(
-                AUTOMATIC_WARM_UP_ENDPOINT, AutomaticEndpointRequestBody.createDefault(), APPLICATION_JSON_VALUE);
+    /*
+     * Only touches the mappings of the automatic endpoint. Rebuilding all mappings would take long for large applications and
+     * leave the other endpoints unmapped in the meantime.
+     */
+    private void registerMappings(
+            final RequestMappingHandlerMapping handlerMapping, final Map<RequestMappingInfo, Method> mappings) {
+        final var event =
+                new WarmUpControllerReloadEvent(handlerMapping.getClass().getSimpleName(), mappings.size());
+        event.begin();
+        mappings.forEach(
+                (mappingInfo, method) -> handlerMapping.registerMapping(mappingInfo, CONTROLLER_BEAN_NAME, method));
+        event.commit();
     }
 
-    private void reloadControllers() {
-        context.getBeansOfType(RequestMappingHandlerMapping.class).forEach((name, requestMappingHandlerMapping) -> {
-            requestMappingHandlerMapping
-                    .getHandlerMethods()
-                    .keySet()
-                    .forEach(requestMappingHandlerMapping::unregisterMapping);
-            requestMappingHandlerMapping.afterPropertiesSet();
-        });
+    private void unregisterMappings(
+            final RequestMappingHandlerMapping handlerMapping, final Collection<RequestMappingInfo> mappingInfos) {
+        final var event =
+                new WarmUpControllerReloadEvent(handlerMapping.getClass().getSimpleName(), mappingInfos.size());
+        event.begin();
+        mappingInfos.forEach(handlerMapping::unregisterMapping);
+        event.commit();
     }
 }
@@ -0,0 +1,130 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dev.jeschke.spring.warmup.initializers.ParallelInvocation.Invocation;
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import dev.jeschke.spring.warmup.recording.ClassListRecorder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Loads the classes recorded by the {@link ClassListRecorder} during an earlier run, and starts recording them for the next
+ * one once they are loaded. Runs before all other initializers.
+ * <p>
+ * The classes are loaded concurrently, but initialized one after another in the recorded order: initializing classes whose
+ * static initializers depend on each other from different threads can deadlock.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ClassPreloadInitializer implements WarmUpInitializer {
+
+    private final ApplicationContext applicationContext;
+    private final ParallelInvocation parallelInvocation;
+    private final ClassListRecorder recorder;
+
+    @Override
+    public void warmUp(final WarmUpSettings configuration) {
+        final var preloading = configuration.classPreloading();
+        if (preloading == null) {
+            return;
+        }
+        final var preloaded = preload(preloading.file());
+        // Recording the parallel loads of the preloader would shuffle the class list, so only record what comes after
+        // them
+        recorder.start(preloading, preloaded);
+    }
+
+    /**
+     * @return the names of the loaded classes, in the order of the class list
+     */
+    private List<String> preload(final Path file) {
+        if (!Files.isRegularFile(file)) {
+            log.info("No class list found at {}. Will not preload classes", file);
+            return List.of();
+        }
+        final var classNames = readClassNames(file);
+        final var classLoader = getClassLoader();
+        final var loaded = new ConcurrentHashMap<String, Class<?>>();
+        try {
+            parallelInvocation.invokeAll(
+                    Runtime.getRuntime().availableProcessors(),
+                    classNames.stream()
+                            .<Invocation>map(name -> () -> load(name, classLoader, loaded))
+                            .toList());
+            final var initialized = initialize(classNames, classLoader, loaded);
+            log.info(
+                    "Preloaded {} and initialized {} of {} classes from {}",
+                    loaded.size(),
+                    initialized,
+                    classNames.size(),
+                    file);
+        } catch (final InterruptedException e) {
+            log.warn("Was interrupted. Will stop preloading classes", e);
+            Thread.currentThread().interrupt();
+        }
+        // Classes that could not be loaded anymore are dropped from the next class list
+        return classNames.stream().filter(loaded::containsKey).toList();
+    }
+
+    private List<String> readClassNames(final Path file) {
+        try {
+            return Files.readAllLines(file, UTF_8).stream()
+                    .map(String::strip)
+                    .filter(name -> !name.isEmpty())
+                    .distinct()
+                    .toList();
+        } catch (final IOException e) {
+            log.warn("Failed to read the class list {}. Will not preload classes", file, e);
+            return List.of();
+        }
+    }
+
+    private ClassLoader getClassLoader() {
+        final var classLoader = applicationContext.getClassLoader();
+        return classLoader == null ? ClassUtils.getDefaultClassLoader() : classLoader;
+    }
+
+    private void load(final String name, final ClassLoader classLoader, final Map<String, Class<?>> loaded) {
+        try {
+            loaded.put(name, Class.forName(name, false, classLoader));
+        } catch (final ClassNotFoundException | LinkageError e) {
+            // The class list may be outdated, or contain classes generated at runtime
+            log.debug("Could not load class {}", name, e);
+        }
+    }
+
+    private int initialize(
+            final List<String> classNames, final ClassLoader classLoader, final Map<String, Class<?>> loaded)
+            throws InterruptedException {
+        var initialized = 0;
+        for (final var name : classNames) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException("Class preloading was interrupted");
+            }
+            if (!loaded.containsKey(name)) {
+                continue;
+            }
+            try {
+                Class.forName(name, true, classLoader);
+                initialized++;
+            } catch (final ClassNotFoundException | LinkageError e) {
+                log.debug("Could not initialize class {}", name, e);
+            }
+        }
+        return initialized;
+    }
+}
@@ -0,0 +1,25 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CompilationMonitor {
+
+    private final CompilationMXBean compilationBean = ManagementFactory.getCompilationMXBean();
+
+    /**
+     * @return false if the JVM has no JIT compiler or does not report compilation times
+     */
+    public boolean isAvailable() {
+        return compilationBean != null && compilationBean.isCompilationTimeMonitoringSupported();
+    }
+
+    /**
+     * @return the accumulated time spent in JIT compilation in milliseconds
+     */
+    public long getTotalCompilationTime() {
+        return compilationBean.getTotalCompilationTime();
+    }
+}
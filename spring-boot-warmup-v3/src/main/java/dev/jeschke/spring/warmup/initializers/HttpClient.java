@@ -6,28 +6,123 @@ import static org.springframework.http.HttpMethod.PUT;
 
 import dev.jeschke.spring.warmup.Endpoint;
 import dev.jeschke.spring.warmup.WarmUpFactory;
+import dev.jeschke.spring.warmup.internal.EndpointUris;
 import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import dev.jeschke.spring.warmup.jfr.WarmUpCallEvent;
+import dev.jeschke.spring.warmup.listener.WarmUpCall;
+import dev.jeschke.spring.warmup.listener.WarmUpCallResult;
+import dev.jeschke.spring.warmup.listener.WarmUpListener;
+import dev.jeschke.spring.warmup.listener.WarmUpListeners;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class HttpClient {
 
-    private final WebServerApplicationContext context;
+    private final ApplicationContext context;
     private final WarmUpFactory warmUpFactory;
+    private final ObjectProvider<InProcessDispatcher> inProcessDispatcher;
+    private final WarmUpListeners listeners;
+    private final AllocationMonitor allocationMonitor;
+    private final AtomicBoolean warnedAboutMissingDispatcher = new AtomicBoolean();
 
-    public void callEndpoint(final Endpoint endpoint, final WarmUpSettings configuration) {
-        final var port = context.getWebServer().getPort();
-        final var url =
-                "%s://%s:%s/%s".formatted(configuration.protocol(), configuration.hostname(), port, endpoint.path());
-        log.info(
+    /**
+     * Calls the endpoint of the given call, notifies the {@link WarmUpListener}s about it and records it as JFR event.
+     */
+    public void callEndpoint(final WarmUpCall call, final WarmUpSettings configuration) {
+        callEndpoint(call, configuration, null);
+    }
+
+    /**
+     * Like {@link #callEndpoint(WarmUpCall, WarmUpSettings)}, but for a call that is meant to fail, e.g. to warm up the
+     * error handling. Only the expected status counts as success, any other status fails the call.
+     */
+    public void callEndpointExpecting(
+            final WarmUpCall call, final WarmUpSettings configuration, final HttpStatus expectedStatus) {
+        callEndpoint(call, configuration, expectedStatus);
+    }
+
+    private void callEndpoint(
+            final WarmUpCall call, final WarmUpSettings configuration, final HttpStatus expectedStatus) {
+        final var event = new WarmUpCallEvent(call);
+        event.begin();
+        final var allocatedBefore = allocationMonitor.getAllocatedBytes();
+        final var start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            callEndpoint(call.endpoint(), configuration, expectedStatus);
+        } catch (final RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            final var duration = Duration.ofNanos(System.nanoTime() - start);
+            final var allocatedAfter = allocationMonitor.getAllocatedBytes();
+            final var allocated = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+            event.end();
+            if (event.shouldCommit()) {
+                event.setResult(failure == null, allocated);
+                event.commit();
+            }
+            listeners.callFinished(call, new WarmUpCallResult(duration, allocated, failure));
+        }
+    }
+
+    private void callEndpoint(
+            final Endpoint endpoint, final WarmUpSettings configuration, final HttpStatus expectedStatus) {
+        final var method = HttpMethod.valueOf(endpoint.method());
+        if (endpoint.body() == null && expectRequestBody(method)) {
+            log.warn(
+                    "Trying to call endpoint {} with method {} but no body was provided. Call might fail.",
+                    endpoint,
+                    method);
+        }
+        final var dispatcher = getInProcessDispatcher();
+        final var statusCode = dispatcher == null
+                ? callOverHttp(endpoint, configuration, expectedStatus)
+                : callInProcess(dispatcher, endpoint, configuration, expectedStatus);
+
+        if (statusCode != null && expectedStatus != null && !isExpected(statusCode, expectedStatus)) {
+            throw new RestClientException("Call to %s with method %s returned status code %s, but expected %s"
+                    .formatted(endpoint.path(), endpoint.method(), statusCode, expectedStatus));
+        }
+        if (statusCode != null && !statusCode.is2xxSuccessful() && expectedStatus == null) {
+            log.warn(
+                    "Call to {} with method {} failed. Returned status code {}",
+                    endpoint.path(),
+                    endpoint.method(),
+                    statusCode);
+        }
+    }
+
+    private HttpStatusCode callOverHttp(
+            final Endpoint endpoint, final WarmUpSettings configuration, final HttpStatus expectedStatus) {
+        if (!(context instanceof WebServerApplicationContext webServerContext)) {
+            throw new IllegalStateException(
+                    "The application has no web server. Enable the in-process dispatch to warm up without a web server");
+        }
+        final var port = webServerContext.getWebServer().getPort();
+        final var url = EndpointUris.toUri(
+                "%s://%s:%s".formatted(configuration.protocol(), configuration.hostname(), port), endpoint.path());
+        log.debug(
                 "Calling endpoint {} {} with body {} ({})",
                 endpoint.method(),
                 url,
@@ -36,27 +131,79 @@ public class HttpClient {
 
         final var method = HttpMethod.valueOf(endpoint.method());
         var spec = warmUpFactory
-                .getRestClient(configuration.httpClient())
+                .getRestClient(configuration)
                 .method(method)
-                .uri(url);
+                .uri(url)
+                .headers(headers -> endpoint.headers().forEach(headers::add));
         if (endpoint.body() != null) {
             spec = spec //
                     .contentType(MediaType.valueOf(endpoint.contentType())) //
                     .body(endpoint.body());
-        } else if (expectRequestBody(method)) {
-            log.warn(
-                    "Trying to call endpoint {} with method {} but no body was provided. Call might fail.",
-                    endpoint,
-                    method);
         }
-        final var statusCode = spec //
-                .retrieve() //
-                .toBodilessEntity() //
-                .getStatusCode();
+        try {
+            return spec //
+                    .retrieve() //
+                    .onStatus(statusCode -> isExpected(statusCode, expectedStatus), (request, response) -> {}) //
+                    .toBodilessEntity() //
+                    .getStatusCode();
+        } catch (final ResourceAccessException e) {
+            if (e.getCause() instanceof HttpTimeoutException) {
+                log.warn("Call to {} with method {} timed out. Will continue with the next call", url, method);
+                return null;
+            }
+            throw e;
+        }
+    }
 
-        if (!statusCode.is2xxSuccessful()) {
-            log.warn("Call to {} with method {} failed. Returned status code {}", url, endpoint.method(), statusCode);
+    private HttpStatusCode callInProcess(
+            final InProcessDispatcher dispatcher,
+            final Endpoint endpoint,
+            final WarmUpSettings configuration,
+            final HttpStatus expectedStatus) {
+        log.debug(
+                "Dispatching endpoint {} {} in-process with body {} ({})",
+                endpoint.method(),
+                endpoint.path(),
+                endpoint.body(),
+                endpoint.contentType());
+        final HttpStatusCode statusCode;
+        try {
+            statusCode = dispatcher.dispatch(endpoint, configuration);
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new RestClientException(
+                    "In-process call to %s %s failed".formatted(endpoint.method(), endpoint.path()), e);
+        }
+        // Fail like the RestClient does, so both transports behave the same
+        if (statusCode.is4xxClientError() && !isExpected(statusCode, expectedStatus)) {
+            throw HttpClientErrorException.create(statusCode, "", HttpHeaders.EMPTY, new byte[0], null);
+        }
+        if (statusCode.is5xxServerError()) {
+            throw HttpServerErrorException.create(statusCode, "", HttpHeaders.EMPTY, new byte[0], null);
+        }
+        return statusCode;
+    }
+
+    private static boolean isExpected(final HttpStatusCode statusCode, final HttpStatus expectedStatus) {
+        return expectedStatus != null && statusCode.isSameCodeAs(expectedStatus);
+    }
+
+    private InProcessDispatcher getInProcessDispatcher() {
+        // The transport is a global setting, so only the top level settings are relevant
+        final var enabled = warmUpFactory
+                .getCachedSettings()
+                .map(WarmUpSettings::enableInProcessDispatch)
+                .orElse(false);
+        if (!enabled) {
+            return null;
+        }
+        final var dispatcher = inProcessDispatcher.getIfAvailable();
+        if (dispatcher == null && !warnedAboutMissingDispatcher.getAndSet(true)) {
+            log.warn(
+                    "In-process dispatch is enabled, but spring-test is missing on the classpath. Will call over HTTP");
         }
+        return dispatcher;
     }
 
     private boolean expectRequestBody(final HttpMethod httpMethod) {
@@ -1,15 +1,18 @@
 package dev.jeschke.spring.warmup.initializers;
 
 import static java.util.Objects.requireNonNull;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 import dev.jeschke.spring.warmup.ControllerWarmUp;
 import dev.jeschke.spring.warmup.ControllerWarmUp.DefaultRequestBodyType;
 import dev.jeschke.spring.warmup.WarmUpBuilder;
+import dev.jeschke.spring.warmup.internal.ControllerWarmUpSamples;
 import dev.jeschke.spring.warmup.internal.WarmUpSettings;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import dev.jeschke.spring.warmup.listener.WarmUpCall;
+import dev.jeschke.spring.warmup.listener.WarmUpListeners;
 import java.lang.reflect.Parameter;
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -29,8 +32,15 @@ import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandl
 @RequiredArgsConstructor
 public class HttpInitializer implements WarmUpInitializer {
 
+    public static final String NAME = HttpInitializer.class.getSimpleName();
+
     private final ApplicationContext applicationContext;
     private final HttpClient httpClient;
+    private final RepeatingInvocation repeatingInvocation;
+    private final RepetitionScheduler repetitionScheduler;
+    private final LoadGenerator loadGenerator;
+    private final WarmUpListeners listeners;
+    private final RequestBodyGenerator requestBodyGenerator;
 
     @Override
     public WarmUpBuilder configure(final WarmUpBuilder builder) {
@@ -45,30 +55,49 @@ public class HttpInitializer implements WarmUpInitializer {
 
     @Override
     public void warmUp(final WarmUpSettings configuration) {
+        final var repetitions = new ArrayList<PrioritizedRepetition>();
         for (final var endpoint : configuration.endpoints()) {
-            httpClient.callEndpoint(endpoint, configuration);
+            final var calls = WarmUpCall.sequence(NAME, endpoint);
+            repetitions.add(new PrioritizedRepetition(
+                    endpoint.priority(),
+                    Repetition.once(() -> httpClient.callEndpoint(calls.get(), configuration))
+                            .whenDone(() -> listeners.endpointFinished(NAME, endpoint))));
         }
         for (final var repeating : configuration.repeatingWarmUpSettings()) {
             for (final var endpoint : repeating.settings().endpoints()) {
-                try {
-                    callRepeating(
-                            repeating.times(),
-                            repeating.interval(),
-                            () -> httpClient.callEndpoint(endpoint, repeating.settings()));
-                } catch (final InterruptedException e) {
-                    log.warn("Was interrupted. Will stop repeating calls", e);
-                    Thread.currentThread().interrupt();
-                    return;
-                }
+                final var calls = WarmUpCall.sequence(NAME, endpoint);
+                repetitions.add(new PrioritizedRepetition(
+                        endpoint.priority(),
+                        repeatingInvocation
+                                .repetition(repeating, () -> httpClient.callEndpoint(calls.get(), repeating.settings()))
+                                .whenDone(() -> listeners.endpointFinished(NAME, endpoint))));
             }
         }
-    }
-
-    private void callRepeating(final int times, final Duration interval, final Runnable runnable)
-            throws InterruptedException {
-        for (var i = 0; i < times; i++) {
-            runnable.run();
-            Thread.sleep(interval.toMillis());
+        final var loadEndpoints = configuration.loadWarmUpSettings().stream()
+                .mapToInt(load -> load.settings().endpoints().size())
+                .sum();
+        listeners.endpointsScheduled(NAME, repetitions.size() + loadEndpoints);
+        // Stable sort, so endpoints with the same priority keep their configured order
+        repetitions.sort(
+                Comparator.comparingInt(PrioritizedRepetition::priority).reversed());
+        try {
+            repetitionScheduler.invokeAll(
+                    configuration.parallelism(),
+                    repetitions.stream().map(PrioritizedRepetition::repetition).toList());
+            for (final var load : configuration.loadWarmUpSettings()) {
+                loadGenerator.generate(
+                        load.profile(),
+                        load.settings().endpoints().stream()
+                                .<Runnable>map(endpoint -> {
+                                    final var calls = WarmUpCall.sequence(NAME, endpoint);
+                                    return () -> httpClient.callEndpoint(calls.get(), load.settings());
+                                })
+                                .toList());
+                load.settings().endpoints().forEach(endpoint -> listeners.endpointFinished(NAME, endpoint));
+            }
+        } catch (final InterruptedException e) {
+            log.warn("Was interrupted. Will stop repeating calls", e);
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -81,39 +110,48 @@ public class HttpInitializer implements WarmUpInitializer {
                 .getMethods() //
                 .stream() //
                 .findAny();
-        final var path = requestMappingInfo.getDirectPaths().stream().findAny();
-        final var requestBody = getRequestBody(handlerMethod);
+        final var patterns = requestMappingInfo.getPatternValues();
+        final var methodAnnotation = getMethodAnnotation(handlerMethod);
+        final var requestBody = getRequestBody(handlerMethod, methodAnnotation);
 
-        if (requestMethod.isEmpty() || path.isEmpty()) {
+        if (requestMethod.isEmpty() || patterns.isEmpty()) {
             log.warn(
-                    "Could not find request for {}. Got method {} and path {}",
+                    "Could not find request for {}. Got method {} and patterns {}",
                     requestMappingInfo,
                     requestMethod,
-                    path);
+                    patterns);
             return;
         }
-        builder.addEndpoint(requestMethod.get().toString(), path.get(), requestBody);
+        try {
+            ControllerWarmUpSamples.toEndpoints(
+                            methodAnnotation,
+                            requestMethod.get().toString(),
+                            patterns,
+                            requestBody,
+                            APPLICATION_JSON_VALUE)
+                    .forEach(builder::addEndpoint);
+        } catch (final IllegalArgumentException e) {
+            log.warn("Will not call {}: {}", requestMappingInfo, e.getMessage());
+        }
     }
 
-    private Object getRequestBody(final HandlerMethod handlerMethod) {
-        final var methodAnnotation = requireNonNull(
+    private record PrioritizedRepetition(int priority, Repetition repetition) {}
+
+    private ControllerWarmUp getMethodAnnotation(final HandlerMethod handlerMethod) {
+        return requireNonNull(
                 handlerMethod.getMethodAnnotation(ControllerWarmUp.class),
                 () -> "The handler method %s should have a @ControllerWarmUp annotation"
                         .formatted(handlerMethod.getMethod().getName()));
+    }
 
+    private Object getRequestBody(final HandlerMethod handlerMethod, final ControllerWarmUp methodAnnotation) {
         // First: Try a body configured with the annotation
         final var configuredType = Optional.<Class<?>>ofNullable(methodAnnotation.requestBody())
                 .filter(clazz -> !clazz.isAssignableFrom(DefaultRequestBodyType.class));
         // Second: Try to find a @RequestBody parameter
         final var annotatedParameterType = configuredType.or(() -> findParameterTypeByAnnotation(handlerMethod));
 
-        return annotatedParameterType.stream()
-                .map(Class::getConstructors)
-                .flatMap(Stream::of)
-                .filter(constructor -> constructor.getParameterCount() == 0)
-                .findFirst()
-                .flatMap(this::instantiate)
-                .orElse(null);
+        return annotatedParameterType.flatMap(requestBodyGenerator::generate).orElse(null);
     }
 
     private Optional<Class<?>> findParameterTypeByAnnotation(final HandlerMethod handlerMethod) {
@@ -123,16 +161,4 @@ public class HttpInitializer implements WarmUpInitializer {
                 .<Class<?>>map(Parameter::getType)
                 .findFirst();
     }
-
-    private Optional<?> instantiate(final Constructor<?> constructor) {
-        try {
-            return Optional.of(constructor.newInstance());
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            log.error(
-                    "Failed to instantiate body with constructor {}. Will call the endpoint without body.",
-                    constructor,
-                    e);
-            return Optional.empty();
-        }
-    }
 }
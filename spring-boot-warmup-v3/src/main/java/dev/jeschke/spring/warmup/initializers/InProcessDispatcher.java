@@ -0,0 +1,139 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import static java.util.Objects.requireNonNullElse;
+import static java.util.Objects.requireNonNullElseGet;
+import static org.springframework.http.MediaType.MULTIPART_FORM_DATA;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+
+import dev.jeschke.spring.warmup.Endpoint;
+import dev.jeschke.spring.warmup.internal.EndpointUris;
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import jakarta.servlet.http.Part;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.web.servlet.AbstractFilterRegistrationBean;
+import org.springframework.boot.web.servlet.ServletContextInitializerBeans;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockPart;
+import org.springframework.stereotype.Component;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+/**
+ * Dispatches calls directly into the {@link org.springframework.web.servlet.DispatcherServlet}, without going through the
+ * network stack. Requests pass through all filters registered in the application.
+ * <p>
+ * Uses MockMvc, so it is only available if spring-test is on the classpath.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnClass(name = "org.springframework.test.web.servlet.MockMvc")
+public class InProcessDispatcher {
+
+    private final GenericWebApplicationContext context;
+    private final AtomicReference<MockMvc> cachedMockMvc = new AtomicReference<>();
+
+    // MockMvc declares a generic Exception
+    @SuppressWarnings("java:S112")
+    public HttpStatusCode dispatch(final Endpoint endpoint, final WarmUpSettings configuration) throws Exception {
+        final var url = EndpointUris.toUri(
+                "%s://%s".formatted(configuration.protocol(), configuration.hostname()), endpoint.path());
+        final var method = HttpMethod.valueOf(endpoint.method());
+        final var contentType = endpoint.body() == null ? null : MediaType.valueOf(endpoint.contentType());
+        final MockHttpServletRequestBuilder request;
+        if (endpoint.body() instanceof MultiValueMap<?, ?> parts && MULTIPART_FORM_DATA.includes(contentType)) {
+            // MockMvc does not parse multipart content, so the parts have to be passed separately
+            request = MockMvcRequestBuilders.multipart(method, url).part(toParts(parts));
+        } else {
+            request = MockMvcRequestBuilders.request(method, url);
+            if (endpoint.body() != null) {
+                request.contentType(contentType).content(serialize(endpoint.body(), contentType));
+            }
+        }
+        endpoint.headers().forEach(request::header);
+        final var mockMvc = getMockMvc();
+        var result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        return HttpStatusCode.valueOf(result.getResponse().getStatus());
+    }
+
+    private Part[] toParts(final MultiValueMap<?, ?> parts) throws IOException {
+        final var mockParts = new ArrayList<Part>();
+        for (final var entry : parts.entrySet()) {
+            final var name = String.valueOf(entry.getKey());
+            for (final var value : entry.getValue()) {
+                mockParts.add(toPart(name, value));
+            }
+        }
+        return mockParts.toArray(Part[]::new);
+    }
+
+    private Part toPart(final String name, final Object value) throws IOException {
+        if (!(value instanceof HttpEntity<?> entity)) {
+            return new MockPart(name, serialize(value, MediaType.TEXT_PLAIN));
+        }
+        final var contentType = requireNonNullElse(entity.getHeaders().getContentType(), MediaType.TEXT_PLAIN);
+        final var filename = entity.getHeaders().getContentDisposition().getFilename();
+        final var content = entity.getBody() == null ? new byte[0] : serialize(entity.getBody(), contentType);
+        return new MockPart(name, filename, content, contentType);
+    }
+
+    private MockMvc getMockMvc() {
+        return cachedMockMvc.updateAndGet(mockMvc -> requireNonNullElseGet(mockMvc, this::buildMockMvc));
+    }
+
+    private MockMvc buildMockMvc() {
+        final var builder = MockMvcBuilders.webAppContextSetup(context);
+        for (final var initializer : new ServletContextInitializerBeans(context.getBeanFactory())) {
+            if (initializer instanceof AbstractFilterRegistrationBean<?> registration && registration.isEnabled()) {
+                builder.addFilter(
+                        registration.getFilter(), registration.getUrlPatterns().toArray(String[]::new));
+            }
+        }
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] serialize(final Object body, final MediaType contentType) throws IOException {
+        if (body instanceof byte[] bytes) {
+            return bytes;
+        }
+        // Use the application's converters, so the body is serialized like the application would deserialize it
+        for (final var converter : getMessageConverters()) {
+            if (converter.canWrite(body.getClass(), contentType)) {
+                final var message = new MockHttpOutputMessage();
+                ((HttpMessageConverter<Object>) converter).write(body, contentType, message);
+                return message.getBodyAsBytes();
+            }
+        }
+        throw new HttpMessageNotWritableException(
+                "Found no converter for %s with content type %s".formatted(body.getClass(), contentType));
+    }
+
+    private List<HttpMessageConverter<?>> getMessageConverters() {
+        return context.getBeanProvider(RequestMappingHandlerAdapter.class)
+                .orderedStream()
+                .findFirst()
+                .map(RequestMappingHandlerAdapter::getMessageConverters)
+                .orElseGet(() -> List.of(new ByteArrayHttpMessageConverter(), new StringHttpMessageConverter()));
+    }
+}
@@ -0,0 +1,106 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import dev.jeschke.spring.warmup.JdbcWarmUp;
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the connection pools of all {@link DataSource}s and runs the configured statements on each connection, so the first
+ * requests don't have to open connections, initialize the driver or prepare statements. Runs before the initializers calling
+ * endpoints, so these find the pools already filled.
+ * <p>
+ * The statements run on read-only connections, so the database can reject accidental writes.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+public class JdbcInitializer implements WarmUpInitializer {
+
+    // Reading a few rows is enough to initialize the result set handling
+    private static final int MAX_ROWS = 100;
+
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void warmUp(final WarmUpSettings configuration) {
+        final var jdbcWarmUp = configuration.jdbcWarmUp();
+        if (jdbcWarmUp == null) {
+            return;
+        }
+        applicationContext.getBeansOfType(DataSource.class).forEach((name, dataSource) -> {
+            log.debug("Warming up DataSource {}", name);
+            warmUp(name, dataSource, jdbcWarmUp);
+        });
+    }
+
+    private void warmUp(final String name, final DataSource dataSource, final JdbcWarmUp jdbcWarmUp) {
+        // Connections are only returned once all are open, so the pool has to create new ones instead of reusing them
+        final var connections = new ArrayList<Connection>();
+        try {
+            for (var index = 0; index < jdbcWarmUp.connections(); index++) {
+                final var connection = dataSource.getConnection();
+                connections.add(connection);
+                executeStatements(connection, jdbcWarmUp.statements());
+            }
+            log.info("Opened {} connections of DataSource {}", connections.size(), name);
+        } catch (final SQLException e) {
+            log.warn(
+                    "Failed to warm up DataSource {} after opening {} connections. Will continue without it",
+                    name,
+                    connections.size(),
+                    e);
+        } finally {
+            closeAll(name, connections);
+        }
+    }
+
+    private void executeStatements(final Connection connection, final List<String> statements) throws SQLException {
+        // Pools don't necessarily reset the flag when the connection is returned
+        final var readOnly = connection.isReadOnly();
+        connection.setReadOnly(true);
+        try {
+            executeAll(connection, statements);
+        } finally {
+            connection.setReadOnly(readOnly);
+        }
+    }
+
+    private void executeAll(final Connection connection, final List<String> statements) throws SQLException {
+        for (final var sql : statements) {
+            try (final var statement = connection.prepareStatement(sql)) {
+                statement.setMaxRows(MAX_ROWS);
+                if (statement.execute()) {
+                    try (final var resultSet = statement.getResultSet()) {
+                        final var columns = resultSet.getMetaData().getColumnCount();
+                        while (resultSet.next()) {
+                            for (var column = 1; column <= columns; column++) {
+                                resultSet.getObject(column);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void closeAll(final String name, final List<Connection> connections) {
+        for (final var connection : connections) {
+            try {
+                connection.close();
+            } catch (final SQLException e) {
+                log.warn("Failed to return a connection to DataSource {}", name, e);
+            }
+        }
+    }
+}
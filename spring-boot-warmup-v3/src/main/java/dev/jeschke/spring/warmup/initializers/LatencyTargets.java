@@ -0,0 +1,91 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import dev.jeschke.spring.warmup.LatencyTarget;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps track of whether all endpoints called with a {@link LatencyTarget} have met it.
+ */
+@Component
+public class LatencyTargets {
+
+    private final Set<Registration> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger missed = new AtomicInteger();
+    private final AtomicBoolean tracking = new AtomicBoolean(true);
+
+    /**
+     * Registers an endpoint that has to meet its target. Until it is {@link Registration#met() met}, {@link #allMet()} is false.
+     */
+    public Registration register() {
+        final var registration = new Registration(tracking.get());
+        if (registration.tracked) {
+            pending.add(registration);
+        }
+        return registration;
+    }
+
+    /**
+     * Releases all targets that are neither met nor missed yet, e.g. because their calls were cancelled. They are not counted as
+     * missed.
+     */
+    public void releasePending() {
+        List.copyOf(pending).forEach(Registration::release);
+    }
+
+    /**
+     * Forgets all targets and stops tracking new ones, e.g. once the WarmUp stopped early, so they no longer affect the readiness.
+     */
+    public void clear() {
+        stopTracking();
+        releasePending();
+        missed.set(0);
+    }
+
+    /**
+     * Stops tracking targets registered from now on, e.g. for endpoints warmed up in the background after the application already
+     * accepts traffic.
+     */
+    public void stopTracking() {
+        tracking.set(false);
+    }
+
+    /**
+     * @return true if no endpoint is still working towards its target or missed it because it stayed too slow
+     */
+    public boolean allMet() {
+        return pending.isEmpty() && missed.get() == 0;
+    }
+
+    /**
+     * A target of a single endpoint. Only the first call of {@link #met()}, {@link #missed()} or {@link #release()} counts.
+     */
+    public final class Registration {
+        private final boolean tracked;
+
+        private Registration(final boolean tracked) {
+            this.tracked = tracked;
+        }
+
+        public void met() {
+            pending.remove(this);
+        }
+
+        public void missed() {
+            if (pending.remove(this)) {
+                missed.incrementAndGet();
+            }
+        }
+
+        /**
+         * Neither met nor missed, e.g. because a call failed.
+         */
+        public void release() {
+            pending.remove(this);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import dev.jeschke.spring.warmup.initializers.ParallelInvocation.Invocation;
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Creates all lazy singleton beans that were not used yet. The beans are created in steps: each step only contains beans
+ * whose dependencies were created in an earlier step, so the beans of a step can be created concurrently without waiting for
+ * each other. Runs right after the {@link ClassPreloadInitializer} and before all other initializers, so calling endpoints
+ * does not trigger the creation of beans.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class LazyBeanInitializer implements WarmUpInitializer {
+
+    private final GenericApplicationContext context;
+    private final ParallelInvocation parallelInvocation;
+
+    @Override
+    public void warmUp(final WarmUpSettings configuration) {
+        if (!configuration.enableLazyBeanInitialization()) {
+            return;
+        }
+        final var beanFactory = context.getBeanFactory();
+        final var lazyBeans = new LinkedHashSet<String>();
+        for (final var name : beanFactory.getBeanDefinitionNames()) {
+            final var definition = beanFactory.getMergedBeanDefinition(name);
+            if (definition.isLazyInit()
+                    && definition.isSingleton()
+                    && !definition.isAbstract()
+                    && !beanFactory.containsSingleton(name)) {
+                lazyBeans.add(name);
+            }
+        }
+        final var dependencies = new LinkedHashMap<String, Set<String>>();
+        lazyBeans.forEach(name -> dependencies.put(name, getDependencies(beanFactory, name, lazyBeans)));
+        final var plan = buildPlan(dependencies);
+        final var initialized = new AtomicInteger();
+        try {
+            for (final var step : plan) {
+                parallelInvocation.invokeAll(
+                        Runtime.getRuntime().availableProcessors(),
+                        step.stream()
+                                .<Invocation>map(name -> () -> initialize(beanFactory, name, initialized))
+                                .toList());
+            }
+            log.info("Initialized {} of {} lazy beans in {} steps", initialized.get(), lazyBeans.size(), plan.size());
+        } catch (final InterruptedException e) {
+            log.warn("Was interrupted. Will stop initializing lazy beans", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @param dependencies the lazy beans, each with the lazy beans it depends on
+     * @return the steps to create the beans in. Beans with circular dependencies are created in the last step
+     */
+    static List<List<String>> buildPlan(final Map<String, Set<String>> dependencies) {
+        final var remaining = new LinkedHashMap<>(dependencies);
+        final var created = new HashSet<String>();
+        final var plan = new ArrayList<List<String>>();
+        while (!remaining.isEmpty()) {
+            var step = remaining.entrySet().stream()
+                    .filter(bean -> created.containsAll(bean.getValue()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            if (step.isEmpty()) {
+                // Spring resolves the cycle while creating the beans
+                step = List.copyOf(remaining.keySet());
+            }
+            step.forEach(remaining::remove);
+            created.addAll(step);
+            plan.add(step);
+        }
+        return plan;
+    }
+
+    /*
+     * The actual dependencies are only known once a bean is created. Until then, they are approximated by the depends-on
+     * attribute and the parameter types of the factory method or constructor.
+     */
+    private Set<String> getDependencies(
+            final ConfigurableListableBeanFactory beanFactory, final String name, final Set<String> lazyBeans) {
+        final var dependencies = new LinkedHashSet<String>();
+        final var definition = beanFactory.getMergedBeanDefinition(name);
+        if (definition.getDependsOn() != null) {
+            dependencies.addAll(List.of(definition.getDependsOn()));
+        }
+        for (final var type : getInjectedTypes(beanFactory, name, definition)) {
+            // Would match every bean
+            if (type != Object.class) {
+                dependencies.addAll(List.of(beanFactory.getBeanNamesForType(type, true, false)));
+            }
+        }
+        dependencies.retainAll(lazyBeans);
+        dependencies.remove(name);
+        return dependencies;
+    }
+
+    private List<Class<?>> getInjectedTypes(
+            final ConfigurableListableBeanFactory beanFactory, final String name, final Object definition) {
+        // Predicting the type also resolves the factory method of @Bean definitions
+        final var type = beanFactory.getType(name, false);
+        if (definition instanceof RootBeanDefinition rootDefinition
+                && rootDefinition.getResolvedFactoryMethod() != null) {
+            return List.of(rootDefinition.getResolvedFactoryMethod().getParameterTypes());
+        }
+        if (type == null) {
+            return List.of();
+        }
+        return Stream.of(ClassUtils.getUserClass(type).getDeclaredConstructors())
+                .max(Comparator.comparingInt(Constructor::getParameterCount))
+                .<List<Class<?>>>map(constructor -> List.of(constructor.getParameterTypes()))
+                .orElse(List.of());
+    }
+
+    private void initialize(
+            final ConfigurableListableBeanFactory beanFactory, final String name, final AtomicInteger initialized) {
+        try {
+            beanFactory.getBean(name);
+            initialized.incrementAndGet();
+        } catch (final BeansException e) {
+            log.warn("Failed to initialize lazy bean {}. It will be created on first use", name, e);
+        }
+    }
+}
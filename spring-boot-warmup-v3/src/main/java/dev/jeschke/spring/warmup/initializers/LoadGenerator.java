@@ -0,0 +1,91 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import static dev.jeschke.spring.warmup.initializers.ParallelInvocation.daemonThreadFactory;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import dev.jeschke.spring.warmup.LoadProfile;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class LoadGenerator {
+
+    private static final Duration TICK = Duration.ofMillis(10);
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    /**
+     * Sends requests following the given profile, taking turns between all calls. Requests are sent on time, regardless of
+     * whether earlier requests have finished. Requests that would exceed the maximum number of in-flight requests are skipped.
+     */
+    public void generate(final LoadProfile profile, final List<Runnable> calls) throws InterruptedException {
+        if (calls.isEmpty()) {
+            return;
+        }
+        final var inFlight = new Semaphore(profile.maxInFlight());
+        final var failed = new AtomicLong();
+        final var executor =
+                Executors.newFixedThreadPool(profile.maxInFlight(), daemonThreadFactory("warmup-load-", threadCount));
+        final var end = profile.rampUp().plus(profile.duration()).toNanos();
+        final var start = System.nanoTime();
+        long sent = 0;
+        long skipped = 0;
+        try {
+            for (var elapsed = 0L; elapsed <= end; elapsed = System.nanoTime() - start) {
+                final var due = (long) expectedRequests(profile, elapsed);
+                while (sent + skipped < due) {
+                    if (inFlight.tryAcquire()) {
+                        final var call = calls.get((int) (sent % calls.size()));
+                        executor.execute(() -> invoke(call, inFlight, failed));
+                        sent++;
+                    } else {
+                        skipped++;
+                    }
+                }
+                Thread.sleep(TICK.toMillis());
+            }
+            executor.shutdown();
+            // Wait for in-flight requests, but don't wait longer than the profile itself
+            executor.awaitTermination(Math.max(end, TICK.toNanos()), NANOSECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info(
+                "Generated load: sent {} requests, {} failed, skipped {} because of too many requests in flight",
+                sent,
+                failed.get(),
+                skipped);
+    }
+
+    /**
+     * @return how many requests should have been sent after the given time, i.e. the integral of the request rate
+     */
+    private double expectedRequests(final LoadProfile profile, final long elapsedNanos) {
+        final var elapsed = elapsedNanos / 1e9;
+        final var rampUp = profile.rampUp().toNanos() / 1e9;
+        final var rate = profile.requestsPerSecond();
+        if (elapsed < rampUp) {
+            return rate * elapsed * elapsed / (2 * rampUp);
+        }
+        return rate * rampUp / 2 + rate * (elapsed - rampUp);
+    }
+
+    private void invoke(final Runnable call, final Semaphore inFlight, final AtomicLong failed) {
+        try {
+            call.run();
+        } catch (final RuntimeException e) {
+            // Don't log each failure as a warning, there might be thousands of them
+            log.debug("Call failed while generating load", e);
+            failed.incrementAndGet();
+        } finally {
+            inFlight.release();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Writes and reads the request and response body types of all handler methods once with the message converters of Spring
+ * MVC. Converters like Jackson create and cache their (de-)serializers per type on first use, which would otherwise slow down
+ * the first request of each endpoint. No endpoint is called. Runs before the initializers calling endpoints, so their first
+ * calls already find the converters warm.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+@RequiredArgsConstructor
+public class MessageConverterInitializer implements WarmUpInitializer {
+
+    private final ApplicationContext applicationContext;
+    private final RequestBodyGenerator requestBodyGenerator;
+
+    @Override
+    public void warmUp(final WarmUpSettings configuration) {
+        if (!configuration.enableMessageConverterWarmUp()) {
+            return;
+        }
+        final var converters = applicationContext.getBeansOfType(RequestMappingHandlerAdapter.class).values().stream()
+                .map(RequestMappingHandlerAdapter::getMessageConverters)
+                .flatMap(List::stream)
+                .distinct()
+                .toList();
+        final var bodyTypes = new LinkedHashMap<BodyType, Class<?>>();
+        applicationContext.getBeansOfType(RequestMappingHandlerMapping.class).values().stream()
+                .map(RequestMappingHandlerMapping::getHandlerMethods)
+                .map(Map::entrySet)
+                .flatMap(Set::stream)
+                .forEach(mapping -> collectBodyTypes(mapping.getKey(), mapping.getValue(), bodyTypes));
+        bodyTypes.forEach((bodyType, contextClass) -> warmUp(bodyType, contextClass, converters));
+        log.info("Warmed up the message converters for {} body types", bodyTypes.size());
+    }
+
+    private void collectBodyTypes(
+            final RequestMappingInfo mappingInfo,
+            final HandlerMethod handlerMethod,
+            final Map<BodyType, Class<?>> bodyTypes) {
+        final var contextClass = handlerMethod.getBeanType();
+        for (final var parameter : handlerMethod.getMethodParameters()) {
+            if (parameter.hasParameterAnnotation(RequestBody.class)) {
+                final var mediaType =
+                        selectMediaType(mappingInfo.getConsumesCondition().getConsumableMediaTypes());
+                bodyTypes.putIfAbsent(new BodyType(getBodyType(parameter), mediaType), contextClass);
+            }
+        }
+        final var returnType = handlerMethod.getReturnType();
+        final var isResponseBody = returnType.hasMethodAnnotation(ResponseBody.class)
+                || AnnotatedElementUtils.hasAnnotation(contextClass, ResponseBody.class)
+                || HttpEntity.class.isAssignableFrom(returnType.getParameterType());
+        if (isResponseBody && returnType.getParameterType() != void.class) {
+            final var mediaType =
+                    selectMediaType(mappingInfo.getProducesCondition().getProducibleMediaTypes());
+            bodyTypes.putIfAbsent(new BodyType(getBodyType(returnType), mediaType), contextClass);
+        }
+    }
+
+    /*
+     * Bodies of ResponseEntity and other HttpEntity types are converted without the wrapper
+     */
+    private Type getBodyType(final MethodParameter parameter) {
+        final var type = ResolvableType.forMethodParameter(parameter);
+        if (HttpEntity.class.isAssignableFrom(type.toClass())) {
+            return type.getGeneric(0).getType();
+        }
+        return type.getType();
+    }
+
+    private MediaType selectMediaType(final Set<MediaType> mediaTypes) {
+        return mediaTypes.stream().filter(MediaType::isConcrete).findFirst().orElse(MediaType.APPLICATION_JSON);
+    }
+
+    private void warmUp(
+            final BodyType bodyType, final Class<?> contextClass, final List<HttpMessageConverter<?>> converters) {
+        final var rawType = ResolvableType.forType(bodyType.type()).toClass();
+        if (rawType == Object.class) {
+            return;
+        }
+        for (final var converter : converters) {
+            final var canWrite = converter instanceof GenericHttpMessageConverter<?> genericConverter
+                    ? genericConverter.canWrite(bodyType.type(), rawType, bodyType.mediaType())
+                    : converter.canWrite(rawType, bodyType.mediaType());
+            if (canWrite) {
+                convert(converter, bodyType, contextClass, rawType);
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void convert(
+            final HttpMessageConverter<?> converter,
+            final BodyType bodyType,
+            final Class<?> contextClass,
+            final Class<?> rawType) {
+        final var value = requestBodyGenerator.generateValue(bodyType.type());
+        if (value.isEmpty()) {
+            log.debug("Could not create a value of {}. Will not warm up its conversion", bodyType.type());
+            return;
+        }
+        try {
+            final var output = new BufferedMessage();
+            if (converter instanceof GenericHttpMessageConverter<?> genericConverter) {
+                final var objectConverter = (GenericHttpMessageConverter<Object>) genericConverter;
+                objectConverter.write(value.get(), bodyType.type(), bodyType.mediaType(), output);
+                if (objectConverter.canRead(bodyType.type(), contextClass, bodyType.mediaType())) {
+                    objectConverter.read(bodyType.type(), contextClass, output.toInput());
+                }
+            } else {
+                final var objectConverter = (HttpMessageConverter<Object>) converter;
+                objectConverter.write(value.get(), bodyType.mediaType(), output);
+                if (objectConverter.canRead(rawType, bodyType.mediaType())) {
+                    objectConverter.read((Class<Object>) rawType, output.toInput());
+                }
+            }
+        } catch (final IOException | RuntimeException e) {
+            log.debug("Failed to convert {} with {}", rawType, converter, e);
+        }
+    }
+
+    private record BodyType(Type type, MediaType mediaType) {}
+
+    /**
+     * Keeps the written body in memory, so it can be read again.
+     */
+    private static class BufferedMessage implements HttpOutputMessage {
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        HttpInputMessage toInput() {
+            return new HttpInputMessage() {
+                @Override
+                public InputStream getBody() {
+                    return new ByteArrayInputStream(body.toByteArray());
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return headers;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ParallelInvocation {
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    /**
+     * Runs all invocations, using up to {@code parallelism} threads. With a parallelism of 1 (or less), the invocations run one
+     * after another on the calling thread.
+     * <p>
+     * Should any invocation fail, the remaining invocations are cancelled and the failure is rethrown.
+     */
+    public void invokeAll(final int parallelism, final List<Invocation> invocations) throws InterruptedException {
+        if (parallelism <= 1 || invocations.size() <= 1) {
+            for (final var invocation : invocations) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedException("Warm up calls were interrupted");
+                }
+                invocation.invoke();
+            }
+            return;
+        }
+
+        final var executor = Executors.newFixedThreadPool(Math.min(parallelism, invocations.size()), threadFactory());
+        try {
+            final var futures = new ArrayList<Future<?>>();
+            for (final var invocation : invocations) {
+                futures.add(executor.submit(() -> {
+                    invocation.invoke();
+                    return null;
+                }));
+            }
+            for (final var future : futures) {
+                await(future);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void await(final Future<?> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (final ExecutionException e) {
+            rethrowCause(e);
+        }
+    }
+
+    static void rethrowCause(final ExecutionException e) throws InterruptedException {
+        if (e.getCause() instanceof final RuntimeException runtimeException) {
+            throw runtimeException;
+        } else if (e.getCause() instanceof final Error error) {
+            throw error;
+        } else if (e.getCause() instanceof InterruptedException) {
+            throw new InterruptedException("Parallel warm up call was interrupted");
+        }
+        throw new IllegalStateException("Parallel warm up call failed", e.getCause());
+    }
+
+    private ThreadFactory threadFactory() {
+        return daemonThreadFactory("warmup-", threadCount);
+    }
+
+    static ThreadFactory daemonThreadFactory(final String prefix, final AtomicInteger threadCount) {
+        return runnable -> {
+            final var thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @FunctionalInterface
+    public interface Invocation {
+        void invoke() throws InterruptedException;
+    }
+}
@@ -1,15 +1,223 @@
 package dev.jeschke.spring.warmup.initializers;
 
+import dev.jeschke.spring.warmup.CompilerPacing;
+import dev.jeschke.spring.warmup.LatencyConvergence;
+import dev.jeschke.spring.warmup.LatencyTarget;
+import dev.jeschke.spring.warmup.internal.RepeatingWarmUpSettings;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class RepeatingInvocation {
+
+    private static final int MAX_COMPILER_IDLE_POLLS = 10;
+
+    private final CompilationMonitor compilationMonitor;
+    private final LatencyTargets latencyTargets;
+
+    public void invoke(final RepeatingWarmUpSettings settings, final Runnable runnable) throws InterruptedException {
+        invoke(repetition(settings, runnable));
+    }
+
     public void invokeRepeating(final int times, final Duration interval, final Runnable runnable)
             throws InterruptedException {
-        for (var i = 0; i < times; i++) {
+        invoke(Repetition.fixed(times, interval, runnable));
+    }
+
+    public void invokeUntilStable(
+            final LatencyConvergence convergence, final Duration interval, final Runnable runnable)
+            throws InterruptedException {
+        invoke(new ConvergingRepetition(convergence, interval, runnable));
+    }
+
+    public void invokeCompilerPaced(final CompilerPacing pacing, final Runnable runnable) throws InterruptedException {
+        invoke(new CompilerPacedRepetition(pacing, runnable));
+    }
+
+    /**
+     * Creates a repetition matching the given settings, to run it step by step instead of blocking until all calls are done.
+     */
+    public Repetition repetition(final RepeatingWarmUpSettings settings, final Runnable runnable) {
+        if (settings.latencyTarget() != null) {
+            return new TargetRepetition(
+                    settings.latencyTarget(), settings.interval(), runnable, latencyTargets.register());
+        } else if (settings.compilerPacing() != null) {
+            return new CompilerPacedRepetition(settings.compilerPacing(), runnable);
+        } else if (settings.convergence() != null) {
+            return new ConvergingRepetition(settings.convergence(), settings.interval(), runnable);
+        }
+        return Repetition.fixed(settings.times(), settings.interval(), runnable);
+    }
+
+    private void invoke(final Repetition repetition) throws InterruptedException {
+        while (repetition.invokeNext()) {
+            Thread.sleep(repetition.interval().toMillis());
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class ConvergingRepetition implements Repetition {
+        private final LatencyConvergence convergence;
+        private final Duration interval;
+        private final Runnable runnable;
+        private final List<Long> latencies = new ArrayList<>();
+
+        @Override
+        public boolean invokeNext() {
+            final var start = System.nanoTime();
             runnable.run();
-            Thread.sleep(interval.toMillis());
+            latencies.add(System.nanoTime() - start);
+
+            if (latencies.size() >= convergence.minTimes() && isStable()) {
+                log.debug("Latency converged after {} calls", latencies.size());
+                return false;
+            }
+            if (latencies.size() >= convergence.maxTimes()) {
+                log.info("Latency did not converge within {} calls", convergence.maxTimes());
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public Duration interval() {
+            return interval;
+        }
+
+        private boolean isStable() {
+            final var window = convergence.window();
+            if (latencies.size() < 2 * window) {
+                return false;
+            }
+            final var current = median(latencies.subList(latencies.size() - window, latencies.size()));
+            final var previous = median(latencies.subList(latencies.size() - 2 * window, latencies.size() - window));
+            return Math.abs(current - previous) <= convergence.tolerance() * previous;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class TargetRepetition implements Repetition {
+        private final LatencyTarget target;
+        private final Duration interval;
+        private final Runnable runnable;
+        private final LatencyTargets.Registration registration;
+        private final List<Long> latencies = new ArrayList<>();
+
+        @Override
+        public boolean invokeNext() {
+            try {
+                return measureNext();
+            } catch (final RuntimeException | Error e) {
+                // A failed call says nothing about the latency, so it must not keep the application not ready
+                registration.release();
+                throw e;
+            }
+        }
+
+        private boolean measureNext() {
+            final var start = System.nanoTime();
+            runnable.run();
+            latencies.add(System.nanoTime() - start);
+
+            final var window = target.window();
+            if (latencies.size() < window) {
+                return true;
+            }
+            final var current = median(latencies.subList(latencies.size() - window, latencies.size()));
+            if (current <= target.target().toNanos()) {
+                log.debug("Latency target {} met after {} calls", target.target(), latencies.size());
+                registration.met();
+                return false;
+            }
+            if (latencies.size() >= target.maxTimes()) {
+                log.warn(
+                        "Latency target {} missed within {} calls, median latency was {}ms",
+                        target.target(),
+                        target.maxTimes(),
+                        current / 1e6);
+                registration.missed();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public Duration interval() {
+            return interval;
+        }
+    }
+
+    private static double median(final List<Long> values) {
+        final var sorted = values.stream().mapToLong(Long::longValue).sorted().toArray();
+        final var middle = sorted.length / 2;
+        return sorted.length % 2 == 0 ? (sorted[middle - 1] + sorted[middle]) / 2.0 : sorted[middle];
+    }
+
+    /*
+     * Alternates between running a burst and polling the compiler until it is idle. Each poll is a step of its own, so a shared
+     * scheduler can run other repetitions while the compiler is busy.
+     */
+    @RequiredArgsConstructor
+    private final class CompilerPacedRepetition implements Repetition {
+        private final CompilerPacing pacing;
+        private final Runnable runnable;
+        private int bursts = 0;
+        private boolean awaitingIdle = false;
+        private int polls = 0;
+        private long compilationTimeBefore;
+        private long previousCompilationTime;
+
+        @Override
+        public boolean invokeNext() {
+            if (!compilationMonitor.isAvailable()) {
+                log.info("Compilation time monitoring is not available. Will only call {} times", pacing.burstSize());
+                runBurst();
+                return false;
+            }
+            if (!awaitingIdle) {
+                compilationTimeBefore = compilationMonitor.getTotalCompilationTime();
+                runBurst();
+                previousCompilationTime = compilationMonitor.getTotalCompilationTime();
+                polls = 0;
+                awaitingIdle = true;
+                return true;
+            }
+            final var current = compilationMonitor.getTotalCompilationTime();
+            polls++;
+            if (current != previousCompilationTime && polls < MAX_COMPILER_IDLE_POLLS) {
+                previousCompilationTime = current;
+                return true;
+            }
+            awaitingIdle = false;
+            bursts++;
+
+            if (current - compilationTimeBefore <= pacing.plateau().toMillis()) {
+                log.debug("Compilation activity plateaued after {} bursts", bursts);
+                return false;
+            }
+            if (bursts >= pacing.maxBursts()) {
+                log.info("Compilation activity did not plateau within {} bursts", pacing.maxBursts());
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public Duration interval() {
+            // The next burst starts as soon as the compiler is idle
+            return awaitingIdle ? pacing.pollInterval() : Duration.ZERO;
+        }
+
+        private void runBurst() {
+            for (var i = 0; i < pacing.burstSize(); i++) {
+                runnable.run();
+            }
         }
     }
 }
@@ -0,0 +1,67 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import java.time.Duration;
+
+/**
+ * A series of calls that can be run step by step, e.g. by the {@link RepetitionScheduler}.
+ */
+public interface Repetition {
+
+    /**
+     * Runs the next call of this repetition.
+     *
+     * @return true if further calls are necessary
+     */
+    boolean invokeNext() throws InterruptedException;
+
+    /**
+     * @return how long to wait before the next call
+     */
+    Duration interval();
+
+    /**
+     * @return this repetition, running the callback once it needs no further calls
+     */
+    default Repetition whenDone(final Runnable callback) {
+        final var delegate = this;
+        return new Repetition() {
+            @Override
+            public boolean invokeNext() throws InterruptedException {
+                final var next = delegate.invokeNext();
+                if (!next) {
+                    callback.run();
+                }
+                return next;
+            }
+
+            @Override
+            public Duration interval() {
+                return delegate.interval();
+            }
+        };
+    }
+
+    static Repetition once(final Runnable runnable) {
+        return fixed(1, Duration.ZERO, runnable);
+    }
+
+    static Repetition fixed(final int times, final Duration interval, final Runnable runnable) {
+        return new Repetition() {
+            private int count = 0;
+
+            @Override
+            public boolean invokeNext() {
+                if (count >= times) {
+                    return false;
+                }
+                runnable.run();
+                return ++count < times;
+            }
+
+            @Override
+            public Duration interval() {
+                return interval;
+            }
+        };
+    }
+}
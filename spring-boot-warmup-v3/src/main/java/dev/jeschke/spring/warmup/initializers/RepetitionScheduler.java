@@ -0,0 +1,75 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import static dev.jeschke.spring.warmup.initializers.ParallelInvocation.daemonThreadFactory;
+import static dev.jeschke.spring.warmup.initializers.ParallelInvocation.rethrowCause;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RepetitionScheduler {
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    /**
+     * Runs all repetitions on a shared scheduler. Instead of waiting for each repetition to finish before starting the next,
+     * the calls of all repetitions are interleaved: while one repetition waits for its interval, the others continue. Calls of the
+     * same repetition still run one after another.
+     * <p>
+     * Should any call fail, all repetitions are cancelled and the failure is rethrown.
+     *
+     * @param threads how many calls may run at the same time
+     */
+    public void invokeAll(final int threads, final List<Repetition> repetitions) throws InterruptedException {
+        if (repetitions.isEmpty()) {
+            return;
+        }
+        final var executor = new ScheduledThreadPoolExecutor(
+                Math.max(1, Math.min(threads, repetitions.size())),
+                daemonThreadFactory("warmup-scheduler-", threadCount));
+        final var failure = new CompletableFuture<Void>();
+        try {
+            final var results = repetitions.stream()
+                    .map(repetition -> {
+                        final var step = new Step(executor, repetition, new CompletableFuture<>());
+                        executor.execute(step);
+                        return step.result().whenComplete((ignored, e) -> {
+                            if (e != null) {
+                                failure.completeExceptionally(e);
+                            }
+                        });
+                    })
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.anyOf(CompletableFuture.allOf(results), failure).get();
+        } catch (final ExecutionException e) {
+            rethrowCause(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private record Step(ScheduledExecutorService executor, Repetition repetition, CompletableFuture<Void> result)
+            implements Runnable {
+        @Override
+        public void run() {
+            try {
+                if (repetition.invokeNext()) {
+                    executor.schedule(this, repetition.interval().toMillis(), MILLISECONDS);
+                } else {
+                    result.complete(null);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.completeExceptionally(e);
+            } catch (final RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,524 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates request bodies for handlers annotated with {@link dev.jeschke.spring.warmup.ControllerWarmUp}.
+ * <p>
+ * Types with a public zero-parameter constructor are expected to initialize themselves. All other types are created with
+ * generated values, in this order: records, Jackson {@code @JsonCreator}s, static {@code builder()} methods and the public
+ * constructor with the most parameters. Generated values satisfy the Bean Validation constraints of the fields and
+ * parameters, as far as possible. Constraints are read by name, so Bean Validation does not have to be on the classpath.
+ */
+@Slf4j
+@Component
+public class RequestBodyGenerator {
+
+    private static final int MAX_DEPTH = 5;
+    private static final String CONSTRAINTS = "jakarta.validation.constraints.";
+    private static final String JSON_CREATOR = "com.fasterxml.jackson.annotation.JsonCreator";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final String EMAIL = "warmup@example.com";
+    private static final List<String> STRING_CANDIDATES = List.of("warmup", "abc", "a", "A", "1", EMAIL, "WARMUP");
+    private static final List<BigDecimal> NUMBER_CANDIDATES = Stream.of("1", "0", "-1", "10", "-10", "0.5", "-0.5")
+            .map(BigDecimal::new)
+            .toList();
+
+    /**
+     * @param type the type of the request body
+     * @return an instance of the type, or empty if it cannot be created
+     */
+    public Optional<Object> generate(final Class<?> type) {
+        return Optional.ofNullable(createObject(type, 0));
+    }
+
+    /**
+     * Unlike {@link #generate(Class)}, also creates values of JDK types like strings or generic collections. Failures are only
+     * logged at debug level, as the value is not meant as request body.
+     *
+     * @param type the type of the value, may be generic
+     * @return a value of the type, or empty if it cannot be created
+     */
+    public Optional<Object> generateValue(final Type type) {
+        return Optional.ofNullable(createValue(toClass(type), type, Constraints.NONE, 0));
+    }
+
+    private Object createObject(final Class<?> type, final int depth) {
+        if (depth > MAX_DEPTH || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            final var noArgsConstructor = findNoArgsConstructor(type);
+            if (noArgsConstructor.isPresent()) {
+                return noArgsConstructor.get().newInstance();
+            }
+            if (type.isRecord()) {
+                final var components = Stream.of(type.getRecordComponents())
+                        .map(component -> component.getType())
+                        .toArray(Class<?>[]::new);
+                return invoke(type.getDeclaredConstructor(components), type, depth);
+            }
+            final var creator = findCreator(type);
+            if (creator.isPresent()) {
+                return invoke(creator.get(), type, depth);
+            }
+            final var built = createWithBuilder(type, depth);
+            if (built.isPresent()) {
+                return built.get();
+            }
+            final var constructor = findLargestConstructor(type);
+            if (constructor.isPresent()) {
+                return invoke(constructor.get(), type, depth);
+            }
+            log.debug("Found no way to create {}", type);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            if (depth == 0) {
+                log.error("Failed to create a request body of type {}. Will call the endpoint without body.", type, e);
+            } else {
+                // A nested value, or a value for another initializer, which can do without it
+                log.debug("Failed to create a value of type {}", type, e);
+            }
+        }
+        return null;
+    }
+
+    private Optional<Constructor<?>> findNoArgsConstructor(final Class<?> type) {
+        return Stream.of(type.getConstructors())
+                .filter(constructor -> constructor.getParameterCount() == 0)
+                .findFirst();
+    }
+
+    private Optional<Executable> findCreator(final Class<?> type) {
+        return Stream.<Executable>concat(
+                        Stream.of(type.getConstructors()),
+                        Stream.of(type.getMethods())
+                                .filter(method -> Modifier.isStatic(method.getModifiers()))
+                                .filter(method -> type.isAssignableFrom(method.getReturnType())))
+                .filter(executable -> MergedAnnotations.from(executable).isPresent(JSON_CREATOR))
+                .findFirst();
+    }
+
+    private Optional<Constructor<?>> findLargestConstructor(final Class<?> type) {
+        return Stream.of(type.getConstructors())
+                .max((first, second) -> Integer.compare(first.getParameterCount(), second.getParameterCount()));
+    }
+
+    private Optional<Object> createWithBuilder(final Class<?> type, final int depth)
+            throws ReflectiveOperationException {
+        final Method builderMethod;
+        try {
+            builderMethod = type.getMethod("builder");
+        } catch (final NoSuchMethodException e) {
+            return Optional.empty();
+        }
+        if (!Modifier.isStatic(builderMethod.getModifiers())) {
+            return Optional.empty();
+        }
+        builderMethod.setAccessible(true);
+        final var builder = builderMethod.invoke(null);
+        final var builderType = builder.getClass();
+        for (final var field : getInstanceFields(type)) {
+            final var setter = Stream.of(builderType.getMethods())
+                    .filter(method -> method.getName().equals(field.getName()))
+                    .filter(method -> method.getParameterCount() == 1)
+                    .filter(method -> method.getParameterTypes()[0].isAssignableFrom(field.getType()))
+                    .findFirst();
+            if (setter.isPresent()) {
+                final var value =
+                        createValue(field.getType(), field.getGenericType(), new Constraints(List.of(field)), depth);
+                if (value != null) {
+                    setter.get().setAccessible(true);
+                    setter.get().invoke(builder, value);
+                }
+            }
+        }
+        final var build = builderType.getMethod("build");
+        build.setAccessible(true);
+        return Optional.ofNullable(build.invoke(builder)).filter(type::isInstance);
+    }
+
+    private Object invoke(final Executable executable, final Class<?> type, final int depth)
+            throws ReflectiveOperationException {
+        final var parameters = executable.getParameters();
+        final var fields = getInstanceFields(type);
+        final var values = new Object[parameters.length];
+        for (var index = 0; index < parameters.length; index++) {
+            final var parameter = parameters[index];
+            final var elements = new ArrayList<AnnotatedElement>();
+            elements.add(parameter);
+            findField(parameter, index, parameters.length, fields).ifPresent(elements::add);
+            values[index] = createValue(
+                    parameter.getType(), parameter.getParameterizedType(), new Constraints(elements), depth);
+        }
+        executable.setAccessible(true);
+        try {
+            return executable instanceof Constructor<?> constructor
+                    ? constructor.newInstance(values)
+                    : ((Method) executable).invoke(null, values);
+        } catch (final InvocationTargetException e) {
+            log.debug("Could not create {} with the generated values {}", type, values, e);
+            throw e;
+        }
+    }
+
+    /*
+     * Constraints are usually declared on fields. Finds the field a parameter is assigned to by the @JsonProperty, the
+     * parameter name if compiled with -parameters, or the position if there is one parameter per field.
+     */
+    private Optional<Field> findField(
+            final Parameter parameter, final int index, final int parameters, final List<Field> fields) {
+        final var name = MergedAnnotations.from(parameter)
+                .get(JSON_PROPERTY)
+                .getValue("value", String.class)
+                .filter(value -> !value.isEmpty())
+                .or(() -> parameter.isNamePresent() ? Optional.of(parameter.getName()) : Optional.empty());
+        if (name.isPresent()) {
+            return fields.stream()
+                    .filter(field -> field.getName().equals(name.get()))
+                    .findFirst();
+        }
+        if (parameters == fields.size() && fields.get(index).getType().equals(parameter.getType())) {
+            return Optional.of(fields.get(index));
+        }
+        return Optional.empty();
+    }
+
+    private List<Field> getInstanceFields(final Class<?> type) {
+        return Stream.of(type.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic())
+                .toList();
+    }
+
+    private Object createValue(
+            final Class<?> type, final Type genericType, final Constraints constraints, final int depth) {
+        // Object would match every container type below and recurse endlessly
+        if (depth > MAX_DEPTH || type == Object.class || constraints.has("Null")) {
+            return null;
+        }
+        if (type == String.class) {
+            return createString(constraints);
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return !constraints.has("AssertFalse");
+        }
+        if (type == char.class || type == Character.class) {
+            return 'a';
+        }
+        if (type.isPrimitive() || Number.class.isAssignableFrom(type)) {
+            return createNumber(type, constraints);
+        }
+        if (type.isEnum()) {
+            final var constants = type.getEnumConstants();
+            return constants.length == 0 ? null : constants[0];
+        }
+        if (type == UUID.class) {
+            return UUID.nameUUIDFromBytes(EMAIL.getBytes());
+        }
+        if (type == Duration.class) {
+            return Duration.ofSeconds(1);
+        }
+        if (type == URI.class) {
+            return URI.create("https://example.com");
+        }
+        final var temporal = createTemporal(type, constraints);
+        if (temporal != null) {
+            return temporal;
+        }
+        if (type == Optional.class) {
+            final var elementType = getTypeArgument(genericType, 0);
+            return Optional.ofNullable(createValue(toClass(elementType), elementType, Constraints.NONE, depth + 1));
+        }
+        if (type.isArray()) {
+            final var elements = createElements(type.getComponentType(), constraints, depth);
+            final var array = Array.newInstance(type.getComponentType(), elements.size());
+            for (var index = 0; index < elements.size(); index++) {
+                Array.set(array, index, elements.get(index));
+            }
+            return array;
+        }
+        if (type.isAssignableFrom(ArrayList.class)) {
+            return createElements(getTypeArgument(genericType, 0), constraints, depth);
+        }
+        if (type.isAssignableFrom(LinkedHashSet.class)) {
+            return new LinkedHashSet<>(createElements(getTypeArgument(genericType, 0), constraints, depth));
+        }
+        if (type.isAssignableFrom(LinkedHashMap.class)) {
+            return createMap(genericType, constraints, depth);
+        }
+        if (type.getName().startsWith("java.")) {
+            return null;
+        }
+        return createObject(type, depth + 1);
+    }
+
+    private String createString(final Constraints constraints) {
+        final var size = constraints.get("Size");
+        final var min = size.getValue("min", Integer.class).orElse(0);
+        final var max = size.getValue("max", Integer.class).orElse(Integer.MAX_VALUE);
+        final var pattern = constraints
+                .get("Pattern")
+                .getValue("regexp", String.class)
+                .map(Pattern::compile)
+                .map(Pattern::asMatchPredicate)
+                .orElse(value -> true);
+        final var candidates = new ArrayList<String>();
+        if (constraints.has("Email")) {
+            candidates.add(EMAIL);
+        }
+        candidates.addAll(STRING_CANDIDATES);
+        final var fitting = candidates.stream()
+                .map(candidate -> fitSize(candidate, min, max))
+                .toList();
+        return fitting.stream().filter(pattern).findFirst().orElse(fitting.get(0));
+    }
+
+    private String fitSize(final String value, final int min, final int max) {
+        final var padded = value.length() < min ? value + "a".repeat(min - value.length()) : value;
+        return padded.length() > max ? padded.substring(0, max) : padded;
+    }
+
+    private Object createNumber(final Class<?> type, final Constraints constraints) {
+        final var integral = type != double.class
+                && type != Double.class
+                && type != float.class
+                && type != Float.class
+                && type != BigDecimal.class;
+        final var conditions = new ArrayList<Predicate<BigDecimal>>();
+        final var candidates = new ArrayList<>(NUMBER_CANDIDATES);
+        constraints
+                .get("Min")
+                .getValue("value", Long.class)
+                .map(BigDecimal::valueOf)
+                .ifPresent(min -> {
+                    conditions.add(value -> value.compareTo(min) >= 0);
+                    candidates.add(min);
+                });
+        constraints
+                .get("Max")
+                .getValue("value", Long.class)
+                .map(BigDecimal::valueOf)
+                .ifPresent(max -> {
+                    conditions.add(value -> value.compareTo(max) <= 0);
+                    candidates.add(max);
+                });
+        addDecimalBound(constraints.get("DecimalMin"), 1, conditions, candidates);
+        addDecimalBound(constraints.get("DecimalMax"), -1, conditions, candidates);
+        if (constraints.has("Positive")) {
+            conditions.add(value -> value.signum() > 0);
+        }
+        if (constraints.has("PositiveOrZero")) {
+            conditions.add(value -> value.signum() >= 0);
+        }
+        if (constraints.has("Negative")) {
+            conditions.add(value -> value.signum() < 0);
+        }
+        if (constraints.has("NegativeOrZero")) {
+            conditions.add(value -> value.signum() <= 0);
+        }
+        final var digits = constraints.get("Digits");
+        if (digits.isPresent()) {
+            final var integer = digits.getInt("integer");
+            final var fraction = digits.getInt("fraction");
+            conditions.add(
+                    value -> value.precision() - value.scale() <= integer && Math.max(value.scale(), 0) <= fraction);
+        }
+        if (integral) {
+            conditions.add(value -> value.stripTrailingZeros().scale() <= 0);
+        }
+        final var number = candidates.stream()
+                .filter(candidate -> conditions.stream().allMatch(condition -> condition.test(candidate)))
+                .findFirst()
+                .orElse(BigDecimal.ONE);
+        return convert(number, type);
+    }
+
+    private void addDecimalBound(
+            final MergedAnnotation<?> bound,
+            final int direction,
+            final List<Predicate<BigDecimal>> conditions,
+            final List<BigDecimal> candidates) {
+        if (!bound.isPresent()) {
+            return;
+        }
+        final var limit = new BigDecimal(bound.getString("value"));
+        final var inclusive = bound.getBoolean("inclusive");
+        conditions.add(value -> {
+            final var comparison = value.compareTo(limit) * direction;
+            return inclusive ? comparison >= 0 : comparison > 0;
+        });
+        candidates.add(limit);
+        candidates.add(limit.add(BigDecimal.ONE.multiply(BigDecimal.valueOf(direction))));
+        candidates.add(limit.add(new BigDecimal("0.5").multiply(BigDecimal.valueOf(direction))));
+    }
+
+    private Object convert(final BigDecimal number, final Class<?> type) {
+        if (type == int.class || type == Integer.class) {
+            return number.intValue();
+        }
+        if (type == long.class || type == Long.class) {
+            return number.longValue();
+        }
+        if (type == short.class || type == Short.class) {
+            return number.shortValue();
+        }
+        if (type == byte.class || type == Byte.class) {
+            return number.byteValue();
+        }
+        if (type == double.class || type == Double.class) {
+            return number.doubleValue();
+        }
+        if (type == float.class || type == Float.class) {
+            return number.floatValue();
+        }
+        if (type == BigInteger.class) {
+            return number.toBigInteger();
+        }
+        if (type == BigDecimal.class) {
+            return number;
+        }
+        return null;
+    }
+
+    private Object createTemporal(final Class<?> type, final Constraints constraints) {
+        var instant = Instant.now();
+        if (constraints.has("Past") || constraints.has("PastOrPresent")) {
+            instant = instant.minus(Duration.ofDays(1));
+        } else if (constraints.has("Future") || constraints.has("FutureOrPresent")) {
+            instant = instant.plus(Duration.ofDays(1));
+        }
+        if (type == Instant.class) {
+            return instant;
+        }
+        if (type == OffsetDateTime.class) {
+            return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+        }
+        if (type == ZonedDateTime.class) {
+            return ZonedDateTime.ofInstant(instant, ZoneOffset.UTC);
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.ofInstant(instant, ZoneOffset.UTC);
+        }
+        if (type == LocalTime.class) {
+            return LocalTime.NOON;
+        }
+        if (type == Date.class) {
+            return Date.from(instant);
+        }
+        return null;
+    }
+
+    private List<Object> createElements(final Type elementType, final Constraints constraints, final int depth) {
+        final var count = getElementCount(constraints);
+        final var elementClass = toClass(elementType);
+        final var elements = new ArrayList<>();
+        for (var index = 0; index < count; index++) {
+            final var element = createValue(elementClass, elementType, Constraints.NONE, depth + 1);
+            if (element == null) {
+                return new ArrayList<>();
+            }
+            elements.add(element);
+        }
+        return elements;
+    }
+
+    private Map<Object, Object> createMap(final Type genericType, final Constraints constraints, final int depth) {
+        final var keyType = getTypeArgument(genericType, 0);
+        final var valueType = getTypeArgument(genericType, 1);
+        final var map = new LinkedHashMap<>();
+        for (var index = 0; index < getElementCount(constraints); index++) {
+            final var key = toClass(keyType) == String.class
+                    ? "key" + index
+                    : createValue(toClass(keyType), keyType, Constraints.NONE, depth + 1);
+            final var value = createValue(toClass(valueType), valueType, Constraints.NONE, depth + 1);
+            if (key == null || value == null) {
+                return new LinkedHashMap<>();
+            }
+            map.put(key, value);
+        }
+        return map;
+    }
+
+    private int getElementCount(final Constraints constraints) {
+        final var size = constraints.get("Size");
+        final var min = size.getValue("min", Integer.class).orElse(0);
+        final var max = size.getValue("max", Integer.class).orElse(Integer.MAX_VALUE);
+        return Math.min(Math.max(1, min), max);
+    }
+
+    private Type getTypeArgument(final Type genericType, final int index) {
+        if (genericType instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments().length > index) {
+            return parameterized.getActualTypeArguments()[index];
+        }
+        return Object.class;
+    }
+
+    private Class<?> toClass(final Type type) {
+        if (type instanceof Class<?> clazz) {
+            return clazz;
+        }
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() instanceof Class<?> raw) {
+            return raw;
+        }
+        return Object.class;
+    }
+
+    /**
+     * The Bean Validation constraints of a value, collected from all elements it is declared on.
+     */
+    private record Constraints(List<? extends AnnotatedElement> elements) {
+
+        static final Constraints NONE = new Constraints(List.of());
+
+        boolean has(final String constraint) {
+            return get(constraint).isPresent();
+        }
+
+        MergedAnnotation<?> get(final String constraint) {
+            return elements.stream()
+                    .map(element -> MergedAnnotations.from(element).get(CONSTRAINTS + constraint))
+                    .filter(MergedAnnotation::isPresent)
+                    .findFirst()
+                    .orElse(MergedAnnotation.missing());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNullElse;
+import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM_VALUE;
+
+import dev.jeschke.spring.warmup.Endpoint;
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import dev.jeschke.spring.warmup.listener.WarmUpCall;
+import dev.jeschke.spring.warmup.listener.WarmUpListeners;
+import dev.jeschke.spring.warmup.recording.RecordedRequest;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrafficReplayInitializer implements WarmUpInitializer {
+
+    private static final String NAME = TrafficReplayInitializer.class.getSimpleName();
+
+    private final HttpClient httpClient;
+    private final RepetitionScheduler repetitionScheduler;
+    private final WarmUpListeners listeners;
+
+    @Override
+    public void warmUp(final WarmUpSettings configuration) {
+        final var file = configuration.trafficReplayFile();
+        if (file == null) {
+            return;
+        }
+        if (!Files.isRegularFile(file)) {
+            log.info("No recorded traffic found at {}. Will not replay anything", file);
+            return;
+        }
+        final var endpoints = readEndpoints(file);
+        final var failures = new AtomicInteger();
+        final var repetitions = endpoints.stream()
+                .map(endpoint -> Repetition.once(() -> replay(endpoint, configuration, failures))
+                        .whenDone(() -> listeners.endpointFinished(NAME, endpoint)))
+                .toList();
+        listeners.endpointsScheduled(NAME, repetitions.size());
+        try {
+            repetitionScheduler.invokeAll(configuration.parallelism(), repetitions);
+            log.info("Replayed {} recorded requests, {} of them failed", endpoints.size(), failures.get());
+        } catch (final InterruptedException e) {
+            log.warn("Was interrupted. Will stop replaying traffic", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<Endpoint> readEndpoints(final Path file) {
+        final var endpoints = new ArrayList<Endpoint>();
+        try (final var lines = Files.lines(file, UTF_8)) {
+            lines.forEach(line -> RecordedRequest.parse(line)
+                    .map(this::toEndpoint)
+                    .ifPresentOrElse(endpoints::add, () -> log.debug("Skipping unusable recorded request {}", line)));
+        } catch (final IOException | UncheckedIOException e) {
+            log.warn("Failed to read recorded traffic {}. Will replay what was read so far", file, e);
+        }
+        return endpoints;
+    }
+
+    private Endpoint toEndpoint(final RecordedRequest request) {
+        // Kept as sent by the client. Decoding would turn e.g. an encoded & in a query value into a separator
+        final var uri = request.query().isEmpty() ? request.path() : request.path() + "?" + request.query();
+        final var body = request.body().length == 0 ? null : request.body();
+        final var contentType = requireNonNullElse(request.contentType(), APPLICATION_OCTET_STREAM_VALUE);
+        return new Endpoint(request.method(), uri, body, contentType, 0, request.headers());
+    }
+
+    private void replay(final Endpoint endpoint, final WarmUpSettings configuration, final AtomicInteger failures) {
+        try {
+            httpClient.callEndpoint(new WarmUpCall(NAME, endpoint, 0), configuration);
+        } catch (final RestClientException e) {
+            // Recorded requests may no longer be valid, e.g. because they reference deleted data
+            log.debug("Replaying {} {} failed", endpoint.method(), endpoint.path(), e);
+            failures.incrementAndGet();
+        }
+    }
+}
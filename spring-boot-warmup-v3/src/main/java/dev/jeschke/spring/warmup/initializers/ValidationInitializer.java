@@ -0,0 +1,137 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import jakarta.validation.Validator;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.validation.annotation.ValidationAnnotationUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Builds the Bean Validation metadata of all types validated by handler methods and of all {@link Validated} beans, so the
+ * first request does not have to. Every constrained type is also validated once with a generated instance, because providers
+ * like Hibernate Validator initialize constraint validators, e.g. compile {@code @Pattern} expressions, on first use. Runs before
+ * the initializers calling endpoints, so their first calls already find the validation warm.
+ */
+@Slf4j
+@Component
+@ConditionalOnClass(name = "jakarta.validation.Validator")
+@Order(Ordered.HIGHEST_PRECEDENCE + 4)
+@RequiredArgsConstructor
+public class ValidationInitializer implements WarmUpInitializer {
+
+    private final ApplicationContext applicationContext;
+    private final ObjectProvider<Validator> validator;
+    private final RequestBodyGenerator requestBodyGenerator;
+
+    @Override
+    public void warmUp(final WarmUpSettings configuration) {
+        if (!configuration.enableValidationWarmUp()) {
+            return;
+        }
+        final Validator beanValidator;
+        try {
+            beanValidator = validator.getIfAvailable();
+        } catch (final RuntimeException e) {
+            log.debug("Found no unique Validator. Will not warm up the validation", e);
+            return;
+        }
+        if (beanValidator == null) {
+            return;
+        }
+        final var types = new LinkedHashSet<Class<?>>();
+        collectHandlerMethodTypes(types);
+        try {
+            final var constrained =
+                    types.stream().filter(type -> warmUp(beanValidator, type)).count();
+            // Beans are not instantiated again, so only their metadata is built
+            final var beanTypes = getValidatedBeanTypes();
+            beanTypes.forEach(beanValidator::getConstraintsForClass);
+            log.info("Warmed up the validation of {} types and {} @Validated beans", constrained, beanTypes.size());
+        } catch (final IllegalStateException e) {
+            // Spring's validator adapter throws, if no Bean Validation provider is on the classpath
+            log.debug("Validator is not available. Will not warm up the validation", e);
+        }
+    }
+
+    private void collectHandlerMethodTypes(final Set<Class<?>> types) {
+        applicationContext.getBeansOfType(RequestMappingHandlerMapping.class).values().stream()
+                .map(RequestMappingHandlerMapping::getHandlerMethods)
+                .map(Map::values)
+                .flatMap(Collection::stream)
+                .flatMap(handlerMethod -> Stream.of(handlerMethod.getMethodParameters()))
+                .filter(this::isValidated)
+                .map(ResolvableType::forMethodParameter)
+                .forEach(type -> collectTypes(type, types));
+    }
+
+    private boolean isValidated(final MethodParameter parameter) {
+        for (final var annotation : parameter.getParameterAnnotations()) {
+            if (ValidationAnnotationUtils.determineValidationHints(annotation) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * The metadata of @Validated beans includes the constraints of their methods, used by the method validation
+     */
+    private Set<Class<?>> getValidatedBeanTypes() {
+        final var types = new LinkedHashSet<Class<?>>();
+        for (final var name : applicationContext.getBeanNamesForAnnotation(Validated.class)) {
+            final var type = applicationContext.getType(name, false);
+            if (type != null) {
+                types.add(ClassUtils.getUserClass(type));
+            }
+        }
+        return types;
+    }
+
+    /*
+     * Also collects the element types of collections and other generic types, e.g. of List<@Valid Item>
+     */
+    private void collectTypes(final ResolvableType type, final Set<Class<?>> types) {
+        final var rawType = type.resolve();
+        if (rawType == null) {
+            return;
+        }
+        if (rawType.isArray()) {
+            collectTypes(type.getComponentType(), types);
+        } else if (!rawType.isPrimitive() && !rawType.getName().startsWith("java.")) {
+            types.add(rawType);
+        }
+        for (final var generic : type.getGenerics()) {
+            collectTypes(generic, types);
+        }
+    }
+
+    /**
+     * @return true if the type has constraints
+     */
+    private boolean warmUp(final Validator beanValidator, final Class<?> type) {
+        if (!beanValidator.getConstraintsForClass(type).isBeanConstrained()) {
+            return false;
+        }
+        requestBodyGenerator.generateValue(type).ifPresent(instance -> {
+            final var violations = beanValidator.validate(instance);
+            log.debug("Validated a generated {} with {} violations", type, violations.size());
+        });
+        return true;
+    }
+}
@@ -0,0 +1,51 @@
+package dev.jeschke.spring.warmup.jfr;
+
+import dev.jeschke.spring.warmup.listener.WarmUpCall;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(WarmUpCallEvent.NAME)
+@Label("WarmUp Call")
+@Category({"Spring Boot", "WarmUp"})
+@Description("A single call made during the WarmUp")
+public final class WarmUpCallEvent extends Event {
+
+    public static final String NAME = "dev.jeschke.spring.warmup.WarmUpCall";
+
+    @Label("Initializer")
+    private final String initializer;
+
+    @Label("Method")
+    private final String method;
+
+    @Label("Path")
+    private final String path;
+
+    @Label("Repetition")
+    @Description("How often the endpoint was called before by the same repetition")
+    private final int repetition;
+
+    @Label("Success")
+    private boolean success;
+
+    @Label("Allocated")
+    @Description("Bytes allocated by the calling thread during the call; -1 if unknown")
+    @DataAmount
+    private long allocatedBytes = -1;
+
+    public WarmUpCallEvent(final WarmUpCall call) {
+        this.initializer = call.initializer();
+        this.method = call.endpoint().method();
+        this.path = call.endpoint().path();
+        this.repetition = call.repetition();
+    }
+
+    public void setResult(final boolean success, final long allocatedBytes) {
+        this.success = success;
+        this.allocatedBytes = allocatedBytes;
+    }
+}
@@ -0,0 +1,28 @@
+package dev.jeschke.spring.warmup.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(WarmUpControllerReloadEvent.NAME)
+@Label("WarmUp Controller Reload")
+@Category({"Spring Boot", "WarmUp"})
+@Description("Registering or removing the request mapping of the automatic endpoint")
+public final class WarmUpControllerReloadEvent extends Event {
+
+    public static final String NAME = "dev.jeschke.spring.warmup.WarmUpControllerReload";
+
+    @Label("Handler Mapping")
+    private final String handlerMapping;
+
+    @Label("Mappings")
+    @Description("The number of changed request mappings")
+    private final int mappings;
+
+    public WarmUpControllerReloadEvent(final String handlerMapping, final int mappings) {
+        this.handlerMapping = handlerMapping;
+        this.mappings = mappings;
+    }
+}
@@ -0,0 +1,29 @@
+package dev.jeschke.spring.warmup.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(WarmUpPhaseEvent.NAME)
+@Label("WarmUp Phase")
+@Category({"Spring Boot", "WarmUp"})
+@Description("The whole WarmUp or a single initializer")
+public final class WarmUpPhaseEvent extends Event {
+
+    public static final String NAME = "dev.jeschke.spring.warmup.WarmUpPhase";
+
+    /**
+     * The phase of the whole WarmUp, as opposed to the name of an initializer.
+     */
+    public static final String WARM_UP = "WarmUp";
+
+    @Label("Phase")
+    @Description("WarmUp for the whole WarmUp, otherwise the name of the initializer")
+    private final String phase;
+
+    public WarmUpPhaseEvent(final String phase) {
+        this.phase = phase;
+    }
+}
@@ -0,0 +1,131 @@
+package dev.jeschke.spring.warmup.listener;
+
+import dev.jeschke.spring.warmup.Endpoint;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Records the WarmUp with Micrometer, if a {@link MeterRegistry} is available:
+ * <ul>
+ *     <li>{@value #CALL_TIMER}: a timer per call, tagged with method, path, initializer and outcome. The path is the
+ *     pattern of the matching request mapping, like {@code /orders/{id}}, or {@value #UNKNOWN_PATH} if none matches</li>
+ *     <li>{@value #ENDPOINTS_GAUGE} and {@value #REMAINING_GAUGE}: how many endpoints are scheduled and not done yet</li>
+ *     <li>{@value #PROGRESS_GAUGE}: the ratio of done endpoints, from 0 to 1</li>
+ *     <li>{@value #DURATION_TIMER}: the duration of the whole WarmUp</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+public class MicrometerWarmUpListener implements WarmUpListener {
+
+    public static final String CALL_TIMER = "warmup.call";
+    public static final String ENDPOINTS_GAUGE = "warmup.endpoints";
+    public static final String REMAINING_GAUGE = "warmup.endpoints.remaining";
+    public static final String PROGRESS_GAUGE = "warmup.progress";
+    public static final String DURATION_TIMER = "warmup.duration";
+    public static final String UNKNOWN_PATH = "UNKNOWN";
+
+    private final ObjectProvider<MeterRegistry> registry;
+    private final ObjectProvider<RequestMappingInfoHandlerMapping> handlerMappings;
+    // Keeps the number of time series bounded, even for replayed traffic with many distinct paths
+    private final Map<String, String> pathPatterns = new ConcurrentHashMap<>();
+
+    // Gauges only hold weak references, so keep the state here
+    private final AtomicInteger scheduled = new AtomicInteger();
+    private final AtomicInteger finished = new AtomicInteger();
+    private final AtomicBoolean done = new AtomicBoolean();
+
+    public MicrometerWarmUpListener(
+            final ObjectProvider<MeterRegistry> registry,
+            final ObjectProvider<RequestMappingInfoHandlerMapping> handlerMappings) {
+        this.registry = registry;
+        this.handlerMappings = handlerMappings;
+    }
+
+    @Override
+    public void warmUpStarted() {
+        registry.ifAvailable(meterRegistry -> {
+            Gauge.builder(ENDPOINTS_GAUGE, scheduled, AtomicInteger::get)
+                    .description("Endpoints scheduled for the WarmUp")
+                    .register(meterRegistry);
+            Gauge.builder(REMAINING_GAUGE, this, listener -> listener.scheduled.get() - listener.finished.get())
+                    .description("Endpoints the WarmUp did not finish yet")
+                    .register(meterRegistry);
+            Gauge.builder(PROGRESS_GAUGE, this, MicrometerWarmUpListener::progress)
+                    .description("Ratio of endpoints the WarmUp finished")
+                    .register(meterRegistry);
+        });
+    }
+
+    @Override
+    public void endpointsScheduled(final String initializer, final int endpoints) {
+        scheduled.addAndGet(endpoints);
+    }
+
+    @Override
+    public void callFinished(final WarmUpCall call, final WarmUpCallResult result) {
+        registry.ifAvailable(meterRegistry -> Timer.builder(CALL_TIMER)
+                .description("Duration of a single WarmUp call")
+                .tag("method", call.endpoint().method())
+                .tag("path", toPathPattern(call.endpoint().path()))
+                .tag("initializer", call.initializer())
+                .tag("outcome", result.isSuccess() ? "success" : "failure")
+                .register(meterRegistry)
+                .record(result.duration()));
+    }
+
+    @Override
+    public void endpointFinished(final String initializer, final Endpoint endpoint) {
+        finished.incrementAndGet();
+    }
+
+    @Override
+    public void warmUpFinished(final Duration duration) {
+        done.set(true);
+        registry.ifAvailable(meterRegistry -> Timer.builder(DURATION_TIMER)
+                .description("Duration of the whole WarmUp")
+                .register(meterRegistry)
+                .record(duration));
+    }
+
+    private String toPathPattern(final String path) {
+        final var queryStart = path.indexOf('?');
+        final var pathWithoutQuery = queryStart < 0 ? path : path.substring(0, queryStart);
+        return pathPatterns.computeIfAbsent(pathWithoutQuery, this::findPathPattern);
+    }
+
+    private String findPathPattern(final String path) {
+        final var pathContainer = PathContainer.parsePath(path);
+        return handlerMappings
+                .orderedStream()
+                .flatMap(handlerMapping -> handlerMapping.getHandlerMethods().keySet().stream())
+                .flatMap(mappingInfo -> mappingInfo.getPatternValues().stream())
+                .map(PathPatternParser.defaultInstance::parse)
+                .filter(pattern -> pattern.matches(pathContainer))
+                .min(PathPattern.SPECIFICITY_COMPARATOR)
+                .map(PathPattern::getPatternString)
+                .orElse(UNKNOWN_PATH);
+    }
+
+    private double progress() {
+        final var total = scheduled.get();
+        if (done.get()) {
+            // Also covers a WarmUp that was cancelled or had nothing to do
+            return 1;
+        }
+        return total == 0 ? 0 : (double) finished.get() / total;
+    }
+}
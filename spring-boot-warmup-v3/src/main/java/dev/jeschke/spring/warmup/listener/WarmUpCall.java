@@ -0,0 +1,23 @@
+package dev.jeschke.spring.warmup.listener;
+
+import dev.jeschke.spring.warmup.Endpoint;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A single call made during the WarmUp.
+ *
+ * @param initializer the name of the initializer making the call, e.g. {@code HttpInitializer}
+ * @param endpoint    the called endpoint
+ * @param repetition  how often the endpoint was called before by the same repetition, starting at 0
+ */
+public record WarmUpCall(String initializer, Endpoint endpoint, int repetition) {
+
+    /**
+     * @return a supplier of calls with a repetition index counting up from 0, for the calls of one repetition
+     */
+    public static Supplier<WarmUpCall> sequence(final String initializer, final Endpoint endpoint) {
+        final var count = new AtomicInteger();
+        return () -> new WarmUpCall(initializer, endpoint, count.getAndIncrement());
+    }
+}
@@ -0,0 +1,18 @@
+package dev.jeschke.spring.warmup.listener;
+
+import java.time.Duration;
+
+/**
+ * The result of a single call made during the WarmUp.
+ *
+ * @param duration       how long the call took
+ * @param allocatedBytes the bytes allocated by the calling thread during the call; -1 if the JVM does not report allocations.
+ *                       With the in-process dispatch, this includes handling the request
+ * @param failure        the exception thrown by the call; null if it succeeded
+ */
+public record WarmUpCallResult(Duration duration, long allocatedBytes, Throwable failure) {
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,50 @@
+package dev.jeschke.spring.warmup.listener;
+
+import dev.jeschke.spring.warmup.Endpoint;
+import java.time.Duration;
+
+/**
+ * Gets notified about the progress of the WarmUp. Register an implementation as bean to observe the WarmUp, e.g. to record
+ * metrics. All methods have an empty default implementation.
+ * <p>
+ * Calls may run concurrently, so implementations need to be thread-safe. Exceptions thrown by a listener are logged and
+ * do not affect the WarmUp.
+ */
+public interface WarmUpListener {
+
+    /**
+     * Called once before the first initializer runs.
+     */
+    default void warmUpStarted() {}
+
+    /**
+     * Called when an initializer has decided which endpoints it is going to call.
+     *
+     * @param initializer the name of the initializer
+     * @param endpoints   how many endpoints it is going to call
+     */
+    default void endpointsScheduled(final String initializer, final int endpoints) {}
+
+    /**
+     * Called after each call, whether it succeeded or not.
+     *
+     * @param call   the finished call
+     * @param result the duration, allocations and failure of the call
+     */
+    default void callFinished(final WarmUpCall call, final WarmUpCallResult result) {}
+
+    /**
+     * Called when all repetitions of an endpoint are done.
+     *
+     * @param initializer the name of the initializer
+     * @param endpoint    the endpoint
+     */
+    default void endpointFinished(final String initializer, final Endpoint endpoint) {}
+
+    /**
+     * Called once after the last initializer ran, also if the WarmUp failed or was cancelled.
+     *
+     * @param duration how long the whole WarmUp took
+     */
+    default void warmUpFinished(final Duration duration) {}
+}
@@ -0,0 +1,50 @@
+package dev.jeschke.spring.warmup.listener;
+
+import dev.jeschke.spring.warmup.Endpoint;
+import java.time.Duration;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Notifies all {@link WarmUpListener} beans.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WarmUpListeners {
+
+    private final ObjectProvider<WarmUpListener> listeners;
+
+    public void warmUpStarted() {
+        notifyAll(WarmUpListener::warmUpStarted);
+    }
+
+    public void endpointsScheduled(final String initializer, final int endpoints) {
+        notifyAll(listener -> listener.endpointsScheduled(initializer, endpoints));
+    }
+
+    public void callFinished(final WarmUpCall call, final WarmUpCallResult result) {
+        notifyAll(listener -> listener.callFinished(call, result));
+    }
+
+    public void endpointFinished(final String initializer, final Endpoint endpoint) {
+        notifyAll(listener -> listener.endpointFinished(initializer, endpoint));
+    }
+
+    public void warmUpFinished(final Duration duration) {
+        notifyAll(listener -> listener.warmUpFinished(duration));
+    }
+
+    private void notifyAll(final Consumer<WarmUpListener> notification) {
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                notification.accept(listener);
+            } catch (final RuntimeException e) {
+                log.warn("WarmUp listener {} failed", listener, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,167 @@
+package dev.jeschke.spring.warmup.recording;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import dev.jeschke.spring.warmup.ClassPreloading;
+import dev.jeschke.spring.warmup.listener.WarmUpListener;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the classes loaded during the WarmUp and for the configured duration afterwards, if enabled with
+ * {@link dev.jeschke.spring.warmup.WarmUpBuilder#enableClassPreloading(ClassPreloading)}. The classes are taken from the
+ * {@code jdk.ClassLoad} events of a Java Flight Recorder stream and written to the class list file in the order they were
+ * loaded, after the classes preloaded from the previous class list.
+ */
+@Slf4j
+@Component
+public class ClassListRecorder implements WarmUpListener, Closeable {
+
+    static final String CLASS_LOAD_EVENT = "jdk.ClassLoad";
+
+    /**
+     * Events are delivered once per flush, which happens about every second.
+     */
+    private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+    // Guarded by this
+    private final Set<String> classNames = new LinkedHashSet<>();
+    private ClassPreloading preloading;
+    private RecordingStream stream;
+    private ScheduledExecutorService executor;
+
+    private volatile CountDownLatch flushes;
+
+    /**
+     * Starts recording the loaded classes, unless already recording.
+     *
+     * @param preloading       where to write the recorded classes
+     * @param preloadedClasses classes that were already loaded from the previous class list. They are written first, in the
+     *                         given order, as they are not loaded again while recording
+     */
+    public synchronized void start(final ClassPreloading preloading, final List<String> preloadedClasses) {
+        if (stream != null) {
+            return;
+        }
+        try {
+            final var recordingStream = new RecordingStream();
+            recordingStream.enable(CLASS_LOAD_EVENT).withoutThreshold().withoutStackTrace();
+            recordingStream.onEvent(CLASS_LOAD_EVENT, event -> add(event.getClass("loadedClass")));
+            recordingStream.onFlush(() -> {
+                final var latch = flushes;
+                if (latch != null) {
+                    latch.countDown();
+                }
+            });
+            classNames.addAll(preloadedClasses);
+            recordingStream.startAsync();
+            this.preloading = preloading;
+            this.stream = recordingStream;
+        } catch (final RuntimeException e) {
+            log.warn("Failed to start recording the loaded classes. Will not record a class list", e);
+        }
+    }
+
+    @Override
+    public synchronized void warmUpFinished(final Duration duration) {
+        if (stream == null || executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "warmup-class-list");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.schedule(this::stop, preloading.recordingDuration().toMillis(), MILLISECONDS);
+    }
+
+    /**
+     * Stops the recording early and writes what was recorded so far, e.g. when the application shuts down.
+     */
+    @Override
+    public void close() {
+        stop();
+        synchronized (this) {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    void stop() {
+        final RecordingStream recordingStream;
+        synchronized (this) {
+            if (stream == null) {
+                return;
+            }
+            recordingStream = stream;
+            stream = null;
+        }
+        awaitFlushes();
+        recordingStream.close();
+        final List<String> names;
+        final ClassPreloading target;
+        synchronized (this) {
+            names = List.copyOf(classNames);
+            target = preloading;
+        }
+        write(target, names);
+    }
+
+    /*
+     * A flush that already started may not contain the latest events, so wait for the one after it
+     */
+    private void awaitFlushes() {
+        final var latch = new CountDownLatch(2);
+        flushes = latch;
+        try {
+            if (!latch.await(FLUSH_TIMEOUT.toMillis(), MILLISECONDS)) {
+                log.debug("Recording was not flushed in time. The class list may miss the last loaded classes");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void add(final RecordedClass loadedClass) {
+        if (loadedClass == null) {
+            return;
+        }
+        final var name = loadedClass.getName();
+        // Hidden classes, like lambdas, and arrays can't be loaded by name. JFR loads its own classes anyway
+        if (isHidden(loadedClass) || name.startsWith("[") || name.startsWith("jdk.jfr.")) {
+            return;
+        }
+        classNames.add(name);
+    }
+
+    private static boolean isHidden(final RecordedClass loadedClass) {
+        return loadedClass.hasField("hidden") && loadedClass.getBoolean("hidden");
+    }
+
+    private void write(final ClassPreloading target, final List<String> names) {
+        try {
+            final var parent = target.file().toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(target.file(), names, UTF_8);
+            log.info("Recorded {} loaded classes to {}", names.size(), target.file());
+        } catch (final IOException e) {
+            log.warn("Failed to write the class list {}", target.file(), e);
+        }
+    }
+}
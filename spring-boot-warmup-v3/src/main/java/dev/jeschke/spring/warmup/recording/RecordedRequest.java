@@ -0,0 +1,85 @@
+package dev.jeschke.spring.warmup.recording;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A single request recorded by the {@link TrafficRecordingFilter}.
+ * <p>
+ * Requests are stored as one line each. The fields are separated by tabs; all fields but the method are Base64 encoded, so the
+ * line never contains tabs or line breaks itself.
+ *
+ * @param method      the HTTP method
+ * @param path        the request path as sent by the client, i.e. still URL encoded
+ * @param query       the query string as sent by the client; empty if the request had none
+ * @param headers     the recorded headers
+ * @param contentType the content type of the body; null if the request had none
+ * @param body        the request body; empty if the request had none
+ */
+public record RecordedRequest(
+        String method, String path, String query, Map<String, String> headers, String contentType, byte[] body) {
+
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final String HEADER_SEPARATOR = "\n";
+    private static final String HEADER_VALUE_SEPARATOR = ":";
+    private static final int FIELD_COUNT = 6;
+
+    public String toLine() {
+        final var encodedHeaders = new StringBuilder();
+        headers.forEach((name, value) -> encodedHeaders
+                .append(name)
+                .append(HEADER_VALUE_SEPARATOR)
+                .append(value)
+                .append(HEADER_SEPARATOR));
+        return String.join(
+                FIELD_SEPARATOR,
+                method,
+                encode(path.getBytes(UTF_8)),
+                encode(query.getBytes(UTF_8)),
+                encode(encodedHeaders.toString().getBytes(UTF_8)),
+                encode(contentType == null ? new byte[0] : contentType.getBytes(UTF_8)),
+                encode(body));
+    }
+
+    /**
+     * @param line a line created by {@link #toLine()}
+     * @return the parsed request; empty if the line is malformed
+     */
+    public static Optional<RecordedRequest> parse(final String line) {
+        final var fields = line.split(FIELD_SEPARATOR, -1);
+        if (fields.length != FIELD_COUNT || fields[0].isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            final var headers = new LinkedHashMap<String, String>();
+            for (final var header : decodeString(fields[3]).split(HEADER_SEPARATOR)) {
+                final var separator = header.indexOf(HEADER_VALUE_SEPARATOR);
+                if (separator > 0) {
+                    headers.put(header.substring(0, separator), header.substring(separator + 1));
+                }
+            }
+            final var contentType = decodeString(fields[4]);
+            return Optional.of(new RecordedRequest(
+                    fields[0],
+                    decodeString(fields[1]),
+                    decodeString(fields[2]),
+                    headers,
+                    contentType.isEmpty() ? null : contentType,
+                    Base64.getDecoder().decode(fields[5])));
+        } catch (final IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String encode(final byte[] value) {
+        return Base64.getEncoder().encodeToString(value);
+    }
+
+    private static String decodeString(final String value) {
+        return new String(Base64.getDecoder().decode(value), UTF_8);
+    }
+}
@@ -0,0 +1,71 @@
+package dev.jeschke.spring.warmup.recording;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import dev.jeschke.spring.warmup.TrafficRecording;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Appends recorded requests to the recording file, until it reaches its maximum size.
+ */
+@Slf4j
+@Component
+public class TrafficRecorder implements Closeable {
+
+    private FileChannel channel;
+    private boolean stopped = false;
+
+    public synchronized void record(final TrafficRecording recording, final RecordedRequest request) {
+        if (stopped) {
+            return;
+        }
+        final var line = (request.toLine() + "\n").getBytes(UTF_8);
+        try {
+            if (channel == null) {
+                final var parent = recording.file().toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                channel = FileChannel.open(recording.file(), CREATE, WRITE, APPEND);
+            }
+            if (channel.size() + line.length > recording.maxFileSize()) {
+                log.info("Traffic recording {} reached its maximum size. Will stop recording", recording.file());
+                stop();
+                return;
+            }
+            final var buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (final IOException e) {
+            log.warn("Failed to write traffic recording {}. Will stop recording", recording.file(), e);
+            stop();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        stop();
+    }
+
+    private void stop() {
+        stopped = true;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (final IOException e) {
+                log.warn("Failed to close traffic recording", e);
+            }
+            channel = null;
+        }
+    }
+}
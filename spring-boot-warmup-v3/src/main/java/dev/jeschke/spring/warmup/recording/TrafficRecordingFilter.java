@@ -0,0 +1,135 @@
+package dev.jeschke.spring.warmup.recording;
+
+import dev.jeschke.spring.warmup.TrafficRecording;
+import dev.jeschke.spring.warmup.WarmUpFactory;
+import dev.jeschke.spring.warmup.WarmUpRunner;
+import dev.jeschke.spring.warmup.initializers.WarmUpInitializer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+/**
+ * Records a sample of the incoming requests, if enabled with
+ * {@link dev.jeschke.spring.warmup.WarmUpBuilder#enableTrafficRecording(TrafficRecording)}.
+ * <p>
+ * Requests are only recorded after the WarmUp is done, so the WarmUp never records its own calls. Only the
+ * {@link TrafficRecording#methods() configured methods} are recorded, and never requests to the actuator.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrafficRecordingFilter extends OncePerRequestFilter {
+
+    /**
+     * Bodies larger than this are not recorded, since they would be truncated.
+     */
+    static final int MAX_BODY_SIZE = 64 * 1024;
+
+    static final String MANAGEMENT_BASE_PATH = "management.endpoints.web.base-path";
+    static final String PROBE_PATHS = "management.endpoint.health.probes.add-additional-paths";
+
+    private final WarmUpRunner warmUpRunner;
+    private final WarmUpFactory factory;
+    private final List<WarmUpInitializer> initializers;
+    private final TrafficRecorder recorder;
+    private final Environment environment;
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain)
+            throws ServletException, IOException {
+        final var recording = getRecording();
+        if (recording == null
+                || !recording.methods().contains(request.getMethod())
+                || isManagementRequest(request)
+                || ThreadLocalRandom.current().nextDouble() >= recording.sampleRate()
+                || request.getContentLengthLong() > MAX_BODY_SIZE) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        final var cachingRequest = new ContentCachingRequestWrapper(request, MAX_BODY_SIZE);
+        try {
+            filterChain.doFilter(cachingRequest, response);
+        } finally {
+            record(recording, cachingRequest);
+        }
+    }
+
+    private TrafficRecording getRecording() {
+        if (!warmUpRunner.isWarmedUp()) {
+            return null;
+        }
+        try {
+            return factory.getSettings(initializers).trafficRecording();
+        } catch (final Exception e) {
+            // Don't log here, this method is called for every request. The error will be logged somewhere else
+            return null;
+        }
+    }
+
+    /*
+     * Actuator endpoints, like the health probes, are called by the infrastructure and not by users. Replaying them would only
+     * warm up the actuator
+     */
+    private boolean isManagementRequest(final HttpServletRequest request) {
+        final var path =
+                request.getRequestURI().substring(request.getContextPath().length());
+        if (isBelow(path, environment.getProperty(MANAGEMENT_BASE_PATH, "/actuator"))) {
+            return true;
+        }
+        return environment.getProperty(PROBE_PATHS, Boolean.class, false)
+                && (isBelow(path, "/livez") || isBelow(path, "/readyz"));
+    }
+
+    private static boolean isBelow(final String path, final String basePath) {
+        final var normalized = StringUtils.trimTrailingCharacter(basePath, '/');
+        // The actuator might be mapped to the root, but then the path tells nothing
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        final var prefix = normalized.startsWith("/") ? normalized : "/" + normalized;
+        return path.equals(prefix) || path.startsWith(prefix + "/");
+    }
+
+    private void record(final TrafficRecording recording, final ContentCachingRequestWrapper request) {
+        final var body = request.getContentAsByteArray();
+        if (body.length >= MAX_BODY_SIZE) {
+            log.debug("Body of {} {} is too large. Will not record it", request.getMethod(), request.getRequestURI());
+            return;
+        }
+        final var headers = new LinkedHashMap<String, String>();
+        for (final var name : recording.headers()) {
+            final var value = request.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        try {
+            recorder.record(
+                    recording,
+                    new RecordedRequest(
+                            request.getMethod(),
+                            request.getRequestURI(),
+                            Objects.requireNonNullElse(request.getQueryString(), ""),
+                            headers,
+                            request.getContentType(),
+                            body));
+        } catch (final RuntimeException e) {
+            // Recording must never break the actual request
+            log.warn("Failed to record {} {}", request.getMethod(), request.getRequestURI(), e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package dev.jeschke.spring.warmup.report;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Shows whether the WarmUp paid off, by comparing the first and the last call of each endpoint.
+ *
+ * @param finished       false while the WarmUp is still running
+ * @param durationMillis how long the whole WarmUp took; 0 while it is still running
+ * @param endpoints      the called endpoints, in the order of their first call
+ */
+public record WarmUpReport(boolean finished, double durationMillis, List<EndpointReport> endpoints) {
+
+    public WarmUpReport {
+        endpoints = List.copyOf(endpoints);
+    }
+
+    /**
+     * @param initializer        the initializer that called the endpoint
+     * @param method             the HTTP method
+     * @param path               the called path
+     * @param calls              how often the endpoint was called
+     * @param failures           how many of the calls failed
+     * @param firstCallMillis    the latency of the first call
+     * @param lastCallMillis     the latency of the last call
+     * @param speedUp            how many times faster the last call was than the first one
+     * @param allocatedBytes     the bytes allocated by all calls; -1 if the JVM does not report allocations
+     */
+    public record EndpointReport(
+            String initializer,
+            String method,
+            String path,
+            int calls,
+            int failures,
+            double firstCallMillis,
+            double lastCallMillis,
+            double speedUp,
+            long allocatedBytes) {}
+
+    public String toJson() {
+        return """
+                {"finished":%s,"durationMillis":%s,"endpoints":[%s]}"""
+                .formatted(
+                        finished,
+                        durationMillis,
+                        endpoints.stream().map(WarmUpReport::toJson).collect(Collectors.joining(",")));
+    }
+
+    private static String toJson(final EndpointReport endpoint) {
+        return """
+                {"initializer":%s,"method":%s,"path":%s,"calls":%s,"failures":%s,"firstCallMillis":%s,\
+                "lastCallMillis":%s,"speedUp":%s,"allocatedBytes":%s}"""
+                .formatted(
+                        quote(endpoint.initializer()),
+                        quote(endpoint.method()),
+                        quote(endpoint.path()),
+                        endpoint.calls(),
+                        endpoint.failures(),
+                        endpoint.firstCallMillis(),
+                        endpoint.lastCallMillis(),
+                        endpoint.speedUp(),
+                        endpoint.allocatedBytes());
+    }
+
+    private static String quote(final String value) {
+        final var builder = new StringBuilder("\"");
+        for (final var character : value.toCharArray()) {
+            switch (character) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (character < 0x20) {
+                        builder.append("\\u%04x".formatted((int) character));
+                    } else {
+                        builder.append(character);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
@@ -0,0 +1,24 @@
+package dev.jeschke.spring.warmup.report;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the {@link WarmUpReport} as actuator endpoint {@code warmup}.
+ */
+@Component
+@Endpoint(id = "warmup")
+@ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+@RequiredArgsConstructor
+public class WarmUpReportEndpoint {
+
+    private final WarmUpReporter reporter;
+
+    @ReadOperation
+    public WarmUpReport report() {
+        return reporter.getReport();
+    }
+}
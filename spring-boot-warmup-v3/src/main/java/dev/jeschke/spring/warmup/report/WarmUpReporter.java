@@ -0,0 +1,147 @@
+package dev.jeschke.spring.warmup.report;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dev.jeschke.spring.warmup.WarmUpFactory;
+import dev.jeschke.spring.warmup.initializers.AutomaticEndpointHttpInitializer;
+import dev.jeschke.spring.warmup.initializers.HttpInitializer;
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import dev.jeschke.spring.warmup.listener.WarmUpCall;
+import dev.jeschke.spring.warmup.listener.WarmUpCallResult;
+import dev.jeschke.spring.warmup.listener.WarmUpListener;
+import dev.jeschke.spring.warmup.report.WarmUpReport.EndpointReport;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects the calls of the {@link HttpInitializer} and the {@link AutomaticEndpointHttpInitializer} into a {@link WarmUpReport}.
+ * Once the WarmUp is done, a summary is logged and the report is written to the configured file, if any.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WarmUpReporter implements WarmUpListener {
+
+    private static final Set<String> REPORTED_INITIALIZERS =
+            Set.of(HttpInitializer.NAME, AutomaticEndpointHttpInitializer.NAME);
+
+    private final WarmUpFactory factory;
+
+    // Guarded by this
+    private final Map<Key, EndpointStatistics> statistics = new LinkedHashMap<>();
+    private Duration duration = null;
+
+    @Override
+    public synchronized void callFinished(final WarmUpCall call, final WarmUpCallResult result) {
+        if (!REPORTED_INITIALIZERS.contains(call.initializer())) {
+            return;
+        }
+        statistics
+                .computeIfAbsent(
+                        new Key(
+                                call.initializer(),
+                                call.endpoint().method(),
+                                call.endpoint().path()),
+                        key -> new EndpointStatistics())
+                .add(result);
+    }
+
+    @Override
+    public void warmUpFinished(final Duration duration) {
+        final WarmUpReport report;
+        synchronized (this) {
+            this.duration = duration;
+            report = getReport();
+        }
+        final var failures =
+                report.endpoints().stream().mapToInt(EndpointReport::failures).sum();
+        log.info(
+                "WarmUp finished in {}. Called {} endpoints, {} calls failed",
+                duration,
+                report.endpoints().size(),
+                failures);
+        report.endpoints()
+                .forEach(endpoint -> log.debug(
+                        "{} {}: first call {}ms, last call {}ms, speed-up {}",
+                        endpoint.method(),
+                        endpoint.path(),
+                        endpoint.firstCallMillis(),
+                        endpoint.lastCallMillis(),
+                        endpoint.speedUp()));
+        factory.getCachedSettings().map(WarmUpSettings::reportFile).ifPresent(file -> write(report, file));
+    }
+
+    /**
+     * @return the report of all calls so far
+     */
+    public synchronized WarmUpReport getReport() {
+        return new WarmUpReport(
+                duration != null,
+                duration == null ? 0 : toMillis(duration),
+                statistics.entrySet().stream()
+                        .map(entry -> entry.getValue().toReport(entry.getKey()))
+                        .toList());
+    }
+
+    private void write(final WarmUpReport report, final Path file) {
+        try {
+            final var parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(file, report.toJson(), UTF_8);
+        } catch (final IOException e) {
+            log.warn("Failed to write the WarmUp report to {}", file, e);
+        }
+    }
+
+    private static double toMillis(final Duration duration) {
+        return duration.toNanos() / 1e6;
+    }
+
+    private record Key(String initializer, String method, String path) {}
+
+    private static final class EndpointStatistics {
+        private int calls = 0;
+        private int failures = 0;
+        private Duration first = Duration.ZERO;
+        private Duration last = Duration.ZERO;
+        private long allocatedBytes = 0;
+
+        void add(final WarmUpCallResult result) {
+            if (calls == 0) {
+                first = result.duration();
+            }
+            last = result.duration();
+            calls++;
+            if (!result.isSuccess()) {
+                failures++;
+            }
+            allocatedBytes =
+                    allocatedBytes < 0 || result.allocatedBytes() < 0 ? -1 : allocatedBytes + result.allocatedBytes();
+        }
+
+        EndpointReport toReport(final Key key) {
+            final var firstMillis = toMillis(first);
+            final var lastMillis = toMillis(last);
+            return new EndpointReport(
+                    key.initializer(),
+                    key.method(),
+                    key.path(),
+                    calls,
+                    failures,
+                    firstMillis,
+                    lastMillis,
+                    lastMillis > 0 ? firstMillis / lastMillis : 1,
+                    allocatedBytes);
+        }
+    }
+}
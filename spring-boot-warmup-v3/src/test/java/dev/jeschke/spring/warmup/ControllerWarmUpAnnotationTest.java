@@ -3,7 +3,12 @@ package dev.jeschke.spring.warmup;
 import static dev.jeschke.spring.warmup.application.TestApplication.CUSTOMIZER_TEST_REQUEST_BODY;
 import static dev.jeschke.spring.warmup.application.TestApplication.INIT_CALL_COUNT;
 import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.AUTOMATIC_WARM_UP_ENDPOINT;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.INVALID_BODY_ENDPOINT;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.MULTIPART_ENDPOINT;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.PARAMETERS_ENDPOINT;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.STREAMING_ENDPOINT;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.assertArg;
 import static org.mockito.Mockito.never;
@@ -16,11 +21,28 @@ import dev.jeschke.spring.warmup.application.InitializedTestRequestBody;
 import dev.jeschke.spring.warmup.application.TestApplication;
 import dev.jeschke.spring.warmup.application.TestMock;
 import dev.jeschke.spring.warmup.application.TestRequestBody;
+import dev.jeschke.spring.warmup.initializers.AutomaticEndpointHttpInitializer;
+import dev.jeschke.spring.warmup.initializers.ClassPreloadInitializer;
+import dev.jeschke.spring.warmup.initializers.HttpInitializer;
+import dev.jeschke.spring.warmup.initializers.JdbcInitializer;
+import dev.jeschke.spring.warmup.initializers.LazyBeanInitializer;
+import dev.jeschke.spring.warmup.initializers.MessageConverterInitializer;
+import dev.jeschke.spring.warmup.initializers.TrafficReplayInitializer;
+import dev.jeschke.spring.warmup.initializers.ValidationInitializer;
+import dev.jeschke.spring.warmup.initializers.WarmUpInitializer;
+import dev.jeschke.spring.warmup.listener.MicrometerWarmUpListener;
+import dev.jeschke.spring.warmup.report.WarmUpReport;
+import dev.jeschke.spring.warmup.report.WarmUpReportEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.Getter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -48,6 +70,15 @@ class ControllerWarmUpAnnotationTest {
     @Autowired
     private AutomaticEndpointCheckFilter filter;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private WarmUpReportEndpoint reportEndpoint;
+
+    @Autowired
+    private List<WarmUpInitializer> initializers;
+
     @BeforeEach
     void setUp() {
         waitUntilHealthy();
@@ -89,21 +120,124 @@ class ControllerWarmUpAnnotationTest {
         verify(testMock).postWithRequestBodyParameter(initializedTestRequestBody());
     }
 
+    @Test
+    void postWithRecordRequestBody() {
+        verify(testMock).postWithRecordRequestBody(assertArg(requestBody -> {
+            assertThat(requestBody.name()).hasSizeGreaterThanOrEqualTo(8);
+            assertThat(requestBody.age()).isBetween(18, 99);
+            assertThat(requestBody.email()).contains("@");
+            assertThat(requestBody.birthday()).isBefore(LocalDate.now());
+            assertThat(requestBody.tags()).hasSizeGreaterThanOrEqualTo(2);
+        }));
+    }
+
     @Test
     void notAnnotated() {
         verify(testMock, never()).neverCall();
     }
 
+    @Test
+    void getWithSamples() {
+        verify(testMock).getWithSamples(1, "a b", null);
+        verify(testMock).getWithSamples(2, null, "tenant");
+    }
+
+    @Test
+    void getWithPatterns() {
+        verify(testMock).getWithPatterns(3L, "v2");
+    }
+
+    @Test
+    void getWithEncodedSamples() {
+        verify(testMock).getWithEncodedSamples("café au lait", "a&b=c/d é");
+    }
+
     @Test
     void automaticWarmUpEndpoint() {
         assertThat(filter.isHitAutomaticEndpoint()).isTrue();
     }
 
+    @Test
+    void automaticWarmUpEndpoint_answersAllVariants() {
+        assertThat(filter.getAutomaticEndpointStatuses())
+                .containsOnly(
+                        entry(AUTOMATIC_WARM_UP_ENDPOINT, 200),
+                        entry(INVALID_BODY_ENDPOINT, 400),
+                        entry(PARAMETERS_ENDPOINT + "42", 200),
+                        entry(MULTIPART_ENDPOINT, 200),
+                        entry(STREAMING_ENDPOINT, 200));
+    }
+
+    @Test
+    void automaticWarmUpEndpoint_expectsBadRequestForInvalidBody() {
+        assertThat(meterRegistry
+                        .find(MicrometerWarmUpListener.CALL_TIMER)
+                        .tag("path", INVALID_BODY_ENDPOINT)
+                        .timers())
+                .isNotEmpty()
+                .allSatisfy(timer -> assertThat(timer.getId().getTag("outcome")).isEqualTo("success"));
+    }
+
+    @Test
+    void initializers_warmUpInfrastructureBeforeCallingEndpoints() {
+        final List<Class<?>> order = initializers.stream()
+                .<Class<?>>map(initializer -> initializer.getClass())
+                .toList();
+
+        assertThat(order)
+                .containsSubsequence(
+                        ClassPreloadInitializer.class,
+                        LazyBeanInitializer.class,
+                        JdbcInitializer.class,
+                        MessageConverterInitializer.class,
+                        ValidationInitializer.class,
+                        HttpInitializer.class)
+                .containsSubsequence(ValidationInitializer.class, AutomaticEndpointHttpInitializer.class)
+                .containsSubsequence(ValidationInitializer.class, TrafficReplayInitializer.class);
+    }
+
     @Test
     void getMultipleTimes() {
         verify(testMock, times(INIT_CALL_COUNT)).getMultipleTimes();
     }
 
+    @Test
+    void recordsMetrics() {
+        assertThat(meterRegistry
+                        .get(MicrometerWarmUpListener.CALL_TIMER)
+                        .tag("path", "/getMultipleTimes")
+                        .timer()
+                        .count())
+                .isEqualTo(INIT_CALL_COUNT);
+        assertThat(meterRegistry
+                        .get(MicrometerWarmUpListener.REMAINING_GAUGE)
+                        .gauge()
+                        .value())
+                .isZero();
+        assertThat(meterRegistry
+                        .get(MicrometerWarmUpListener.DURATION_TIMER)
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void reportsCalls() {
+        final var report = reportEndpoint.report();
+
+        assertThat(report.finished()).isTrue();
+        assertThat(report.endpoints())
+                .filteredOn(endpoint -> endpoint.path().equals("/getMultipleTimes"))
+                .singleElement()
+                .satisfies(endpoint -> {
+                    assertThat(endpoint.calls()).isEqualTo(INIT_CALL_COUNT);
+                    assertThat(endpoint.failures()).isZero();
+                });
+        assertThat(report.endpoints())
+                .extracting(WarmUpReport.EndpointReport::path)
+                .contains(AUTOMATIC_WARM_UP_ENDPOINT, "/getNoParams");
+    }
+
     private TestRequestBody customizerTestRequestBody() {
         return assertArg(
                 testBody -> assertThat(testBody).usingRecursiveComparison().isEqualTo(CUSTOMIZER_TEST_REQUEST_BODY));
@@ -119,6 +253,7 @@ class ControllerWarmUpAnnotationTest {
     static class AutomaticEndpointCheckFilter extends OncePerRequestFilter {
 
         private boolean hitAutomaticEndpoint = false;
+        private final Map<String, Integer> automaticEndpointStatuses = new ConcurrentHashMap<>();
 
         @Override
         protected void doFilterInternal(
@@ -126,11 +261,17 @@ class ControllerWarmUpAnnotationTest {
                 @NonNull final HttpServletResponse response,
                 @NonNull final FilterChain filterChain)
                 throws ServletException, IOException {
-            if (request.getRequestURI().contains(AUTOMATIC_WARM_UP_ENDPOINT)) {
+            final var uri = request.getRequestURI();
+            if (uri.contains(AUTOMATIC_WARM_UP_ENDPOINT)) {
                 hitAutomaticEndpoint = true;
             }
 
             filterChain.doFilter(request, response);
+
+            if (uri.contains(AUTOMATIC_WARM_UP_ENDPOINT)) {
+                automaticEndpointStatuses.put(
+                        uri.substring(uri.indexOf(AUTOMATIC_WARM_UP_ENDPOINT)), response.getStatus());
+            }
         }
     }
 }
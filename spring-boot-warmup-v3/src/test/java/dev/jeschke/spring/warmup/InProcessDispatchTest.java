@@ -0,0 +1,70 @@
+package dev.jeschke.spring.warmup;
+
+import static dev.jeschke.spring.warmup.application.TestApplication.CUSTOMIZER_TEST_REQUEST_BODY;
+import static dev.jeschke.spring.warmup.application.TestApplication.INIT_CALL_COUNT;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.MULTIPART_ENDPOINT;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.STREAMING_ENDPOINT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.assertArg;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.MOCK;
+import static org.springframework.test.context.bean.override.mockito.MockReset.NONE;
+
+import dev.jeschke.spring.warmup.ControllerWarmUpAnnotationTest.AutomaticEndpointCheckFilter;
+import dev.jeschke.spring.warmup.application.TestApplication;
+import dev.jeschke.spring.warmup.application.TestMock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+// Without a web server, all calls have to be dispatched in-process
+@TestPropertySource(properties = "test.in-process.enable=true")
+@SpringBootTest(webEnvironment = MOCK, classes = TestApplication.class)
+class InProcessDispatchTest {
+
+    @MockitoBean(reset = NONE)
+    private TestMock testMock;
+
+    @Autowired
+    private WarmUpRunner warmUpRunner;
+
+    @Autowired
+    private AutomaticEndpointCheckFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        await().until(warmUpRunner::isWarmedUp);
+    }
+
+    @Test
+    void callsEndpoints() {
+        verify(testMock).getNoParams();
+        verify(testMock).getByCustomizer();
+        verify(testMock)
+                .postByCustomizer(assertArg(
+                        body -> assertThat(body).usingRecursiveComparison().isEqualTo(CUSTOMIZER_TEST_REQUEST_BODY)));
+        verify(testMock, times(INIT_CALL_COUNT)).getMultipleTimes();
+    }
+
+    @Test
+    void dispatchesEncodedSamples() {
+        verify(testMock).getWithEncodedSamples("café au lait", "a&b=c/d é");
+    }
+
+    @Test
+    void passesFilters() {
+        assertThat(filter.isHitAutomaticEndpoint()).isTrue();
+    }
+
+    @Test
+    void dispatchesMultipartAndStreamingRequests() {
+        assertThat(filter.getAutomaticEndpointStatuses())
+                .containsEntry(MULTIPART_ENDPOINT, 200)
+                .containsEntry(STREAMING_ENDPOINT, 200);
+    }
+}
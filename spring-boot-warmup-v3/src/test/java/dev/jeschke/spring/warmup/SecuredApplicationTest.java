@@ -0,0 +1,96 @@
+package dev.jeschke.spring.warmup;
+
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.AUTOMATIC_WARM_UP_ENDPOINT;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.INVALID_BODY_ENDPOINT;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.MULTIPART_ENDPOINT;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.PARAMETERS_ENDPOINT;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.STREAMING_ENDPOINT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+import dev.jeschke.spring.warmup.application.TestApplication;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// The application requires authentication for every request, only the automatic endpoint is permitted by the WarmUp
+@TestPropertySource(properties = "test.security.enable=true")
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = TestApplication.class)
+class SecuredApplicationTest {
+
+    @Autowired
+    private WarmUpRunner warmUpRunner;
+
+    @Autowired
+    private StatusRecordingFilter filter;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() {
+        await().until(warmUpRunner::isWarmedUp);
+    }
+
+    @Test
+    void permitsAllAutomaticEndpoints() {
+        assertThat(warmUpRunner.isCompleted()).isTrue();
+        assertThat(filter.getStatuses())
+                .containsOnlyKeys(
+                        AUTOMATIC_WARM_UP_ENDPOINT,
+                        INVALID_BODY_ENDPOINT,
+                        PARAMETERS_ENDPOINT + "42",
+                        MULTIPART_ENDPOINT,
+                        STREAMING_ENDPOINT)
+                .containsEntry(INVALID_BODY_ENDPOINT, HttpStatus.BAD_REQUEST.value())
+                .doesNotContainValue(HttpStatus.UNAUTHORIZED.value())
+                .doesNotContainValue(HttpStatus.FORBIDDEN.value());
+    }
+
+    @Test
+    void securesOtherEndpoints() {
+        assertThat(restTemplate.getForEntity("/notAnnotated", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    // Runs before the security filters, so it also sees the requests they reject
+    @Getter
+    @Component
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    static class StatusRecordingFilter extends OncePerRequestFilter {
+
+        private final Map<String, Integer> statuses = new ConcurrentHashMap<>();
+
+        @Override
+        protected void doFilterInternal(
+                final HttpServletRequest request,
+                @NonNull final HttpServletResponse response,
+                @NonNull final FilterChain filterChain)
+                throws ServletException, IOException {
+            filterChain.doFilter(request, response);
+
+            final var uri = request.getRequestURI();
+            if (uri.startsWith(AUTOMATIC_WARM_UP_ENDPOINT)) {
+                statuses.put(uri, response.getStatus());
+            }
+        }
+    }
+}
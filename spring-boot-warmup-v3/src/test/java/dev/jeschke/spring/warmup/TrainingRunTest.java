@@ -0,0 +1,57 @@
+package dev.jeschke.spring.warmup;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.support.GenericApplicationContext;
+
+class TrainingRunTest {
+
+    private final GenericApplicationContext context = new GenericApplicationContext();
+    private final WarmUpRunner warmUpRunner = mock(WarmUpRunner.class);
+    private final LinkedBlockingQueue<Integer> exitCodes = new LinkedBlockingQueue<>();
+    private final TrainingRun trainingRun = new TrainingRun(context, providerOf(warmUpRunner)) {
+        @Override
+        void exit(final int exitCode) {
+            exitCodes.add(exitCode);
+        }
+    };
+
+    @Test
+    void warmUpFinished_closesContextAndExits() throws InterruptedException {
+        when(warmUpRunner.isCompleted()).thenReturn(true);
+        context.refresh();
+
+        trainingRun.warmUpFinished(Duration.ofSeconds(1));
+        trainingRun.warmUpFinished(Duration.ofSeconds(1));
+
+        assertThat(exitCodes.poll(10, SECONDS)).isZero();
+        assertThat(context.isActive()).isFalse();
+        assertThat(exitCodes.poll(100, MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void warmUpFinished_exitsWithFailureIfNotCompleted() throws InterruptedException {
+        when(warmUpRunner.isCompleted()).thenReturn(false);
+        context.refresh();
+
+        trainingRun.warmUpFinished(Duration.ofSeconds(1));
+
+        assertThat(exitCodes.poll(10, SECONDS)).isEqualTo(TrainingRun.FAILED_EXIT_CODE);
+        assertThat(context.isActive()).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<WarmUpRunner> providerOf(final WarmUpRunner runner) {
+        final ObjectProvider<WarmUpRunner> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(runner);
+        return provider;
+    }
+}
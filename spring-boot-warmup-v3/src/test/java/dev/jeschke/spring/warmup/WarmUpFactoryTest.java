@@ -1,11 +1,14 @@
 package dev.jeschke.spring.warmup;
 
+import static java.net.http.HttpClient.Version.HTTP_1_1;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
 
+import dev.jeschke.spring.warmup.builder.WarmUpBuilderImpl;
 import dev.jeschke.spring.warmup.initializers.WarmUpInitializer;
 import java.net.http.HttpClient;
 import java.util.List;
@@ -18,6 +21,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationContext;
 import org.springframework.web.client.RestClient;
 
@@ -43,10 +47,10 @@ class WarmUpFactoryTest {
     private ArgumentCaptor<WarmUpBuilder> builder;
 
     @Mock
-    private HttpClient httpClient;
+    private HttpClient customHttpClient;
 
     @Mock
-    private HttpClient.Builder httpClientBuilder;
+    private ObjectProvider<HttpClient.Builder> httpClientBuilder;
 
     private WarmUpFactory factory;
 
@@ -56,6 +60,7 @@ class WarmUpFactoryTest {
         lenient()
                 .when(context.getBeansOfType(WarmUpCustomizer.class))
                 .thenReturn(new TreeMap<>(Map.of("customizer1", customizer1, "customizer2", customizer2)));
+        lenient().when(httpClientBuilder.getObject()).thenAnswer(invocation -> HttpClient.newBuilder());
         lenient().when(customizer1.apply(any())).thenAnswer(returnsFirstArg());
         lenient().when(customizer2.apply(any())).thenAnswer(returnsFirstArg());
         lenient().when(initializer1.configure(any())).thenAnswer(returnsFirstArg());
@@ -95,16 +100,47 @@ class WarmUpFactoryTest {
 
     @Test
     void getRestClient() {
-        final var restClient = factory.getRestClient(httpClient);
+        final var restClient = factory.getRestClient(new WarmUpBuilderImpl().build());
 
         assertThat(restClient).isNotNull();
     }
 
     @Test
-    void getRestClient_onlyInitializesOnce() {
-        final var restClient1 = factory.getRestClient(httpClient);
-        final var restClient2 = factory.getRestClient(httpClient);
+    void getRestClient_sharesClientForSameConfiguration() throws Exception {
+        final var settings = new WarmUpBuilderImpl()
+                .initializingMultipleTimes(nestedBuilder -> nestedBuilder)
+                .build();
+        final var nestedSettings =
+                settings.repeatingWarmUpSettings().iterator().next().settings();
+
+        final var restClient1 = factory.getRestClient(settings);
+        final var restClient2 = factory.getRestClient(nestedSettings);
 
         assertThat(restClient1).isSameAs(restClient2);
+        verify(httpClientBuilder).getObject();
+    }
+
+    @Test
+    void getRestClient_separatesClientsByConfiguration() throws Exception {
+        final var restClient1 = factory.getRestClient(new WarmUpBuilderImpl().build());
+        final var restClient2 = factory.getRestClient(
+                new WarmUpBuilderImpl().disableHttpTlsVerification().build());
+        final var restClient3 = factory.getRestClient(
+                new WarmUpBuilderImpl().setHttpVersion(HTTP_1_1).build());
+        final var restClient4 = factory.getRestClient(
+                new WarmUpBuilderImpl().setHttpClient(customHttpClient).build());
+
+        assertThat(List.of(restClient1, restClient2, restClient3, restClient4)).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void closeClients_createsNewClientsAfterwards() {
+        final var settings = new WarmUpBuilderImpl().build();
+        final var restClient1 = factory.getRestClient(settings);
+
+        factory.closeClients();
+        final var restClient2 = factory.getRestClient(settings);
+
+        assertThat(restClient1).isNotSameAs(restClient2);
     }
 }
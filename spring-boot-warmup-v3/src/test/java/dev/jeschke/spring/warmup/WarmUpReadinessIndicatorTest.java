@@ -7,11 +7,13 @@ import static org.mockito.Mockito.when;
 import static org.springframework.boot.availability.ReadinessState.ACCEPTING_TRAFFIC;
 import static org.springframework.boot.availability.ReadinessState.REFUSING_TRAFFIC;
 
+import dev.jeschke.spring.warmup.initializers.LatencyTargets;
 import dev.jeschke.spring.warmup.initializers.WarmUpInitializer;
 import dev.jeschke.spring.warmup.internal.WarmUpSettings;
 import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -44,11 +46,15 @@ class WarmUpReadinessIndicatorTest {
     @Mock
     private WarmUpInitializer initializer;
 
+    @Mock
+    private LatencyTargets latencyTargets;
+
     private WarmUpReadinessIndicator indicator;
 
     @BeforeEach
     void setUp() {
-        indicator = new WarmUpReadinessIndicator(availability, warmUpRunner, factory, List.of(initializer));
+        indicator =
+                new WarmUpReadinessIndicator(availability, warmUpRunner, factory, List.of(initializer), latencyTargets);
     }
 
     @ParameterizedTest
@@ -56,8 +62,9 @@ class WarmUpReadinessIndicatorTest {
     void getState(final boolean isUp, final boolean enableReadinessIndicator, final AvailabilityState expected)
             throws Exception {
         when(factory.getSettings(List.of(initializer))).thenReturn(settings);
-        lenient().when(warmUpRunner.isWarmedUp()).thenReturn(isUp);
+        lenient().when(warmUpRunner.isCriticalWarmedUp()).thenReturn(isUp);
         lenient().when(settings.enableReadinessIndicator()).thenReturn(enableReadinessIndicator);
+        lenient().when(latencyTargets.allMet()).thenReturn(true);
 
         final var actual = indicator.getState(availability);
 
@@ -71,4 +78,25 @@ class WarmUpReadinessIndicatorTest {
                 arguments(IS_READY, ENABLE_INDICATOR, ACCEPTING_TRAFFIC),
                 arguments(IS_READY, DISABLE_INDICATOR, ACCEPTING_TRAFFIC));
     }
+
+    @Test
+    void getState_refusesWhileLatencyTargetsAreMissed() throws Exception {
+        when(factory.getSettings(List.of(initializer))).thenReturn(settings);
+        when(warmUpRunner.isCriticalWarmedUp()).thenReturn(true);
+        when(latencyTargets.allMet()).thenReturn(false);
+        when(settings.enableReadinessIndicator()).thenReturn(true);
+        when(settings.failReadinessOnMissedTarget()).thenReturn(true);
+
+        assertThat(indicator.getState(availability)).isEqualTo(REFUSING_TRAFFIC);
+    }
+
+    @Test
+    void getState_acceptsMissedLatencyTargetsByDefault() throws Exception {
+        when(factory.getSettings(List.of(initializer))).thenReturn(settings);
+        when(warmUpRunner.isCriticalWarmedUp()).thenReturn(true);
+        lenient().when(latencyTargets.allMet()).thenReturn(false);
+        lenient().when(settings.enableReadinessIndicator()).thenReturn(true);
+
+        assertThat(indicator.getState(availability)).isEqualTo(ACCEPTING_TRAFFIC);
+    }
 }
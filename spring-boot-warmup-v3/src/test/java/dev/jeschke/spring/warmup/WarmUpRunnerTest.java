@@ -1,11 +1,22 @@
 package dev.jeschke.spring.warmup;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import dev.jeschke.spring.warmup.initializers.LatencyTargets;
 import dev.jeschke.spring.warmup.initializers.WarmUpInitializer;
 import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import dev.jeschke.spring.warmup.listener.WarmUpListeners;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,21 +43,37 @@ class WarmUpRunnerTest {
     @Mock
     private WarmUpSettings settings;
 
+    @Mock
+    private WarmUpListeners listeners;
+
+    @Mock
+    private LatencyTargets latencyTargets;
+
+    @Mock
+    private WarmUpSettings criticalSettings;
+
+    @Mock
+    private WarmUpSettings backgroundSettings;
+
     private WarmUpRunner warmUpRunner;
 
     @BeforeEach
     void setUp() throws Exception {
-        warmUpRunner = new WarmUpRunner(List.of(initializer1, initializer2), factory);
+        warmUpRunner = new WarmUpRunner(List.of(initializer1, initializer2), factory, listeners, latencyTargets);
         when(factory.getSettings(List.of(initializer1, initializer2))).thenReturn(settings);
+        // Mockito would return Duration.ZERO otherwise
+        lenient().when(settings.timeBudget()).thenReturn(null);
     }
 
     @Test
     void onContextRefreshed() {
         warmUpRunner.onContextRefreshed(event);
 
-        final var inOrder = inOrder(initializer1, initializer2);
+        final var inOrder = inOrder(listeners, initializer1, initializer2);
+        inOrder.verify(listeners).warmUpStarted();
         inOrder.verify(initializer1).warmUp(settings);
         inOrder.verify(initializer2).warmUp(settings);
+        inOrder.verify(listeners).warmUpFinished(any());
     }
 
     @Test
@@ -56,5 +83,120 @@ class WarmUpRunnerTest {
         warmUpRunner.onContextRefreshed(event);
 
         assertThat(warmUpRunner.isWarmedUp()).isTrue();
+        assertThat(warmUpRunner.isCriticalWarmedUp()).isTrue();
+    }
+
+    @Test
+    void isCompleted_beforeListenersAreNotified() {
+        final var completedWhenFinished = new ArrayList<Boolean>();
+        doAnswer(invocation -> completedWhenFinished.add(warmUpRunner.isCompleted()))
+                .when(listeners)
+                .warmUpFinished(any());
+
+        warmUpRunner.onContextRefreshed(event);
+
+        assertThat(completedWhenFinished).containsExactly(true);
+    }
+
+    @Test
+    void isCompleted_falseIfInitializerFails() {
+        doThrow(new IllegalStateException("Call failed")).when(initializer1).warmUp(settings);
+
+        warmUpRunner.onContextRefreshed(event);
+
+        assertThat(warmUpRunner.isWarmedUp()).isTrue();
+        assertThat(warmUpRunner.isCompleted()).isFalse();
+    }
+
+    @Test
+    void onContextRefreshed_warmsUpCriticalEndpointsFirst() {
+        when(settings.hasCriticalEndpoints()).thenReturn(true);
+        when(settings.criticalPart()).thenReturn(criticalSettings);
+        when(settings.backgroundPart()).thenReturn(backgroundSettings);
+        final var statesInBackground = new ArrayList<Boolean>();
+        lenient()
+                .doAnswer(invocation -> {
+                    statesInBackground.add(warmUpRunner.isCriticalWarmedUp());
+                    statesInBackground.add(warmUpRunner.isWarmedUp());
+                    statesInBackground.add(Thread.currentThread().getPriority() == Thread.MIN_PRIORITY);
+                    return null;
+                })
+                .when(initializer1)
+                .warmUp(backgroundSettings);
+        final var priority = Thread.currentThread().getPriority();
+
+        warmUpRunner.onContextRefreshed(event);
+
+        final var inOrder = inOrder(initializer1, initializer2, latencyTargets);
+        inOrder.verify(initializer1).warmUp(criticalSettings);
+        inOrder.verify(initializer2).warmUp(criticalSettings);
+        inOrder.verify(latencyTargets).stopTracking();
+        inOrder.verify(initializer1).warmUp(backgroundSettings);
+        inOrder.verify(initializer2).warmUp(backgroundSettings);
+        assertThat(statesInBackground).containsExactly(true, false, true);
+        assertThat(Thread.currentThread().getPriority()).isEqualTo(priority);
+        assertThat(warmUpRunner.isWarmedUp()).isTrue();
+    }
+
+    @Test
+    void onContextRefreshed_withoutCriticalEndpoints_keepsTrackingLatencyTargets() {
+        warmUpRunner.onContextRefreshed(event);
+
+        verify(initializer1).warmUp(settings);
+        verify(latencyTargets, never()).stopTracking();
+    }
+
+    @Test
+    void onContextRefreshed_cancelsAfterTimeBudget() {
+        when(settings.timeBudget()).thenReturn(Duration.ofMillis(100));
+        doAnswer(invocation -> {
+                    Thread.sleep(Duration.ofMinutes(1).toMillis());
+                    return null;
+                })
+                .when(initializer1)
+                .warmUp(settings);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> warmUpRunner.onContextRefreshed(event));
+
+        assertThat(warmUpRunner.isWarmedUp()).isTrue();
+        verify(initializer2, never()).warmUp(settings);
+        verify(latencyTargets).clear();
+        assertThat(warmUpRunner.isCompleted()).isFalse();
+    }
+
+    @Test
+    void onContextRefreshed_timeBudgetExhausted_overridesLatencyTargets() {
+        final var targets = new LatencyTargets();
+        final var runner = new WarmUpRunner(List.of(initializer1, initializer2), factory, listeners, targets);
+        when(settings.timeBudget()).thenReturn(Duration.ofMillis(100));
+        doAnswer(invocation -> {
+                    targets.register().missed();
+                    targets.register();
+                    Thread.sleep(Duration.ofMinutes(1).toMillis());
+                    return null;
+                })
+                .when(initializer1)
+                .warmUp(settings);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> runner.onContextRefreshed(event));
+
+        assertThat(targets.allMet()).isTrue();
+    }
+
+    @Test
+    void onContextRefreshed_failedCall_overridesLatencyTargets() {
+        final var targets = new LatencyTargets();
+        final var runner = new WarmUpRunner(List.of(initializer1, initializer2), factory, listeners, targets);
+        doAnswer(invocation -> {
+                    targets.register();
+                    throw new IllegalStateException("Call failed");
+                })
+                .when(initializer1)
+                .warmUp(settings);
+
+        runner.onContextRefreshed(event);
+
+        assertThat(runner.isCriticalWarmedUp()).isTrue();
+        assertThat(targets.allMet()).isTrue();
     }
 }
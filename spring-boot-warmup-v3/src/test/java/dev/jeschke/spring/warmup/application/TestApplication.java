@@ -2,8 +2,11 @@ package dev.jeschke.spring.warmup.application;
 
 import static org.springframework.http.HttpMethod.POST;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.security.config.Customizer.withDefaults;
 
 import dev.jeschke.spring.warmup.ControllerWarmUp;
+import dev.jeschke.spring.warmup.ControllerWarmUp.Sample;
+import dev.jeschke.spring.warmup.WarmUpBuilder;
 import dev.jeschke.spring.warmup.WarmUpCustomizer;
 import dev.jeschke.spring.warmup.config.WarmUpConfiguration;
 import java.time.Duration;
@@ -14,10 +17,15 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @SpringBootApplication
@@ -33,6 +41,7 @@ public class TestApplication {
     @Configuration
     public static class TestConfiguration {
         @Bean
+        @ConditionalOnProperty(name = "test.security.enable", havingValue = "false", matchIfMissing = true)
         public WarmUpCustomizer warmUpCustomizer() {
             return builder -> builder.addEndpoint("/getByCustomizer")
                     .addEndpoint(
@@ -41,11 +50,39 @@ public class TestApplication {
                             INIT_CALL_COUNT,
                             Duration.ofMillis(100),
                             multipleTimesBuilder -> multipleTimesBuilder.addEndpoint("/getMultipleTimes"))
-                    .enableAutomaticMvcWarmUpEndpoint();
+                    .enableAutomaticMvcWarmUpEndpoint()
+                    .enableMessageConverterWarmUp()
+                    .enableValidationWarmUp()
+                    .setParallelism(2);
+        }
+
+        @Bean
+        @ConditionalOnProperty(name = "test.in-process.enable", havingValue = "true")
+        public WarmUpCustomizer inProcessWarmUpCustomizer() {
+            return WarmUpBuilder::enableInProcessDispatch;
+        }
+    }
+
+    // Like most secured applications, every request needs to be authenticated and CSRF protection stays enabled
+    @Configuration
+    @ConditionalOnProperty(name = "test.security.enable", havingValue = "true")
+    public static class SecuredConfiguration {
+        @Bean
+        public SecurityFilterChain securityFilterChain(final HttpSecurity httpSecurity) throws Exception {
+            return httpSecurity
+                    .authorizeHttpRequests(customizer -> customizer.anyRequest().authenticated())
+                    .httpBasic(withDefaults())
+                    .build();
+        }
+
+        @Bean
+        public WarmUpCustomizer securedWarmUpCustomizer() {
+            return WarmUpBuilder::enableAutomaticMvcWarmUpEndpoint;
         }
     }
 
     @RestController
+    @ConditionalOnProperty(name = "test.security.enable", havingValue = "false", matchIfMissing = true)
     public static class TestController {
         private final TestMock testMock;
 
@@ -99,6 +136,51 @@ public class TestApplication {
             return "postWithRequestBodyParameter";
         }
 
+        @ControllerWarmUp
+        @PostMapping("/postWithRecordRequestBody")
+        public String postWithRecordRequestBody(@RequestBody final TestRecordRequestBody requestBody) {
+            testMock.postWithRecordRequestBody(requestBody);
+            return "postWithRecordRequestBody";
+        }
+
+        @ControllerWarmUp(
+                samples = {
+                    @Sample(pathVariables = "id=1", queryParameters = "filter=a b"),
+                    @Sample(pathVariables = "id=2", headers = "X-Tenant=tenant")
+                })
+        @GetMapping("/getWithSamples/{id}")
+        public String getWithSamples(
+                @PathVariable("id") final long id,
+                @RequestParam(name = "filter", required = false) final String filter,
+                @RequestHeader(name = "X-Tenant", required = false) final String tenant) {
+            testMock.getWithSamples(id, filter, tenant);
+            return "getWithSamples";
+        }
+
+        @ControllerWarmUp(samples = @Sample(pathVariables = {"id=3", "version=v2"}))
+        @GetMapping({"/getWithPatterns/{name}", "/getWithPatterns/{id}/{version}"})
+        public String getWithPatterns(
+                @PathVariable(name = "id", required = false) final Long id,
+                @PathVariable(name = "version", required = false) final String version) {
+            testMock.getWithPatterns(id, version);
+            return "getWithPatterns";
+        }
+
+        @ControllerWarmUp(samples = @Sample(pathVariables = "name=café au lait", queryParameters = "filter=a&b=c/d é"))
+        @GetMapping("/getWithEncodedSamples/{name}")
+        public String getWithEncodedSamples(
+                @PathVariable("name") final String name, @RequestParam("filter") final String filter) {
+            testMock.getWithEncodedSamples(name, filter);
+            return "getWithEncodedSamples";
+        }
+
+        @ControllerWarmUp
+        @GetMapping("/getWithoutSamples/{id}")
+        public String getWithoutSamples(@PathVariable("id") final long id) {
+            testMock.neverCall();
+            return "getWithoutSamples";
+        }
+
         @GetMapping("/getMultipleTimes")
         public String getMultipleTimes() {
             testMock.getMultipleTimes();
@@ -20,5 +20,13 @@ public class TestMock {
 
     public void postWithRequestBodyParameter(final TestRequestBody body) {}
 
+    public void postWithRecordRequestBody(final TestRecordRequestBody body) {}
+
     public void getMultipleTimes() {}
+
+    public void getWithSamples(final long id, final String filter, final String tenant) {}
+
+    public void getWithPatterns(final Long id, final String version) {}
+
+    public void getWithEncodedSamples(final String name, final String filter) {}
 }
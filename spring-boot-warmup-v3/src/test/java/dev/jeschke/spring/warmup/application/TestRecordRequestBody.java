@@ -0,0 +1,17 @@
+package dev.jeschke.spring.warmup.application;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.util.List;
+
+public record TestRecordRequestBody(
+        @NotBlank @Size(min = 8) String name,
+        @Min(18) @Max(99) int age,
+        @Email String email,
+        @Past LocalDate birthday,
+        @Size(min = 2) List<String> tags) {}
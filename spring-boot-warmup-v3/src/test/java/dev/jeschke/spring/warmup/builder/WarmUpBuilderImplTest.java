@@ -1,20 +1,28 @@
 package dev.jeschke.spring.warmup.builder;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_XML_VALUE;
 
+import dev.jeschke.spring.warmup.ClassPreloading;
+import dev.jeschke.spring.warmup.CompilerPacing;
 import dev.jeschke.spring.warmup.Endpoint;
+import dev.jeschke.spring.warmup.JdbcWarmUp;
+import dev.jeschke.spring.warmup.LatencyConvergence;
+import dev.jeschke.spring.warmup.LatencyTarget;
+import dev.jeschke.spring.warmup.LoadProfile;
+import dev.jeschke.spring.warmup.TrafficRecording;
 import dev.jeschke.spring.warmup.WarmUpBuilder;
+import dev.jeschke.spring.warmup.internal.LoadWarmUpSettings;
 import dev.jeschke.spring.warmup.internal.RepeatingWarmUpSettings;
 import dev.jeschke.spring.warmup.internal.WarmUpSettings;
 import java.net.http.HttpClient;
+import java.nio.file.Path;
 import java.security.GeneralSecurityException;
 import java.time.Duration;
+import java.util.List;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -30,12 +38,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class WarmUpBuilderImplTest {
 
-    @Mock
-    private HttpClient.Builder defaultHttpClientBuilder;
-
-    @Mock
-    private HttpClient defaultHttpClient;
-
     @Mock
     private HttpClient customHttpClient;
 
@@ -43,7 +45,7 @@ class WarmUpBuilderImplTest {
 
     @BeforeEach
     void setUp() {
-        builder = new WarmUpBuilderImpl(defaultHttpClientBuilder);
+        builder = new WarmUpBuilderImpl();
     }
 
     @ParameterizedTest
@@ -73,7 +75,10 @@ class WarmUpBuilderImplTest {
                         new Endpoint("PUT", "path", requestBody, APPLICATION_JSON_VALUE)),
                 args(
                         builder -> builder.addEndpoint("PUT", "path", requestBody, APPLICATION_XML_VALUE),
-                        new Endpoint("PUT", "path", requestBody, APPLICATION_XML_VALUE)));
+                        new Endpoint("PUT", "path", requestBody, APPLICATION_XML_VALUE)),
+                args(
+                        builder -> builder.addEndpoint(new Endpoint("path").withPriority(5)),
+                        new Endpoint("GET", "path", null, null, 5)));
     }
 
     private static Arguments args(final UnaryOperator<WarmUpBuilder> method, final Endpoint expectedEndpoint) {
@@ -126,6 +131,119 @@ class WarmUpBuilderImplTest {
         assertThat(actual.enableReadinessIndicator()).isFalse();
     }
 
+    @Test
+    void failReadinessOnMissedTarget_default() {
+        final var actual = builder.build();
+
+        assertThat(actual.failReadinessOnMissedTarget()).isFalse();
+    }
+
+    @Test
+    void failReadinessOnMissedTarget() {
+        final var actual = builder.failReadinessOnMissedTarget().build();
+
+        assertThat(actual.failReadinessOnMissedTarget()).isTrue();
+    }
+
+    @Test
+    void messageConverterWarmUp_default() {
+        final var actual = builder.build();
+
+        assertThat(actual.enableMessageConverterWarmUp()).isFalse();
+    }
+
+    @Test
+    void enableMessageConverterWarmUp() {
+        final var actual = builder.enableMessageConverterWarmUp().build();
+
+        assertThat(actual.enableMessageConverterWarmUp()).isTrue();
+    }
+
+    @Test
+    void disableMessageConverterWarmUp() {
+        final var actual = builder.enableMessageConverterWarmUp()
+                .disableMessageConverterWarmUp()
+                .build();
+
+        assertThat(actual.enableMessageConverterWarmUp()).isFalse();
+    }
+
+    @Test
+    void validationWarmUp_default() {
+        final var actual = builder.build();
+
+        assertThat(actual.enableValidationWarmUp()).isFalse();
+    }
+
+    @Test
+    void enableValidationWarmUp() {
+        final var actual = builder.enableValidationWarmUp().build();
+
+        assertThat(actual.enableValidationWarmUp()).isTrue();
+    }
+
+    @Test
+    void disableValidationWarmUp() {
+        final var actual =
+                builder.enableValidationWarmUp().disableValidationWarmUp().build();
+
+        assertThat(actual.enableValidationWarmUp()).isFalse();
+    }
+
+    @Test
+    void lazyBeanInitialization_default() {
+        final var actual = builder.build();
+
+        assertThat(actual.enableLazyBeanInitialization()).isFalse();
+    }
+
+    @Test
+    void enableLazyBeanInitialization() {
+        final var actual = builder.enableLazyBeanInitialization().build();
+
+        assertThat(actual.enableLazyBeanInitialization()).isTrue();
+    }
+
+    @Test
+    void enableClassPreloading() {
+        assertThat(builder.build().classPreloading()).isNull();
+
+        final var preloading = ClassPreloading.defaults(Path.of("classes.lst"));
+        final var actual = builder.enableClassPreloading(preloading).build();
+
+        assertThat(actual.classPreloading()).isEqualTo(preloading);
+        assertThat(actual.criticalPart().classPreloading()).isEqualTo(preloading);
+        assertThat(actual.backgroundPart().classPreloading()).isNull();
+    }
+
+    @Test
+    void enableClassPreloading_rejectsNegativeDuration() {
+        assertThatThrownBy(() -> new ClassPreloading(Path.of("classes.lst"), Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void inProcessDispatch_default() {
+        final var actual = builder.build();
+
+        assertThat(actual.enableInProcessDispatch()).isFalse();
+    }
+
+    @Test
+    void enableInProcessDispatch() {
+        final var actual = builder.enableInProcessDispatch().build();
+
+        assertThat(actual.enableInProcessDispatch()).isTrue();
+    }
+
+    @Test
+    void disableInProcessDispatch() {
+        final var actual =
+                builder.enableInProcessDispatch().disableInProcessDispatch().build();
+
+        assertThat(actual.enableInProcessDispatch()).isFalse();
+    }
+
     @Test
     void setProtocol_default() {
         final var actual = builder.build();
@@ -142,10 +260,10 @@ class WarmUpBuilderImplTest {
 
     @Test
     void setHttpClient_default() {
-        when(defaultHttpClientBuilder.build()).thenReturn(defaultHttpClient);
         final var actual = builder.build();
 
-        assertThat(actual.httpClient()).isSameAs(defaultHttpClient);
+        // The client is created by the client pool
+        assertThat(actual.httpClient()).isNull();
     }
 
     @Test
@@ -178,25 +296,149 @@ class WarmUpBuilderImplTest {
 
     @Test
     void enableHttpTlsVerification() throws GeneralSecurityException {
-        when(defaultHttpClientBuilder.sslContext(any())).thenReturn(defaultHttpClientBuilder);
-
-        final var actual =
-                builder.enableHttpTlsVerification().enableReadinessIndicator().build();
+        final var actual = builder.disableHttpTlsVerification()
+                .enableHttpTlsVerification()
+                .enableReadinessIndicator()
+                .build();
 
-        verify(defaultHttpClientBuilder).sslContext(any());
         assertThat(actual.enableHttpTlsVerification()).isTrue();
     }
 
     @Test
     void disableHttpTlsVerification() throws GeneralSecurityException {
-        when(defaultHttpClientBuilder.sslContext(any())).thenReturn(defaultHttpClientBuilder);
-
         final var actual = builder.disableHttpTlsVerification().build();
 
-        verify(defaultHttpClientBuilder).sslContext(any());
         assertThat(actual.enableHttpTlsVerification()).isFalse();
     }
 
+    @Test
+    void disableHttpTlsVerification_inheritedByNestedBuilder() throws Exception {
+        final var actual = builder.disableHttpTlsVerification()
+                .setHttpVersion(HttpClient.Version.HTTP_1_1)
+                .initializingMultipleTimes(nestedBuilder -> nestedBuilder)
+                .build();
+
+        assertThat(actual.repeatingWarmUpSettings())
+                .singleElement()
+                .extracting(RepeatingWarmUpSettings::settings)
+                .satisfies(nested -> {
+                    assertThat(nested.enableHttpTlsVerification()).isFalse();
+                    assertThat(nested.httpVersion()).isEqualTo(HttpClient.Version.HTTP_1_1);
+                });
+    }
+
+    @Test
+    void setHttpVersion_default() {
+        final var actual = builder.build();
+
+        assertThat(actual.httpVersion()).isNull();
+    }
+
+    @Test
+    void setHttpVersion() {
+        final var actual = builder.setHttpVersion(HttpClient.Version.HTTP_2).build();
+
+        assertThat(actual.httpVersion()).isEqualTo(HttpClient.Version.HTTP_2);
+    }
+
+    @Test
+    void setParallelism_default() {
+        final var actual = builder.build();
+
+        assertThat(actual.parallelism()).isEqualTo(1);
+    }
+
+    @Test
+    void setParallelism() {
+        final var actual = builder.setParallelism(4).build();
+
+        assertThat(actual.parallelism()).isEqualTo(4);
+    }
+
+    @Test
+    void setParallelism_invalid() {
+        assertThatThrownBy(() -> builder.setParallelism(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void setTimeBudget_default() {
+        final var actual = builder.build();
+
+        assertThat(actual.timeBudget()).isNull();
+    }
+
+    @Test
+    void setTimeBudget() {
+        final var actual = builder.setTimeBudget(Duration.ofSeconds(30)).build();
+
+        assertThat(actual.timeBudget()).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void setRequestTimeout_default() {
+        final var actual = builder.build();
+
+        assertThat(actual.requestTimeout()).isNull();
+    }
+
+    @Test
+    void setRequestTimeout() {
+        final var actual = builder.setRequestTimeout(Duration.ofSeconds(2)).build();
+
+        assertThat(actual.requestTimeout()).isEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void enableTrafficRecording_default() {
+        final var actual = builder.build();
+
+        assertThat(actual.trafficRecording()).isNull();
+        assertThat(actual.trafficReplayFile()).isNull();
+    }
+
+    @Test
+    void enableTrafficRecording() {
+        final var recording = TrafficRecording.defaults(Path.of("traffic.rec"));
+
+        final var actual = builder.enableTrafficRecording(recording)
+                .enableTrafficReplay(Path.of("replay.rec"))
+                .build();
+
+        assertThat(actual.trafficRecording()).isEqualTo(recording);
+        assertThat(actual.trafficReplayFile()).isEqualTo(Path.of("replay.rec"));
+    }
+
+    @Test
+    void trafficRecording_recordsOnlySafeMethodsByDefault() {
+        final var recording = TrafficRecording.defaults(Path.of("traffic.rec"));
+
+        assertThat(recording.methods()).containsExactlyInAnyOrder("GET", "HEAD");
+        assertThat(recording.withMethods("get", "post").methods()).containsExactlyInAnyOrder("GET", "POST");
+    }
+
+    @Test
+    void enableReportFile() {
+        assertThat(builder.build().reportFile()).isNull();
+
+        final var actual = builder.enableReportFile(Path.of("report.json")).build();
+
+        assertThat(actual.reportFile()).isEqualTo(Path.of("report.json"));
+    }
+
+    @Test
+    void enableJdbcWarmUp() {
+        assertThat(builder.build().jdbcWarmUp()).isNull();
+
+        final var actual = builder.enableJdbcWarmUp(3, "SELECT 1").build();
+
+        assertThat(actual.jdbcWarmUp()).isEqualTo(new JdbcWarmUp(3, List.of("SELECT 1")));
+    }
+
+    @Test
+    void enableJdbcWarmUp_rejectsMissingConnections() {
+        assertThatThrownBy(() -> builder.enableJdbcWarmUp(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void initializingMultipleTimes_defaultParameterValues() throws Exception {
         final var actual = builder.initializingMultipleTimes(nestedBuilder -> nestedBuilder)
@@ -230,4 +472,150 @@ class WarmUpBuilderImplTest {
                 .extracting(Endpoint::path)
                 .isEqualTo(expectedPath);
     }
+
+    @Test
+    void initializingUntilStable_defaultParameterValues() throws Exception {
+        final var actual =
+                builder.initializingUntilStable(nestedBuilder -> nestedBuilder).build();
+
+        assertThat(actual.repeatingWarmUpSettings())
+                .singleElement()
+                .extracting(RepeatingWarmUpSettings::convergence, RepeatingWarmUpSettings::interval)
+                .containsExactly(LatencyConvergence.defaults(), Duration.ofMillis(10));
+    }
+
+    @Test
+    void initializingUntilStable() throws Exception {
+        final var convergence = new LatencyConvergence(2, 20, 3, 0.5);
+        final var interval = Duration.ofMillis(5);
+
+        final var actual = builder.initializingUntilStable(
+                        convergence, interval, nestedBuilder -> nestedBuilder.addEndpoint("/stablePath"))
+                .build();
+
+        assertThat(actual.repeatingWarmUpSettings())
+                .singleElement()
+                .extracting(
+                        RepeatingWarmUpSettings::times,
+                        RepeatingWarmUpSettings::interval,
+                        RepeatingWarmUpSettings::convergence)
+                .containsExactly(20, interval, convergence);
+    }
+
+    @Test
+    void initializingUntilFasterThan_defaultParameterValues() throws Exception {
+        final var actual = builder.initializingUntilFasterThan(Duration.ofMillis(20), nestedBuilder -> nestedBuilder)
+                .build();
+
+        assertThat(actual.repeatingWarmUpSettings())
+                .singleElement()
+                .extracting(RepeatingWarmUpSettings::latencyTarget, RepeatingWarmUpSettings::interval)
+                .containsExactly(LatencyTarget.of(Duration.ofMillis(20)), Duration.ofMillis(10));
+    }
+
+    @Test
+    void initializingUntilFasterThan() throws Exception {
+        final var target = new LatencyTarget(Duration.ofMillis(5), 3, 50);
+        final var interval = Duration.ofMillis(2);
+
+        final var actual = builder.initializingUntilFasterThan(
+                        target, interval, nestedBuilder -> nestedBuilder.addEndpoint("/fastPath"))
+                .build();
+
+        assertThat(actual.repeatingWarmUpSettings())
+                .singleElement()
+                .extracting(
+                        RepeatingWarmUpSettings::times,
+                        RepeatingWarmUpSettings::interval,
+                        RepeatingWarmUpSettings::latencyTarget)
+                .containsExactly(50, interval, target);
+    }
+
+    @Test
+    void latencyTarget_validatesParameters() {
+        assertThatThrownBy(() -> new LatencyTarget(Duration.ZERO, 1, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LatencyTarget(Duration.ofMillis(1), 5, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void build_splitsCriticalEndpoints() throws Exception {
+        final var critical = new Endpoint("/critical").asCritical();
+        final var background = new Endpoint("/background");
+
+        final var actual = builder.enableAutomaticMvcWarmUpEndpoint()
+                .setParallelism(4)
+                .addEndpoint(critical)
+                .addEndpoint(background)
+                .initializingMultipleTimes(
+                        3, Duration.ofMillis(1), nestedBuilder -> nestedBuilder.addEndpoint(critical))
+                .build();
+
+        assertThat(actual.hasCriticalEndpoints()).isTrue();
+        assertThat(actual.criticalPart())
+                .extracting(
+                        WarmUpSettings::endpoints,
+                        WarmUpSettings::enableAutomaticMvcEndpoint,
+                        WarmUpSettings::parallelism)
+                .containsExactly(List.of(critical), true, 4);
+        assertThat(actual.criticalPart().repeatingWarmUpSettings())
+                .singleElement()
+                .extracting(repeating -> repeating.settings().endpoints())
+                .isEqualTo(List.of(critical));
+        assertThat(actual.backgroundPart())
+                .extracting(
+                        WarmUpSettings::endpoints,
+                        WarmUpSettings::enableAutomaticMvcEndpoint,
+                        WarmUpSettings::parallelism)
+                .containsExactly(List.of(background), false, 1);
+        assertThat(actual.backgroundPart().repeatingWarmUpSettings())
+                .singleElement()
+                .extracting(repeating -> repeating.settings().endpoints())
+                .isEqualTo(List.of());
+    }
+
+    @Test
+    void initializingUntilCompiled_defaultParameterValues() throws Exception {
+        final var actual = builder.initializingUntilCompiled(nestedBuilder -> nestedBuilder)
+                .build();
+
+        assertThat(actual.repeatingWarmUpSettings())
+                .singleElement()
+                .extracting(RepeatingWarmUpSettings::compilerPacing)
+                .isEqualTo(CompilerPacing.defaults());
+    }
+
+    @Test
+    void initializingUntilCompiled() throws Exception {
+        final var pacing = new CompilerPacing(10, 5, Duration.ofMillis(20), Duration.ofMillis(1));
+
+        final var actual = builder.initializingUntilCompiled(
+                        pacing, nestedBuilder -> nestedBuilder.addEndpoint("/compiledPath"))
+                .build();
+
+        assertThat(actual.repeatingWarmUpSettings())
+                .singleElement()
+                .extracting(RepeatingWarmUpSettings::times, RepeatingWarmUpSettings::compilerPacing)
+                .containsExactly(50, pacing);
+    }
+
+    @Test
+    void drivingLoad() throws Exception {
+        final var profile = new LoadProfile(50, Duration.ofSeconds(1), Duration.ofSeconds(2), 5);
+
+        final var actual = builder.drivingLoad(profile, nestedBuilder -> nestedBuilder.addEndpoint("/loadPath"))
+                .build();
+
+        assertThat(actual.loadWarmUpSettings())
+                .singleElement()
+                .extracting(LoadWarmUpSettings::profile)
+                .isEqualTo(profile);
+        assertThat(actual.loadWarmUpSettings())
+                .singleElement()
+                .extracting(LoadWarmUpSettings::settings)
+                .extracting(WarmUpSettings::endpoints, InstanceOfAssertFactories.list(Endpoint.class))
+                .singleElement()
+                .extracting(Endpoint::path)
+                .isEqualTo("/loadPath");
+    }
 }
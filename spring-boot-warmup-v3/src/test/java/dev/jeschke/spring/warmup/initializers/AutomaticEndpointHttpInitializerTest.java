@@ -1,37 +1,52 @@
 package dev.jeschke.spring.warmup.initializers;
 
 import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.AUTOMATIC_WARM_UP_ENDPOINT;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.INVALID_BODY_ENDPOINT;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.MULTIPART_ENDPOINT;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.PARAMETERS_ENDPOINT;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpoint.STREAMING_ENDPOINT;
 import static dev.jeschke.spring.warmup.initializers.AutomaticEndpointHttpInitializer.CONTROLLER_BEAN_NAME;
+import static dev.jeschke.spring.warmup.initializers.AutomaticEndpointHttpInitializer.HANDLER_MAPPING_BEAN_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.AdditionalAnswers.answerVoid;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 import dev.jeschke.spring.warmup.Endpoint;
 import dev.jeschke.spring.warmup.internal.RepeatingWarmUpSettings;
 import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import dev.jeschke.spring.warmup.listener.WarmUpCall;
+import dev.jeschke.spring.warmup.listener.WarmUpListeners;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.time.Duration;
 import java.util.List;
-import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
-import org.springframework.web.method.HandlerMethod;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
@@ -42,21 +57,26 @@ class AutomaticEndpointHttpInitializerTest {
     private static final Duration REPEATING_INTERVAL = Duration.ofMillis(1000);
     private static final int REPEATING_TIMES_2 = 10;
     private static final Duration REPEATING_INTERVAL_2 = Duration.ofMillis(2000);
+    private static final int ENDPOINTS =
+            AutomaticEndpointHttpInitializer.buildInternalEndpoints(true).size();
 
     @Mock(answer = RETURNS_DEEP_STUBS)
-    private ServletWebServerApplicationContext context;
+    private GenericApplicationContext context;
 
     @Mock
     private RepeatingInvocation repeatingInvocation;
 
+    @Spy
+    private ParallelInvocation parallelInvocation;
+
     @Mock
     private HttpClient httpClient;
 
     @Mock
-    private RequestMappingHandlerMapping handlerMapping;
+    private WarmUpListeners listeners;
 
     @Mock
-    private RequestMappingInfo requestMappingInfo;
+    private RequestMappingHandlerMapping handlerMapping;
 
     @InjectMocks
     private AutomaticEndpointHttpInitializer initializer;
@@ -64,11 +84,14 @@ class AutomaticEndpointHttpInitializerTest {
     @BeforeEach
     void setUp() {
         lenient()
-                .when(context.getBeansOfType(RequestMappingHandlerMapping.class))
-                .thenReturn(Map.of("name", handlerMapping));
+                .when(context.getBean(HANDLER_MAPPING_BEAN_NAME, RequestMappingHandlerMapping.class))
+                .thenReturn(handlerMapping);
         lenient()
-                .when(handlerMapping.getHandlerMethods())
-                .thenReturn(Map.of(requestMappingInfo, mock(HandlerMethod.class)));
+                .when(handlerMapping.getBuilderConfiguration())
+                .thenReturn(new RequestMappingInfo.BuilderConfiguration());
+        lenient().when(context.containsBeanDefinition(CONTROLLER_BEAN_NAME)).thenReturn(true);
+        // Has Hibernate Validator on the classpath
+        lenient().when(context.getClassLoader()).thenReturn(getClass().getClassLoader());
     }
 
     @Test
@@ -88,48 +111,43 @@ class AutomaticEndpointHttpInitializerTest {
 
         final var inOrder = inOrder(context, httpClient, handlerMapping);
         inOrder.verify(context).registerBean(CONTROLLER_BEAN_NAME, AutomaticEndpoint.class);
-        inOrder.verify(handlerMapping).unregisterMapping(requestMappingInfo);
-        inOrder.verify(handlerMapping).afterPropertiesSet();
-        inOrder.verify(httpClient).callEndpoint(createEndpoint(), settings);
+        inOrder.verify(handlerMapping)
+                .registerMapping(eq(createMappingInfo()), eq(CONTROLLER_BEAN_NAME), any(Method.class));
+        inOrder.verify(httpClient).callEndpoint(createCall(0), settings);
+        inOrder.verify(handlerMapping).unregisterMapping(createMappingInfo());
         inOrder.verify(context).removeBeanDefinition(CONTROLLER_BEAN_NAME);
-        inOrder.verify(handlerMapping).unregisterMapping(requestMappingInfo);
-        inOrder.verify(handlerMapping).afterPropertiesSet();
     }
 
     @Test
     void warmUp_repeatingEndpoint() throws InterruptedException {
-        final var settings = createSettings(
-                false,
-                List.of(new RepeatingWarmUpSettings(
-                        REPEATING_TIMES, REPEATING_INTERVAL, createSettings(true, List.of()))));
+        final var repeatingSettings =
+                new RepeatingWarmUpSettings(REPEATING_TIMES, REPEATING_INTERVAL, createSettings(true, List.of()));
+        final var settings = createSettings(false, List.of(repeatingSettings));
 
         initializer.warmUp(settings);
 
         final var inOrder = inOrder(context, repeatingInvocation, handlerMapping);
         inOrder.verify(context).registerBean(CONTROLLER_BEAN_NAME, AutomaticEndpoint.class);
-        inOrder.verify(handlerMapping).unregisterMapping(requestMappingInfo);
-        inOrder.verify(handlerMapping).afterPropertiesSet();
-        inOrder.verify(repeatingInvocation).invokeRepeating(eq(REPEATING_TIMES), eq(REPEATING_INTERVAL), any());
+        inOrder.verify(handlerMapping)
+                .registerMapping(eq(createMappingInfo()), eq(CONTROLLER_BEAN_NAME), any(Method.class));
+        inOrder.verify(repeatingInvocation, times(ENDPOINTS)).invoke(eq(repeatingSettings), any());
+        inOrder.verify(handlerMapping).unregisterMapping(createMappingInfo());
         inOrder.verify(context).removeBeanDefinition(CONTROLLER_BEAN_NAME);
-        inOrder.verify(handlerMapping).unregisterMapping(requestMappingInfo);
-        inOrder.verify(handlerMapping).afterPropertiesSet();
         verifyNoInteractions(httpClient);
     }
 
     @Test
     void warmUp_repeatingEndpoint_butDisabled() throws InterruptedException {
-        final var settings = createSettings(
-                false,
-                List.of(
-                        new RepeatingWarmUpSettings(
-                                REPEATING_TIMES, REPEATING_INTERVAL, createSettings(false, List.of())),
-                        new RepeatingWarmUpSettings(
-                                REPEATING_TIMES_2, REPEATING_INTERVAL_2, createSettings(true, List.of()))));
+        final var disabledSettings =
+                new RepeatingWarmUpSettings(REPEATING_TIMES, REPEATING_INTERVAL, createSettings(false, List.of()));
+        final var enabledSettings =
+                new RepeatingWarmUpSettings(REPEATING_TIMES_2, REPEATING_INTERVAL_2, createSettings(true, List.of()));
+        final var settings = createSettings(false, List.of(disabledSettings, enabledSettings));
 
         initializer.warmUp(settings);
 
-        verify(repeatingInvocation, never()).invokeRepeating(eq(REPEATING_TIMES), eq(REPEATING_INTERVAL), any());
-        verify(repeatingInvocation).invokeRepeating(eq(REPEATING_TIMES_2), eq(REPEATING_INTERVAL_2), any());
+        verify(repeatingInvocation, never()).invoke(eq(disabledSettings), any());
+        verify(repeatingInvocation, times(ENDPOINTS)).invoke(eq(enabledSettings), any());
     }
 
     @Test
@@ -137,13 +155,13 @@ class AutomaticEndpointHttpInitializerTest {
         final var repeatedSetting = createSettings(true, List.of());
         final var settings = createSettings(
                 false, List.of(new RepeatingWarmUpSettings(REPEATING_TIMES, REPEATING_INTERVAL, repeatedSetting)));
-        doAnswer(answerVoid((final Integer times, final Duration interval, final Runnable runnable) -> runnable.run()))
+        doAnswer(answerVoid((final RepeatingWarmUpSettings repeating, final Runnable runnable) -> runnable.run()))
                 .when(repeatingInvocation)
-                .invokeRepeating(anyInt(), any(), any());
+                .invoke(any(), any());
 
         initializer.warmUp(settings);
 
-        verify(httpClient).callEndpoint(createEndpoint(), repeatedSetting);
+        verify(httpClient).callEndpoint(createCall(0), repeatedSetting);
     }
 
     @Test
@@ -156,12 +174,104 @@ class AutomaticEndpointHttpInitializerTest {
 
         final var inOrder = inOrder(context, httpClient, handlerMapping);
         inOrder.verify(context).registerBean(CONTROLLER_BEAN_NAME, AutomaticEndpoint.class);
-        inOrder.verify(handlerMapping).unregisterMapping(requestMappingInfo);
-        inOrder.verify(handlerMapping).afterPropertiesSet();
-        inOrder.verify(httpClient).callEndpoint(createEndpoint(), settings);
+        inOrder.verify(handlerMapping)
+                .registerMapping(eq(createMappingInfo()), eq(CONTROLLER_BEAN_NAME), any(Method.class));
+        inOrder.verify(httpClient).callEndpoint(createCall(0), settings);
+        inOrder.verify(handlerMapping).unregisterMapping(createMappingInfo());
         inOrder.verify(context).removeBeanDefinition(CONTROLLER_BEAN_NAME);
-        inOrder.verify(handlerMapping).unregisterMapping(requestMappingInfo);
-        inOrder.verify(handlerMapping).afterPropertiesSet();
+    }
+
+    @Test
+    void warmUp_deregistersOnFailedMappingRegistration() {
+        final var settings = createSettings(true, List.of());
+        final var exception = new IllegalStateException("Ambiguous mapping");
+        doThrow(exception).when(handlerMapping).registerMapping(any(), any(), any());
+
+        assertThatThrownBy(() -> initializer.warmUp(settings)).isSameAs(exception);
+
+        verify(handlerMapping).unregisterMapping(createMappingInfo());
+        verify(context).removeBeanDefinition(CONTROLLER_BEAN_NAME);
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    void warmUp_failedBeanRegistration_keepsOriginalException() {
+        final var settings = createSettings(true, List.of());
+        final var exception = new IllegalStateException("Bean already registered");
+        doThrow(exception).when(context).registerBean(CONTROLLER_BEAN_NAME, AutomaticEndpoint.class);
+        when(context.containsBeanDefinition(CONTROLLER_BEAN_NAME)).thenReturn(false);
+
+        assertThatThrownBy(() -> initializer.warmUp(settings)).isSameAs(exception);
+
+        verify(context, never()).removeBeanDefinition(CONTROLLER_BEAN_NAME);
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    void warmUp_onlyTouchesAutomaticEndpointMappings() {
+        final var settings = createSettings(true, List.of());
+
+        initializer.warmUp(settings);
+
+        final var mappingInfos = ArgumentCaptor.forClass(RequestMappingInfo.class);
+        verify(handlerMapping, times(ENDPOINTS))
+                .registerMapping(mappingInfos.capture(), eq(CONTROLLER_BEAN_NAME), any(Method.class));
+        mappingInfos.getAllValues().forEach(mappingInfo -> verify(handlerMapping)
+                .unregisterMapping(mappingInfo));
+        verify(handlerMapping, never()).getHandlerMethods();
+        verify(handlerMapping, never()).afterPropertiesSet();
+    }
+
+    @Test
+    void warmUp_callsAllInternalEndpoints() {
+        final var settings = createSettings(true, List.of());
+
+        initializer.warmUp(settings);
+
+        final var calls = ArgumentCaptor.forClass(WarmUpCall.class);
+        verify(httpClient, times(ENDPOINTS - 1)).callEndpoint(calls.capture(), eq(settings));
+        final var failingCall = ArgumentCaptor.forClass(WarmUpCall.class);
+        verify(httpClient).callEndpointExpecting(failingCall.capture(), eq(settings), eq(HttpStatus.BAD_REQUEST));
+        assertThat(failingCall.getValue().endpoint().path()).isEqualTo(INVALID_BODY_ENDPOINT);
+        assertThat(calls.getAllValues())
+                .extracting(call -> call.endpoint().method(), call -> call.endpoint()
+                        .path())
+                .containsExactly(
+                        tuple("POST", AUTOMATIC_WARM_UP_ENDPOINT),
+                        tuple(
+                                "GET",
+                                PARAMETERS_ENDPOINT + "42?number=7&date=2000-01-01&day=MONDAY&values=a,b&flag=true"),
+                        tuple("POST", MULTIPART_ENDPOINT),
+                        tuple("GET", STREAMING_ENDPOINT));
+        verify(listeners).endpointsScheduled(AutomaticEndpointHttpInitializer.NAME, ENDPOINTS);
+    }
+
+    @Test
+    void warmUp_skipsInvalidBodyWithoutValidationProvider() throws IOException {
+        final var settings = createSettings(true, List.of());
+
+        try (final var classLoader = new URLClassLoader(new URL[0], null)) {
+            when(context.getClassLoader()).thenReturn(classLoader);
+
+            initializer.warmUp(settings);
+        }
+
+        verify(httpClient, times(ENDPOINTS - 1)).callEndpoint(any(), eq(settings));
+        verify(httpClient, never()).callEndpointExpecting(any(), any(), any());
+        verify(listeners).endpointsScheduled(AutomaticEndpointHttpInitializer.NAME, ENDPOINTS - 1);
+    }
+
+    private RequestMappingInfo createMappingInfo() {
+        return RequestMappingInfo.paths(AUTOMATIC_WARM_UP_ENDPOINT)
+                .methods(RequestMethod.POST)
+                .consumes(APPLICATION_JSON_VALUE)
+                .produces(APPLICATION_JSON_VALUE)
+                .options(new RequestMappingInfo.BuilderConfiguration())
+                .build();
+    }
+
+    private WarmUpCall createCall(final int repetition) {
+        return new WarmUpCall("AutomaticEndpointHttpInitializer", createEndpoint(), repetition);
     }
 
     private Endpoint createEndpoint() {
@@ -172,6 +282,28 @@ class AutomaticEndpointHttpInitializerTest {
     private WarmUpSettings createSettings(
             final boolean enableAutomaticMvcEndpoint, final List<RepeatingWarmUpSettings> repeatingWarmUpSettings) {
         return new WarmUpSettings(
-                List.of(), enableAutomaticMvcEndpoint, false, "", null, "", false, repeatingWarmUpSettings);
+                List.of(),
+                enableAutomaticMvcEndpoint,
+                false,
+                false,
+                "",
+                null,
+                "",
+                false,
+                repeatingWarmUpSettings,
+                1,
+                null,
+                null,
+                List.of(),
+                null,
+                null,
+                false,
+                null,
+                null,
+                null,
+                false,
+                false,
+                false,
+                null);
     }
 }
@@ -0,0 +1,115 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import dev.jeschke.spring.warmup.ClassPreloading;
+import dev.jeschke.spring.warmup.builder.WarmUpBuilderImpl;
+import dev.jeschke.spring.warmup.recording.ClassListRecorder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+
+@ExtendWith(MockitoExtension.class)
+class ClassPreloadInitializerTest {
+
+    private static final AtomicBoolean INITIALIZED = new AtomicBoolean();
+    private static final AtomicBoolean RECORDED_LATER_INITIALIZED = new AtomicBoolean();
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    @Mock
+    private ClassListRecorder recorder;
+
+    @TempDir
+    private Path directory;
+
+    private ClassPreloadInitializer initializer;
+
+    @BeforeEach
+    void setUp() {
+        initializer = new ClassPreloadInitializer(applicationContext, new ParallelInvocation(), recorder);
+    }
+
+    @Test
+    void warmUp_loadsAndInitializesRecordedClasses() throws IOException {
+        when(applicationContext.getClassLoader()).thenReturn(getClass().getClassLoader());
+        final var file = directory.resolve("classes.lst");
+        // Referenced by name only, so it is not initialized before the WarmUp
+        Files.write(
+                file,
+                List.of(getClass().getName() + "$Preloaded", "", "com.example.Missing", String.class.getName()),
+                UTF_8);
+        final var preloading = ClassPreloading.defaults(file);
+
+        initializer.warmUp(
+                new WarmUpBuilderImpl().enableClassPreloading(preloading).build());
+
+        assertThat(INITIALIZED).isTrue();
+        verify(recorder).start(preloading, List.of(getClass().getName() + "$Preloaded", String.class.getName()));
+    }
+
+    @Test
+    void warmUp_startsRecordingWithoutClassList() {
+        final var preloading = ClassPreloading.defaults(directory.resolve("missing.lst"));
+
+        initializer.warmUp(
+                new WarmUpBuilderImpl().enableClassPreloading(preloading).build());
+
+        verify(recorder).start(preloading, List.of());
+    }
+
+    @Test
+    void warmUp_startsRecordingAfterPreloading() throws IOException {
+        when(applicationContext.getClassLoader()).thenReturn(getClass().getClassLoader());
+        final var file = directory.resolve("classes.lst");
+        Files.write(file, List.of(getClass().getName() + "$RecordedLater"), UTF_8);
+        final var preloading = ClassPreloading.defaults(file);
+        doAnswer(invocation -> {
+                    assertThat(RECORDED_LATER_INITIALIZED).isTrue();
+                    return null;
+                })
+                .when(recorder)
+                .start(eq(preloading), any());
+
+        initializer.warmUp(
+                new WarmUpBuilderImpl().enableClassPreloading(preloading).build());
+
+        verify(recorder).start(preloading, List.of(getClass().getName() + "$RecordedLater"));
+    }
+
+    @Test
+    void warmUp_doesNothingWhenDisabled() {
+        initializer.warmUp(new WarmUpBuilderImpl().build());
+
+        verifyNoInteractions(recorder, applicationContext);
+    }
+
+    static class Preloaded {
+        static {
+            INITIALIZED.set(true);
+        }
+    }
+
+    static class RecordedLater {
+        static {
+            RECORDED_LATER_INITIALIZED.set(true);
+        }
+    }
+}
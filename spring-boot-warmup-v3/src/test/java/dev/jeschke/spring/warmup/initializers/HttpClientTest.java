@@ -0,0 +1,80 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import dev.jeschke.spring.warmup.Endpoint;
+import dev.jeschke.spring.warmup.WarmUpFactory;
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import dev.jeschke.spring.warmup.listener.WarmUpCall;
+import dev.jeschke.spring.warmup.listener.WarmUpListeners;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+class HttpClientTest {
+
+    private static final WarmUpCall CALL = new WarmUpCall("test", new Endpoint("/invalid"), 0);
+
+    private final WarmUpFactory warmUpFactory = mock(WarmUpFactory.class);
+    private final InProcessDispatcher dispatcher = mock(InProcessDispatcher.class);
+    private final WarmUpSettings settings = mock(WarmUpSettings.class);
+
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<InProcessDispatcher> dispatcherProvider = mock(ObjectProvider.class);
+
+    private final HttpClient httpClient = new HttpClient(
+            mock(ApplicationContext.class),
+            warmUpFactory,
+            dispatcherProvider,
+            mock(WarmUpListeners.class),
+            mock(AllocationMonitor.class));
+
+    @BeforeEach
+    void setUp() {
+        when(settings.enableInProcessDispatch()).thenReturn(true);
+        when(warmUpFactory.getCachedSettings()).thenReturn(Optional.of(settings));
+        when(dispatcherProvider.getIfAvailable()).thenReturn(dispatcher);
+    }
+
+    @Test
+    void callEndpointExpecting_acceptsExpectedStatus() throws Exception {
+        when(dispatcher.dispatch(any(), any())).thenReturn(HttpStatus.BAD_REQUEST);
+
+        assertThatNoException()
+                .isThrownBy(() -> httpClient.callEndpointExpecting(CALL, settings, HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void callEndpointExpecting_failsOnOtherClientError() throws Exception {
+        when(dispatcher.dispatch(any(), any())).thenReturn(HttpStatus.UNAUTHORIZED);
+
+        assertThatThrownBy(() -> httpClient.callEndpointExpecting(CALL, settings, HttpStatus.BAD_REQUEST))
+                .isInstanceOf(HttpClientErrorException.Unauthorized.class);
+    }
+
+    @Test
+    void callEndpointExpecting_failsOnSuccess() throws Exception {
+        when(dispatcher.dispatch(any(), any())).thenReturn(HttpStatus.OK);
+
+        assertThatThrownBy(() -> httpClient.callEndpointExpecting(CALL, settings, HttpStatus.BAD_REQUEST))
+                .isInstanceOf(RestClientException.class)
+                .hasMessageContaining("expected 400");
+    }
+
+    @Test
+    void callEndpoint_failsOnClientError() throws Exception {
+        when(dispatcher.dispatch(any(), any())).thenReturn(HttpStatus.BAD_REQUEST);
+
+        assertThatThrownBy(() -> httpClient.callEndpoint(CALL, settings))
+                .isInstanceOf(HttpClientErrorException.BadRequest.class);
+    }
+}
@@ -0,0 +1,102 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import dev.jeschke.spring.warmup.builder.WarmUpBuilderImpl;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+
+class JdbcInitializerTest {
+
+    private final ApplicationContext applicationContext = mock(ApplicationContext.class);
+    private final JdbcInitializer initializer = new JdbcInitializer(applicationContext);
+
+    private HikariDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        final var config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:jdbcInitializer");
+        config.setMinimumIdle(1);
+        config.setMaximumPoolSize(5);
+        dataSource = new HikariDataSource(config);
+        try (final var connection = dataSource.getConnection();
+                final var statement = connection.createStatement()) {
+            statement.execute("CREATE SEQUENCE calls");
+        }
+        when(applicationContext.getBeansOfType(DataSource.class)).thenReturn(Map.of("dataSource", dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    private long countCalls() throws SQLException {
+        try (final var connection = dataSource.getConnection();
+                final var statement = connection.createStatement();
+                final var resultSet = statement.executeQuery("SELECT NEXT VALUE FOR calls")) {
+            resultSet.next();
+            return resultSet.getLong(1) - 1;
+        }
+    }
+
+    @Test
+    void warmUp_fillsPoolAndExecutesStatementsOnEachConnection() throws SQLException {
+        initializer.warmUp(new WarmUpBuilderImpl()
+                .enableJdbcWarmUp(4, "SELECT NEXT VALUE FOR calls")
+                .build());
+
+        assertThat(dataSource.getHikariPoolMXBean().getIdleConnections()).isGreaterThanOrEqualTo(4);
+        assertThat(dataSource.getHikariPoolMXBean().getActiveConnections()).isZero();
+        assertThat(countCalls()).isEqualTo(4);
+    }
+
+    @Test
+    void warmUp_returnsConnectionsWhenStatementFails() throws SQLException {
+        initializer.warmUp(new WarmUpBuilderImpl()
+                .enableJdbcWarmUp(2, "SELECT NEXT VALUE FOR calls", "SELECT * FROM missing_table")
+                .build());
+
+        assertThat(dataSource.getHikariPoolMXBean().getActiveConnections()).isZero();
+        assertThat(countCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void warmUp_executesStatementsReadOnly() throws SQLException {
+        final var connection = mock(Connection.class);
+        final var statement = mock(PreparedStatement.class);
+        final var mockDataSource = mock(DataSource.class);
+        when(mockDataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement);
+        when(applicationContext.getBeansOfType(DataSource.class)).thenReturn(Map.of("dataSource", mockDataSource));
+
+        initializer.warmUp(
+                new WarmUpBuilderImpl().enableJdbcWarmUp(1, "SELECT 1").build());
+
+        final var inOrder = inOrder(connection, statement);
+        inOrder.verify(connection).setReadOnly(true);
+        inOrder.verify(statement).execute();
+        inOrder.verify(connection).setReadOnly(false);
+        inOrder.verify(connection).close();
+    }
+
+    @Test
+    void warmUp_doesNothingWhenDisabled() throws SQLException {
+        initializer.warmUp(new WarmUpBuilderImpl().build());
+
+        assertThat(countCalls()).isZero();
+    }
+}
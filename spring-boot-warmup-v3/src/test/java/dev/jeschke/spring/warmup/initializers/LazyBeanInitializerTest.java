@@ -0,0 +1,94 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.jeschke.spring.warmup.builder.WarmUpBuilderImpl;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.support.GenericApplicationContext;
+
+class LazyBeanInitializerTest {
+
+    private final GenericApplicationContext context = new GenericApplicationContext();
+    private final LazyBeanInitializer initializer = new LazyBeanInitializer(context, new ParallelInvocation());
+
+    @BeforeEach
+    void setUp() {
+        context.registerBean("leaf", Leaf.class, definition -> definition.setLazyInit(true));
+        context.registerBean("middle", Middle.class, definition -> definition.setLazyInit(true));
+        context.registerBean("root", Root.class, definition -> definition.setLazyInit(true));
+        context.registerBean("failing", Failing.class, definition -> definition.setLazyInit(true));
+        context.registerBean("prototype", Prototype.class, definition -> {
+            definition.setLazyInit(true);
+            definition.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+        });
+        context.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void warmUp_createsLazySingletons() {
+        initializer.warmUp(
+                new WarmUpBuilderImpl().enableLazyBeanInitialization().build());
+
+        final var beanFactory = context.getBeanFactory();
+        assertThat(beanFactory.containsSingleton("leaf")).isTrue();
+        assertThat(beanFactory.containsSingleton("middle")).isTrue();
+        assertThat(beanFactory.containsSingleton("root")).isTrue();
+        assertThat(beanFactory.containsSingleton("failing")).isFalse();
+        assertThat(beanFactory.containsSingleton("prototype")).isFalse();
+    }
+
+    @Test
+    void warmUp_doesNothingWhenDisabled() {
+        initializer.warmUp(new WarmUpBuilderImpl().build());
+
+        assertThat(context.getBeanFactory().containsSingleton("leaf")).isFalse();
+    }
+
+    @Test
+    void buildPlan_createsDependenciesFirst() {
+        final var plan = LazyBeanInitializer.buildPlan(
+                Map.of("a", Set.of(), "b", Set.of("a"), "c", Set.of("a", "b"), "d", Set.of()));
+
+        assertThat(plan).hasSize(3);
+        assertThat(plan.get(0)).containsExactlyInAnyOrder("a", "d");
+        assertThat(plan.get(1)).containsExactly("b");
+        assertThat(plan.get(2)).containsExactly("c");
+    }
+
+    @Test
+    void buildPlan_createsCyclesLast() {
+        final var plan = LazyBeanInitializer.buildPlan(Map.of("a", Set.of(), "b", Set.of("a", "c"), "c", Set.of("b")));
+
+        assertThat(plan).hasSize(2);
+        assertThat(plan.get(0)).containsExactly("a");
+        assertThat(plan.get(1)).containsExactlyInAnyOrder("b", "c");
+    }
+
+    static class Leaf {}
+
+    static class Prototype {}
+
+    static class Middle {
+        public Middle(final Leaf leaf) {}
+    }
+
+    static class Root {
+        public Root(final Middle middle) {}
+    }
+
+    static class Failing {
+        public Failing() {
+            throw new IllegalStateException("Expected failure");
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.jeschke.spring.warmup.LoadProfile;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class LoadGeneratorTest {
+
+    private final LoadGenerator loadGenerator = new LoadGenerator();
+
+    @Test
+    void generate_sendsAtTargetRate() throws InterruptedException {
+        final var first = new AtomicInteger();
+        final var second = new AtomicInteger();
+        final var profile = new LoadProfile(100, Duration.ZERO, Duration.ofMillis(500), 10);
+
+        loadGenerator.generate(profile, List.of(first::incrementAndGet, second::incrementAndGet));
+
+        // 100 requests per second for half a second, taking turns between both calls
+        assertThat(first.get() + second.get()).isBetween(40, 60);
+        assertThat(first.get() - second.get()).isBetween(-1, 1);
+    }
+
+    @Test
+    void generate_rampsUp() throws InterruptedException {
+        final var calls = new AtomicInteger();
+        final var profile = new LoadProfile(100, Duration.ofMillis(500), Duration.ZERO, 10);
+
+        loadGenerator.generate(profile, List.of(calls::incrementAndGet));
+
+        // Linear ramp up to 100 requests per second during half a second
+        assertThat(calls.get()).isBetween(15, 35);
+    }
+
+    @Test
+    void generate_limitsRequestsInFlight() throws InterruptedException {
+        final var inFlight = new AtomicInteger();
+        final var maxInFlight = new AtomicInteger();
+        final var release = new CountDownLatch(1);
+        final var profile = new LoadProfile(200, Duration.ZERO, Duration.ofMillis(200), 2);
+
+        loadGenerator.generate(profile, List.of(() -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }));
+        release.countDown();
+
+        assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+}
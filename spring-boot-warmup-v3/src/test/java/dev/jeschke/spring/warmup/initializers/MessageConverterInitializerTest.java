@@ -0,0 +1,116 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import dev.jeschke.spring.warmup.builder.WarmUpBuilderImpl;
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+class MessageConverterInitializerTest {
+
+    private final ApplicationContext applicationContext = mock(ApplicationContext.class);
+    private final RequestMappingHandlerMapping handlerMapping = mock(RequestMappingHandlerMapping.class);
+    private final RequestMappingHandlerAdapter handlerAdapter = mock(RequestMappingHandlerAdapter.class);
+    private final StringHttpMessageConverter stringConverter = spy(new StringHttpMessageConverter());
+    private final MappingJackson2HttpMessageConverter jsonConverter = spy(new MappingJackson2HttpMessageConverter());
+    private final MessageConverterInitializer initializer =
+            new MessageConverterInitializer(applicationContext, new RequestBodyGenerator());
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        final var controller = new TestController();
+        when(handlerMapping.getHandlerMethods())
+                .thenReturn(Map.of(
+                        RequestMappingInfo.paths("/post")
+                                .produces("application/json")
+                                .build(),
+                        new HandlerMethod(controller, TestController.class.getMethod("post", TestBody.class)),
+                        RequestMappingInfo.paths("/get").produces("text/plain").build(),
+                        new HandlerMethod(controller, TestController.class.getMethod("get"))));
+        when(handlerAdapter.getMessageConverters())
+                .thenReturn(List.<HttpMessageConverter<?>>of(stringConverter, jsonConverter));
+        when(applicationContext.getBeansOfType(RequestMappingHandlerMapping.class))
+                .thenReturn(Map.of("requestMappingHandlerMapping", handlerMapping));
+        when(applicationContext.getBeansOfType(RequestMappingHandlerAdapter.class))
+                .thenReturn(Map.of("requestMappingHandlerAdapter", handlerAdapter));
+    }
+
+    @Test
+    void warmUp_convertsRequestBodies() throws IOException {
+        initializer.warmUp(
+                new WarmUpBuilderImpl().enableMessageConverterWarmUp().build());
+
+        verify(jsonConverter).write(any(TestBody.class), eq(TestBody.class), eq(MediaType.APPLICATION_JSON), any());
+        verify(jsonConverter).read(eq(TestBody.class), eq(TestController.class), any());
+    }
+
+    @Test
+    void warmUp_convertsGenericResponseBodiesWithoutEntity() throws IOException {
+        initializer.warmUp(
+                new WarmUpBuilderImpl().enableMessageConverterWarmUp().build());
+
+        verify(jsonConverter)
+                .write(
+                        argThat(value -> value instanceof List<?> list && list.get(0) instanceof TestBody),
+                        argThat(type -> type instanceof ParameterizedType parameterized
+                                && parameterized.getRawType() == List.class),
+                        eq(MediaType.APPLICATION_JSON),
+                        any());
+    }
+
+    @Test
+    void warmUp_usesNonGenericConverters() throws IOException {
+        initializer.warmUp(
+                new WarmUpBuilderImpl().enableMessageConverterWarmUp().build());
+
+        verify(stringConverter).write(eq("warmup"), eq(MediaType.TEXT_PLAIN), any());
+        verify(stringConverter).read(eq(String.class), any());
+    }
+
+    @Test
+    void warmUp_doesNothingByDefault() {
+        initializer.warmUp(new WarmUpBuilderImpl().build());
+
+        verifyNoInteractions(handlerMapping, handlerAdapter, jsonConverter);
+    }
+
+    record TestBody(String name, int count) {}
+
+    @RestController
+    static class TestController {
+        @PostMapping(value = "/post", produces = "application/json")
+        public ResponseEntity<List<TestBody>> post(@RequestBody final TestBody body) {
+            return ResponseEntity.ok(List.of(body));
+        }
+
+        @GetMapping(value = "/get", produces = "text/plain")
+        public String get() {
+            return "get";
+        }
+    }
+}
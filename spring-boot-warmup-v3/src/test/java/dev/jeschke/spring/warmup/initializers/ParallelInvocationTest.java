@@ -0,0 +1,51 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.jeschke.spring.warmup.initializers.ParallelInvocation.Invocation;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ParallelInvocationTest {
+
+    private final ParallelInvocation parallelInvocation = new ParallelInvocation();
+
+    @Test
+    void invokeAll_sequential_runsOnCallingThread() throws InterruptedException {
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final Invocation invocation = () -> threads.add(Thread.currentThread());
+
+        parallelInvocation.invokeAll(1, List.of(invocation, invocation));
+
+        assertThat(threads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    void invokeAll_parallel_runsConcurrently() throws InterruptedException {
+        final var latch = new CountDownLatch(3);
+        final Invocation invocation = () -> {
+            latch.countDown();
+            // Only returns if all invocations run at the same time
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        };
+
+        parallelInvocation.invokeAll(3, List.of(invocation, invocation, invocation));
+
+        assertThat(latch.getCount()).isZero();
+    }
+
+    @Test
+    void invokeAll_parallel_rethrowsFailure() {
+        final var exception = new IllegalStateException("test");
+
+        assertThatThrownBy(() -> parallelInvocation.invokeAll(2, List.of(() -> {}, () -> {
+                    throw exception;
+                })))
+                .isSameAs(exception);
+    }
+}
@@ -0,0 +1,222 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.jeschke.spring.warmup.CompilerPacing;
+import dev.jeschke.spring.warmup.LatencyConvergence;
+import dev.jeschke.spring.warmup.LatencyTarget;
+import dev.jeschke.spring.warmup.internal.RepeatingWarmUpSettings;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RepeatingInvocationTest {
+
+    @Mock
+    private Runnable runnable;
+
+    @Mock
+    private CompilationMonitor compilationMonitor;
+
+    @Spy
+    private LatencyTargets latencyTargets;
+
+    @InjectMocks
+    private RepeatingInvocation repeatingInvocation;
+
+    @Test
+    void invoke_fixedTimes() throws InterruptedException {
+        repeatingInvocation.invoke(new RepeatingWarmUpSettings(3, Duration.ZERO, null), runnable);
+
+        verify(runnable, times(3)).run();
+    }
+
+    @Test
+    void invoke_untilStable_stopsAfterMinTimesIfStable() throws InterruptedException {
+        // A tolerance this high accepts any latency as stable
+        final var convergence = new LatencyConvergence(4, 100, 2, Double.MAX_VALUE);
+
+        repeatingInvocation.invoke(new RepeatingWarmUpSettings(100, Duration.ZERO, null, convergence, null), runnable);
+
+        verify(runnable, times(4)).run();
+    }
+
+    @Test
+    void invoke_untilStable_stopsAfterMaxTimes() throws InterruptedException {
+        final var convergence = new LatencyConvergence(1, 7, 2, 0.1);
+        final var calls = new AtomicInteger();
+        // Every call takes longer than the one before, so latency never converges
+        final Runnable unstable = () -> {
+            runnable.run();
+            try {
+                Thread.sleep(10L * calls.incrementAndGet());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        repeatingInvocation.invokeUntilStable(convergence, Duration.ZERO, unstable);
+
+        verify(runnable, times(7)).run();
+    }
+
+    @Test
+    void invoke_compilerPaced_stopsWhenCompilationPlateaus() throws InterruptedException {
+        when(compilationMonitor.isAvailable()).thenReturn(true);
+        when(compilationMonitor.getTotalCompilationTime()).thenReturn(100L);
+        final var pacing = new CompilerPacing(3, 10, Duration.ZERO, Duration.ZERO);
+
+        repeatingInvocation.invoke(new RepeatingWarmUpSettings(30, Duration.ZERO, null, null, pacing), runnable);
+
+        verify(runnable, times(3)).run();
+    }
+
+    @Test
+    void invoke_compilerPaced_stopsAfterMaxBursts() throws InterruptedException {
+        final var compilationTime = new AtomicLong();
+        when(compilationMonitor.isAvailable()).thenReturn(true);
+        // The compiler is always busy
+        when(compilationMonitor.getTotalCompilationTime()).thenAnswer(invocation -> compilationTime.addAndGet(10));
+        final var pacing = new CompilerPacing(3, 4, Duration.ZERO, Duration.ZERO);
+
+        repeatingInvocation.invokeCompilerPaced(pacing, runnable);
+
+        verify(runnable, times(12)).run();
+    }
+
+    @Test
+    void repetition_compilerPaced_pollsInSeparateSteps() throws InterruptedException {
+        final var compilationTime = new AtomicLong();
+        when(compilationMonitor.isAvailable()).thenReturn(true);
+        when(compilationMonitor.getTotalCompilationTime()).thenAnswer(invocation -> compilationTime.addAndGet(10));
+        final var pacing = new CompilerPacing(3, 4, Duration.ofHours(1), Duration.ZERO);
+        final var repetition = repeatingInvocation.repetition(
+                new RepeatingWarmUpSettings(12, Duration.ZERO, null, null, pacing), runnable);
+
+        // Returns instead of waiting for the compiler, which would block the shared scheduler for hours
+        assertThat(repetition.invokeNext()).isTrue();
+        assertThat(repetition.interval()).isEqualTo(Duration.ofHours(1));
+        assertThat(repetition.invokeNext()).isTrue();
+
+        verify(runnable, times(3)).run();
+    }
+
+    @Test
+    void invoke_compilerPaced_unavailable() throws InterruptedException {
+        when(compilationMonitor.isAvailable()).thenReturn(false);
+
+        repeatingInvocation.invokeCompilerPaced(new CompilerPacing(3, 4, Duration.ZERO, Duration.ZERO), runnable);
+
+        verify(runnable, times(3)).run();
+    }
+
+    @Test
+    void invoke_latencyTarget_stopsOnceFastEnough() throws InterruptedException {
+        // Any call is faster than a minute
+        final var target = new LatencyTarget(Duration.ofMinutes(1), 3, 100);
+
+        repeatingInvocation.invoke(new RepeatingWarmUpSettings(100, Duration.ZERO, null, null, null, target), runnable);
+
+        verify(runnable, times(3)).run();
+        assertThat(latencyTargets.allMet()).isTrue();
+    }
+
+    @Test
+    void invoke_latencyTarget_stopsAfterMaxTimes() throws InterruptedException {
+        final var target = new LatencyTarget(Duration.ofNanos(1), 2, 5);
+        final Runnable slow = () -> {
+            runnable.run();
+            try {
+                Thread.sleep(1);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        repeatingInvocation.invoke(new RepeatingWarmUpSettings(5, Duration.ZERO, null, null, null, target), slow);
+
+        verify(runnable, times(5)).run();
+        assertThat(latencyTargets.allMet()).isFalse();
+    }
+
+    @Test
+    void invoke_latencyTarget_failedCallDoesNotMissTarget() {
+        final var target = new LatencyTarget(Duration.ofMinutes(1), 3, 100);
+        final var registration = new AtomicReference<LatencyTargets.Registration>();
+        doAnswer(invocation -> {
+                    registration.set((LatencyTargets.Registration) invocation.callRealMethod());
+                    return registration.get();
+                })
+                .when(latencyTargets)
+                .register();
+        doThrow(new IllegalStateException("Call failed")).when(runnable).run();
+
+        assertThatThrownBy(() -> repeatingInvocation.invoke(
+                        new RepeatingWarmUpSettings(100, Duration.ZERO, null, null, null, target), runnable))
+                .isInstanceOf(IllegalStateException.class);
+        // Already released, so this does not count anymore
+        registration.get().missed();
+
+        verify(runnable).run();
+        assertThat(latencyTargets.allMet()).isTrue();
+    }
+
+    @Test
+    void latencyTargets_releasePending_doesNotMissUnresolvedTargets() {
+        final var met = latencyTargets.register();
+        latencyTargets.register();
+        met.met();
+
+        assertThat(latencyTargets.allMet()).isFalse();
+
+        latencyTargets.releasePending();
+
+        assertThat(latencyTargets.allMet()).isTrue();
+    }
+
+    @Test
+    void latencyTargets_clear_forgetsMissedTargets() {
+        latencyTargets.register().missed();
+        latencyTargets.register();
+
+        latencyTargets.clear();
+        latencyTargets.register();
+
+        assertThat(latencyTargets.allMet()).isTrue();
+    }
+
+    @Test
+    void latencyTargets_onlyFirstResolutionCounts() {
+        final var registration = latencyTargets.register();
+
+        registration.met();
+        registration.missed();
+
+        assertThat(latencyTargets.allMet()).isTrue();
+    }
+
+    @Test
+    void latencyTargets_pendingUntilDone() {
+        final var registration = latencyTargets.register();
+
+        assertThat(latencyTargets.allMet()).isFalse();
+
+        registration.met();
+
+        assertThat(latencyTargets.allMet()).isTrue();
+    }
+}
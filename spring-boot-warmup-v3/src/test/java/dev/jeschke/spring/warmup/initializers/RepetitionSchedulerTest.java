@@ -0,0 +1,45 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+class RepetitionSchedulerTest {
+
+    private static final Duration INTERVAL = Duration.ofMillis(200);
+
+    private final RepetitionScheduler scheduler = new RepetitionScheduler();
+
+    @Test
+    void invokeAll_interleavesRepetitions() throws InterruptedException {
+        final var calls = new CopyOnWriteArrayList<String>();
+
+        final var start = System.nanoTime();
+        scheduler.invokeAll(
+                1,
+                List.of(
+                        Repetition.fixed(3, INTERVAL, () -> calls.add("a")),
+                        Repetition.fixed(3, INTERVAL, () -> calls.add("b")),
+                        Repetition.fixed(3, INTERVAL, () -> calls.add("c"))));
+        final var duration = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(calls).containsExactly("a", "b", "c", "a", "b", "c", "a", "b", "c");
+        // Two intervals per repetition, but all repetitions wait at the same time
+        assertThat(duration).isLessThan(INTERVAL.multipliedBy(5));
+    }
+
+    @Test
+    void invokeAll_rethrowsFailure() {
+        final var exception = new IllegalStateException("test");
+
+        assertThatThrownBy(() -> scheduler.invokeAll(
+                        2, List.of(Repetition.fixed(100, INTERVAL, () -> {}), Repetition.once(() -> {
+                            throw exception;
+                        }))))
+                .isSameAs(exception);
+    }
+}
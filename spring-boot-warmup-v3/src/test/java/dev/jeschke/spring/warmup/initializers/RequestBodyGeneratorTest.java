@@ -0,0 +1,191 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Negative;
+import jakarta.validation.constraints.Null;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+@ExtendWith(OutputCaptureExtension.class)
+class RequestBodyGeneratorTest {
+
+    private final RequestBodyGenerator generator = new RequestBodyGenerator();
+
+    @Test
+    void generate_usesNoArgsConstructor() {
+        assertThat(generator.generate(StringBuilder.class)).containsInstanceOf(StringBuilder.class);
+    }
+
+    @Test
+    void generate_satisfiesConstraintsOfRecords() {
+        final var body =
+                (ConstrainedRecord) generator.generate(ConstrainedRecord.class).orElseThrow();
+
+        assertThat(body.code()).matches("[A-Z]+").hasSizeBetween(3, 5);
+        assertThat(body.count()).isPositive();
+        assertThat(body.balance()).isNegative();
+        assertThat(body.price()).isGreaterThan(new BigDecimal("9.99")).isLessThanOrEqualTo(new BigDecimal("10.5"));
+        assertThat(body.amount().precision() - body.amount().scale()).isLessThanOrEqualTo(2);
+        assertThat(body.deadline()).isAfter(Instant.now());
+        assertThat(body.ignored()).isNull();
+    }
+
+    @Test
+    void generate_fillsContainersAndNestedTypes() {
+        final var body =
+                (ContainerRecord) generator.generate(ContainerRecord.class).orElseThrow();
+
+        assertThat(body.ids()).hasSize(3).doesNotContainNull();
+        assertThat(body.kind()).isEqualTo(Kind.FIRST);
+        assertThat(body.nested()).isNotEmpty().allSatisfy(nested -> assertThat(nested.count())
+                .isPositive());
+        assertThat(body.values()).containsOnlyKeys("key0");
+        assertThat(body.labels()).hasSize(1);
+        assertThat(body.note()).contains("warmup");
+        assertThat(body.numbers()).hasSize(1);
+    }
+
+    @Test
+    void generate_usesJsonCreator() {
+        final var body = (CreatorBody) generator.generate(CreatorBody.class).orElseThrow();
+
+        assertThat(body.getName()).hasSize(10);
+    }
+
+    @Test
+    void generate_usesBuilder() {
+        final var body = (BuilderBody) generator.generate(BuilderBody.class).orElseThrow();
+
+        assertThat(body.getName()).hasSizeGreaterThanOrEqualTo(12);
+        assertThat(body.getCount()).isPositive();
+    }
+
+    @Test
+    void generate_usesLargestConstructor() {
+        final var body =
+                (ConstructorBody) generator.generate(ConstructorBody.class).orElseThrow();
+
+        assertThat(body.getName()).isEqualTo("warmup");
+        assertThat(body.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void generate_leavesUntypedValuesEmpty() {
+        final var body = (UntypedRecord) generator.generate(UntypedRecord.class).orElseThrow();
+
+        assertThat(body.values()).isEmpty();
+        assertThat(body.items()).isEmpty();
+        assertThat(body.value()).isNull();
+    }
+
+    @Test
+    void generate_returnsEmptyForAbstractTypes() {
+        assertThat(generator.generate(Runnable.class)).isEmpty();
+    }
+
+    @Test
+    void generate_logsFailedRequestBodyAsError(final CapturedOutput output) {
+        assertThat(generator.generate(FailingBody.class)).isEmpty();
+
+        assertThat(output).contains("Failed to create a request body of type");
+    }
+
+    @Test
+    void generateValue_doesNotLogFailureAsRequestBody(final CapturedOutput output) {
+        assertThat(generator.generateValue(FailingBody.class)).isEmpty();
+
+        assertThat(output).doesNotContain("Failed to create a request body of type");
+    }
+
+    record ConstrainedRecord(
+            @Pattern(regexp = "[A-Z]+") @Size(min = 3, max = 5) String code,
+            @Positive long count,
+            @Negative Integer balance,
+            @DecimalMin(value = "9.99", inclusive = false) @DecimalMax("10.5") BigDecimal price,
+            @Digits(integer = 2, fraction = 0) BigDecimal amount,
+            @Future Instant deadline,
+            @Null String ignored) {}
+
+    record ContainerRecord(
+            @Size(min = 3) List<UUID> ids,
+            Kind kind,
+            List<ConstrainedRecord> nested,
+            Map<String, Integer> values,
+            Set<String> labels,
+            Optional<String> note,
+            int[] numbers) {}
+
+    record UntypedRecord(Map<String, Object> values, List<?> items, Object value) {}
+
+    enum Kind {
+        FIRST,
+        SECOND
+    }
+
+    @Getter
+    public static class CreatorBody {
+        @Size(min = 10, max = 10)
+        private final String name;
+
+        private CreatorBody(final String name) {
+            this.name = name;
+        }
+
+        @JsonCreator
+        public static CreatorBody of(@JsonProperty("name") final String name) {
+            return new CreatorBody(name);
+        }
+    }
+
+    @Getter
+    @Builder
+    static class BuilderBody {
+        @Size(min = 12)
+        private final String name;
+
+        @Positive
+        private final int count;
+    }
+
+    public static class FailingBody {
+        public FailingBody(final String name) {
+            throw new IllegalArgumentException("Invalid name " + name);
+        }
+    }
+
+    @Getter
+    public static class ConstructorBody {
+        private final String name;
+        private final int count;
+
+        public ConstructorBody(final String name) {
+            this(name, 0);
+        }
+
+        public ConstructorBody(final String name, final int count) {
+            this.name = name;
+            this.count = count;
+        }
+    }
+}
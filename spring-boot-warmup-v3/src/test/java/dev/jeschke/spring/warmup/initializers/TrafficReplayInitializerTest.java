@@ -0,0 +1,131 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import dev.jeschke.spring.warmup.Endpoint;
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import dev.jeschke.spring.warmup.listener.WarmUpCall;
+import dev.jeschke.spring.warmup.listener.WarmUpListeners;
+import dev.jeschke.spring.warmup.recording.RecordedRequest;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+@ExtendWith(MockitoExtension.class)
+class TrafficReplayInitializerTest {
+
+    @Mock
+    private HttpClient httpClient;
+
+    @Spy
+    private RepetitionScheduler repetitionScheduler;
+
+    @Mock
+    private WarmUpSettings settings;
+
+    @Mock
+    private WarmUpListeners listeners;
+
+    @TempDir
+    private Path directory;
+
+    private TrafficReplayInitializer initializer;
+
+    @BeforeEach
+    void setUp() {
+        initializer = new TrafficReplayInitializer(httpClient, repetitionScheduler, listeners);
+    }
+
+    @Test
+    void warmUp_replaysRecordedRequests() throws IOException {
+        final var file = directory.resolve("traffic.rec");
+        Files.write(
+                file,
+                List.of(
+                        new RecordedRequest(
+                                        "POST",
+                                        "/orders/4%202",
+                                        "expand=all%20items&q=a%26b%3Dc%2Bd%2Fe",
+                                        Map.of("Accept", "application/json"),
+                                        "application/json",
+                                        "{}".getBytes(UTF_8))
+                                .toLine(),
+                        "malformed",
+                        new RecordedRequest("GET", "/orders", "", Map.of(), null, new byte[0]).toLine()),
+                UTF_8);
+        when(settings.trafficReplayFile()).thenReturn(file);
+        when(settings.parallelism()).thenReturn(1);
+
+        initializer.warmUp(settings);
+
+        final var captor = ArgumentCaptor.forClass(WarmUpCall.class);
+        verify(httpClient, times(2)).callEndpoint(captor.capture(), eq(settings));
+        final var endpoints =
+                captor.getAllValues().stream().map(WarmUpCall::endpoint).toList();
+        assertThat(endpoints)
+                .extracting(Endpoint::method, Endpoint::path, Endpoint::headers)
+                .containsExactly(
+                        tuple(
+                                "POST",
+                                "/orders/4%202?expand=all%20items&q=a%26b%3Dc%2Bd%2Fe",
+                                Map.of("Accept", "application/json")),
+                        tuple("GET", "/orders", Map.of()));
+        assertThat(endpoints.get(0).body()).isEqualTo("{}".getBytes(UTF_8));
+        assertThat(endpoints.get(1).body()).isNull();
+        verify(listeners).endpointsScheduled("TrafficReplayInitializer", 2);
+        verify(listeners, times(2)).endpointFinished(eq("TrafficReplayInitializer"), any());
+    }
+
+    @Test
+    void warmUp_continuesAfterFailedRequest() throws IOException {
+        final var file = directory.resolve("traffic.rec");
+        final var line = new RecordedRequest("GET", "/orders", "", Map.of(), null, new byte[0]).toLine();
+        Files.write(file, List.of(line, line), UTF_8);
+        when(settings.trafficReplayFile()).thenReturn(file);
+        when(settings.parallelism()).thenReturn(1);
+        doThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND))
+                .when(httpClient)
+                .callEndpoint(any(), any());
+
+        initializer.warmUp(settings);
+
+        verify(httpClient, times(2)).callEndpoint(any(), eq(settings));
+    }
+
+    @Test
+    void warmUp_missingFile() {
+        when(settings.trafficReplayFile()).thenReturn(directory.resolve("missing.rec"));
+
+        initializer.warmUp(settings);
+
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    void warmUp_disabled() {
+        initializer.warmUp(settings);
+
+        verifyNoInteractions(httpClient);
+    }
+}
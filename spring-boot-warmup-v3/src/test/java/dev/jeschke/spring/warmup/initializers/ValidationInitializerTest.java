@@ -0,0 +1,112 @@
+package dev.jeschke.spring.warmup.initializers;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import dev.jeschke.spring.warmup.builder.WarmUpBuilderImpl;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.metadata.BeanDescriptor;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationContext;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+class ValidationInitializerTest {
+
+    private final ApplicationContext applicationContext = mock(ApplicationContext.class);
+    private final RequestMappingHandlerMapping handlerMapping = mock(RequestMappingHandlerMapping.class);
+    private final Validator validator = mock(Validator.class);
+    private final BeanDescriptor constrained = mock(BeanDescriptor.class);
+
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<Validator> validatorProvider = mock(ObjectProvider.class);
+
+    private final ValidationInitializer initializer =
+            new ValidationInitializer(applicationContext, validatorProvider, new RequestBodyGenerator());
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        final var controller = new TestController();
+        when(handlerMapping.getHandlerMethods())
+                .thenReturn(Map.of(
+                        RequestMappingInfo.paths("/post").build(),
+                        new HandlerMethod(controller, TestController.class.getMethod("post", TestBody.class)),
+                        RequestMappingInfo.paths("/postItems").build(),
+                        new HandlerMethod(controller, TestController.class.getMethod("postItems", List.class)),
+                        RequestMappingInfo.paths("/postUnvalidated").build(),
+                        new HandlerMethod(
+                                controller, TestController.class.getMethod("postUnvalidated", UnvalidatedBody.class))));
+        when(applicationContext.getBeansOfType(RequestMappingHandlerMapping.class))
+                .thenReturn(Map.of("requestMappingHandlerMapping", handlerMapping));
+        when(applicationContext.getBeanNamesForAnnotation(Validated.class)).thenReturn(new String[] {"testService"});
+        when(applicationContext.getType("testService", false)).thenAnswer(invocation -> TestService.class);
+        when(validatorProvider.getIfAvailable()).thenReturn(validator);
+        when(constrained.isBeanConstrained()).thenReturn(true);
+        when(validator.getConstraintsForClass(any())).thenReturn(constrained);
+    }
+
+    @Test
+    void warmUp_validatesGeneratedInstancesOfValidatedParameters() {
+        initializer.warmUp(new WarmUpBuilderImpl().enableValidationWarmUp().build());
+
+        verify(validator).validate(isA(TestBody.class));
+        verify(validator).validate(isA(TestItem.class));
+        verify(validator, never()).getConstraintsForClass(UnvalidatedBody.class);
+    }
+
+    @Test
+    void warmUp_onlyBuildsMetadataOfValidatedBeans() {
+        initializer.warmUp(new WarmUpBuilderImpl().enableValidationWarmUp().build());
+
+        verify(validator).getConstraintsForClass(TestService.class);
+        verify(validator, never()).validate(isA(TestService.class));
+    }
+
+    @Test
+    void warmUp_ignoresMissingValidationProvider() {
+        when(validator.getConstraintsForClass(any())).thenThrow(new IllegalStateException("No target Validator set"));
+
+        assertThatCode(() -> initializer.warmUp(
+                        new WarmUpBuilderImpl().enableValidationWarmUp().build()))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void warmUp_doesNothingByDefault() {
+        initializer.warmUp(new WarmUpBuilderImpl().build());
+
+        verifyNoInteractions(validator, handlerMapping);
+    }
+
+    record TestBody(@NotBlank String name) {}
+
+    record TestItem(@NotBlank String name) {}
+
+    record UnvalidatedBody(String name) {}
+
+    @Validated
+    static class TestService {}
+
+    static class TestController {
+        public void post(@RequestBody @Valid final TestBody body) {}
+
+        public void postItems(@RequestBody @Validated final List<TestItem> items) {}
+
+        public void postUnvalidated(@RequestBody final UnvalidatedBody body) {}
+    }
+}
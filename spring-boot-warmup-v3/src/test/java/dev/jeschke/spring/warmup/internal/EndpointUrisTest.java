@@ -0,0 +1,36 @@
+package dev.jeschke.spring.warmup.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class EndpointUrisTest {
+
+    private static final String BASE_URL = "http://localhost:8080";
+
+    @Test
+    void toUri_keepsEncodedPath() {
+        final var uri = EndpointUris.toUri(BASE_URL, "/orders/4%202?q=a%26b%3Dc%2Bd%2Fe");
+
+        assertThat(uri).hasToString("http://localhost:8080/orders/4%202?q=a%26b%3Dc%2Bd%2Fe");
+        assertThat(uri.getPath()).isEqualTo("/orders/4 2");
+    }
+
+    @Test
+    void toUri_encodesIllegalCharacters() {
+        assertThat(EndpointUris.toUri(BASE_URL, "orders/a b?q={x}"))
+                .hasToString("http://localhost:8080/orders/a%20b?q=%7Bx%7D");
+    }
+
+    @Test
+    void toUri_encodesNonAsciiCharacters() {
+        assertThat(EndpointUris.toUri(BASE_URL, "/caf%C3%A9/café"))
+                .hasToString("http://localhost:8080/caf%C3%A9/caf%C3%A9");
+    }
+
+    @Test
+    void toUri_encodesIllegalCharactersOnlyOnce() {
+        assertThat(EndpointUris.toUri(BASE_URL, "/orders/a b%20c?discount=100%"))
+                .hasToString("http://localhost:8080/orders/a%20b%20c?discount=100%25");
+    }
+}
@@ -0,0 +1,105 @@
+package dev.jeschke.spring.warmup.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import dev.jeschke.spring.warmup.Endpoint;
+import dev.jeschke.spring.warmup.WarmUpFactory;
+import dev.jeschke.spring.warmup.WarmUpRunner;
+import dev.jeschke.spring.warmup.initializers.AllocationMonitor;
+import dev.jeschke.spring.warmup.initializers.HttpClient;
+import dev.jeschke.spring.warmup.initializers.LatencyTargets;
+import dev.jeschke.spring.warmup.initializers.WarmUpInitializer;
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import dev.jeschke.spring.warmup.listener.WarmUpCall;
+import dev.jeschke.spring.warmup.listener.WarmUpListeners;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+@ExtendWith(MockitoExtension.class)
+class WarmUpEventsTest {
+
+    @Mock
+    private WarmUpFactory factory;
+
+    @Mock
+    private WarmUpListeners listeners;
+
+    @Mock
+    private WarmUpInitializer initializer;
+
+    @Mock
+    private WarmUpSettings settings;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void warmUpRunner_recordsPhases() throws Exception {
+        final var runner = new WarmUpRunner(List.of(initializer), factory, listeners, new LatencyTargets());
+        when(factory.getSettings(List.of(initializer))).thenReturn(settings);
+
+        final var events = record(() -> runner.onContextRefreshed(mock(ContextRefreshedEvent.class)));
+
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals(WarmUpPhaseEvent.NAME))
+                .extracting(event -> event.getString("phase"))
+                .containsExactlyInAnyOrder(
+                        WarmUpPhaseEvent.WARM_UP, initializer.getClass().getSimpleName());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void httpClient_recordsFailedCall() throws IOException {
+        when(factory.getCachedSettings()).thenReturn(Optional.empty());
+        final var httpClient = new HttpClient(
+                mock(ApplicationContext.class),
+                factory,
+                mock(ObjectProvider.class),
+                listeners,
+                new AllocationMonitor());
+        final var call = new WarmUpCall("HttpInitializer", new Endpoint("/path"), 2);
+
+        final var events = record(() -> assertThatThrownBy(() -> httpClient.callEndpoint(call, settings))
+                .isInstanceOf(IllegalStateException.class));
+
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals(WarmUpCallEvent.NAME))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getString("initializer")).isEqualTo("HttpInitializer");
+                    assertThat(event.getString("method")).isEqualTo("GET");
+                    assertThat(event.getString("path")).isEqualTo("/path");
+                    assertThat(event.getInt("repetition")).isEqualTo(2);
+                    assertThat(event.getBoolean("success")).isFalse();
+                });
+    }
+
+    private List<RecordedEvent> record(final Runnable runnable) throws IOException {
+        final var file = directory.resolve("recording.jfr");
+        try (final var recording = new Recording()) {
+            recording.enable(WarmUpPhaseEvent.NAME);
+            recording.enable(WarmUpCallEvent.NAME);
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+}
@@ -0,0 +1,114 @@
+package dev.jeschke.spring.warmup.listener;
+
+import static dev.jeschke.spring.warmup.listener.MicrometerWarmUpListener.CALL_TIMER;
+import static dev.jeschke.spring.warmup.listener.MicrometerWarmUpListener.DURATION_TIMER;
+import static dev.jeschke.spring.warmup.listener.MicrometerWarmUpListener.PROGRESS_GAUGE;
+import static dev.jeschke.spring.warmup.listener.MicrometerWarmUpListener.REMAINING_GAUGE;
+import static dev.jeschke.spring.warmup.listener.MicrometerWarmUpListener.UNKNOWN_PATH;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+import dev.jeschke.spring.warmup.Endpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+class MicrometerWarmUpListenerTest {
+
+    private static final Endpoint ENDPOINT = new Endpoint("/orders/42?expand=all");
+
+    private MeterRegistry registry;
+    private MicrometerWarmUpListener listener;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        registry = new SimpleMeterRegistry();
+        final var handlerMapping = new RequestMappingHandlerMapping();
+        handlerMapping.registerMapping(
+                RequestMappingInfo.paths("/orders/{id}").build(), new Object(), Object.class.getMethod("toString"));
+        handlerMapping.registerMapping(
+                RequestMappingInfo.paths("/orders/latest").build(), new Object(), Object.class.getMethod("hashCode"));
+        final var beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("registry", registry);
+        beanFactory.addBean("handlerMapping", handlerMapping);
+        listener = new MicrometerWarmUpListener(
+                beanFactory.getBeanProvider(MeterRegistry.class),
+                beanFactory.getBeanProvider(RequestMappingInfoHandlerMapping.class));
+    }
+
+    @Test
+    void callFinished_recordsTimerPerOutcome() {
+        listener.callFinished(
+                new WarmUpCall("HttpInitializer", ENDPOINT, 0), new WarmUpCallResult(Duration.ofMillis(30), 0, null));
+        listener.callFinished(
+                new WarmUpCall("HttpInitializer", ENDPOINT, 1), new WarmUpCallResult(Duration.ofMillis(20), 0, null));
+        listener.callFinished(
+                new WarmUpCall("HttpInitializer", ENDPOINT, 2),
+                new WarmUpCallResult(Duration.ofMillis(10), 0, new RuntimeException()));
+
+        final var success = registry.get(CALL_TIMER)
+                .tag("method", "GET")
+                .tag("path", "/orders/{id}")
+                .tag("initializer", "HttpInitializer")
+                .tag("outcome", "success")
+                .timer();
+        final var failure = registry.get(CALL_TIMER).tag("outcome", "failure").timer();
+        assertThat(success.count()).isEqualTo(2);
+        assertThat(success.totalTime(MILLISECONDS)).isEqualTo(50);
+        assertThat(failure.count()).isEqualTo(1);
+    }
+
+    @Test
+    void callFinished_tagsPathWithMappingPattern() {
+        listener.callFinished(
+                new WarmUpCall("TrafficReplayInitializer", new Endpoint("/orders/7"), 0),
+                new WarmUpCallResult(Duration.ZERO, 0, null));
+        listener.callFinished(
+                new WarmUpCall("TrafficReplayInitializer", new Endpoint("/orders/latest"), 0),
+                new WarmUpCallResult(Duration.ZERO, 0, null));
+        listener.callFinished(
+                new WarmUpCall("TrafficReplayInitializer", new Endpoint("/unmapped/1"), 0),
+                new WarmUpCallResult(Duration.ZERO, 0, null));
+
+        assertThat(registry.find(CALL_TIMER).timers())
+                .extracting(timer -> timer.getId().getTag("path"))
+                .containsExactlyInAnyOrder("/orders/{id}", "/orders/latest", UNKNOWN_PATH);
+    }
+
+    @Test
+    void gauges_trackProgress() {
+        listener.warmUpStarted();
+        listener.endpointsScheduled("HttpInitializer", 4);
+        listener.endpointFinished("HttpInitializer", ENDPOINT);
+
+        assertThat(registry.get(REMAINING_GAUGE).gauge().value()).isEqualTo(3);
+        assertThat(registry.get(PROGRESS_GAUGE).gauge().value()).isEqualTo(0.25);
+
+        listener.warmUpFinished(Duration.ofSeconds(2));
+
+        assertThat(registry.get(PROGRESS_GAUGE).gauge().value()).isEqualTo(1);
+        assertThat(registry.get(DURATION_TIMER).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void withoutRegistry_doesNothing() {
+        final var beanFactory = new StaticListableBeanFactory();
+        final var withoutRegistry = new MicrometerWarmUpListener(
+                beanFactory.getBeanProvider(MeterRegistry.class),
+                beanFactory.getBeanProvider(RequestMappingInfoHandlerMapping.class));
+
+        assertThatNoException().isThrownBy(() -> {
+            withoutRegistry.warmUpStarted();
+            withoutRegistry.callFinished(
+                    new WarmUpCall("HttpInitializer", ENDPOINT, 0), new WarmUpCallResult(Duration.ZERO, 0, null));
+            withoutRegistry.warmUpFinished(Duration.ZERO);
+        });
+    }
+}
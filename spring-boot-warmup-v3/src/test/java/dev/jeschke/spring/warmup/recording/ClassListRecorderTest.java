@@ -0,0 +1,75 @@
+package dev.jeschke.spring.warmup.recording;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.jeschke.spring.warmup.ClassPreloading;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ClassListRecorderTest {
+
+    private final ClassListRecorder recorder = new ClassListRecorder();
+
+    @TempDir
+    private Path directory;
+
+    @AfterEach
+    void tearDown() {
+        recorder.close();
+    }
+
+    @Test
+    void close_writesLoadedClasses() throws Exception {
+        final var file = directory.resolve("lists/classes.lst");
+        recorder.start(new ClassPreloading(file, Duration.ofHours(1)), List.of("com.example.Preloaded"));
+
+        // JUnit already loaded the nested class, so load it again with a fresh class loader
+        try (final var classLoader = new URLClassLoader(
+                new URL[] {getClass().getProtectionDomain().getCodeSource().getLocation()}, null)) {
+            Class.forName(Recorded.class.getName(), false, classLoader);
+        }
+        final Runnable lambda = () -> {};
+        lambda.run();
+        recorder.warmUpFinished(Duration.ZERO);
+        recorder.close();
+
+        final var classNames = Files.readAllLines(file, UTF_8);
+        assertThat(classNames).startsWith("com.example.Preloaded").contains(Recorded.class.getName());
+        assertThat(classNames).noneMatch(name -> name.contains("$$Lambda") || name.startsWith("jdk.jfr."));
+    }
+
+    @Test
+    void warmUpFinished_writesAfterRecordingDuration() throws Exception {
+        final var file = directory.resolve("classes.lst");
+        recorder.start(new ClassPreloading(file, Duration.ZERO), List.of());
+
+        recorder.warmUpFinished(Duration.ZERO);
+
+        final var deadline = System.nanoTime() + Duration.ofSeconds(20).toNanos();
+        while (!Files.exists(file) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(file).exists();
+    }
+
+    @Test
+    void close_withoutRecording() throws IOException {
+        recorder.warmUpFinished(Duration.ZERO);
+        recorder.close();
+
+        try (final var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    static class Recorded {}
+}
@@ -0,0 +1,68 @@
+package dev.jeschke.spring.warmup.recording;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.jeschke.spring.warmup.TrafficRecording;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TrafficRecorderTest {
+
+    private final TrafficRecorder recorder = new TrafficRecorder();
+
+    @TempDir
+    private Path directory;
+
+    @AfterEach
+    void tearDown() {
+        recorder.close();
+    }
+
+    @Test
+    void record_appendsParsableLines() throws IOException {
+        final var recording = new TrafficRecording(directory.resolve("traffic.rec"), 1, 1024, Set.of());
+        final var request = new RecordedRequest(
+                "POST",
+                "/orders/4%202",
+                "expand=items&tab=a\tb",
+                Map.of("Accept", "application/json"),
+                "application/json",
+                "{\"line\":\"1\\n2\"}".getBytes(UTF_8));
+
+        recorder.record(recording, request);
+        recorder.record(recording, new RecordedRequest("GET", "/orders", "", Map.of(), null, new byte[0]));
+
+        final var lines = Files.readAllLines(recording.file(), UTF_8);
+        assertThat(lines).hasSize(2);
+        final var parsed = RecordedRequest.parse(lines.get(0)).orElseThrow();
+        assertThat(parsed).usingRecursiveComparison().isEqualTo(request);
+        assertThat(RecordedRequest.parse(lines.get(1)))
+                .hasValueSatisfying(actual -> assertThat(actual.contentType()).isNull());
+    }
+
+    @Test
+    void record_stopsAtMaxFileSize() throws IOException {
+        final var request = new RecordedRequest("GET", "/orders", "", Map.of(), null, new byte[0]);
+        final var lineLength = request.toLine().length() + 1;
+        final var recording = new TrafficRecording(directory.resolve("traffic.rec"), 1, lineLength * 2L, Set.of());
+
+        recorder.record(recording, request);
+        recorder.record(recording, request);
+        recorder.record(recording, request);
+
+        assertThat(Files.readAllLines(recording.file(), UTF_8)).hasSize(2);
+    }
+
+    @Test
+    void parse_malformedLine() {
+        assertThat(RecordedRequest.parse("GET\tnot base64")).isEmpty();
+        assertThat(RecordedRequest.parse("GET\t!\t\t\t\t")).isEmpty();
+    }
+}
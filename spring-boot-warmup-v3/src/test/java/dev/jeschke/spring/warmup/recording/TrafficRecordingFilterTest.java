@@ -0,0 +1,178 @@
+package dev.jeschke.spring.warmup.recording;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import dev.jeschke.spring.warmup.TrafficRecording;
+import dev.jeschke.spring.warmup.WarmUpFactory;
+import dev.jeschke.spring.warmup.WarmUpRunner;
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TrafficRecordingFilterTest {
+
+    private static final TrafficRecording RECORDING =
+            new TrafficRecording(Path.of("traffic.rec"), 1, 1024, Set.of("Accept"));
+    private static final TrafficRecording RECORDING_POST = RECORDING.withMethods("get", "post");
+
+    @Mock
+    private WarmUpRunner warmUpRunner;
+
+    @Mock
+    private WarmUpFactory factory;
+
+    @Mock
+    private WarmUpSettings settings;
+
+    @Mock
+    private TrafficRecorder recorder;
+
+    private final MockEnvironment environment = new MockEnvironment();
+
+    private TrafficRecordingFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        filter = new TrafficRecordingFilter(warmUpRunner, factory, List.of(), recorder, environment);
+        lenient().when(factory.getSettings(List.of())).thenReturn(settings);
+        lenient().when(settings.trafficRecording()).thenReturn(RECORDING);
+    }
+
+    @Test
+    void doFilter_recordsRequest() throws ServletException, IOException {
+        when(warmUpRunner.isWarmedUp()).thenReturn(true);
+        when(settings.trafficRecording()).thenReturn(RECORDING_POST);
+        final var request = new MockHttpServletRequest("POST", "/orders");
+        request.setQueryString("expand=items");
+        request.addHeader("Accept", "application/json");
+        request.addHeader("Authorization", "secret");
+        request.setContentType("application/json");
+        request.setContent("{}".getBytes(UTF_8));
+        // The application has to read the body, otherwise there is nothing to record
+        final FilterChain chain =
+                (servletRequest, servletResponse) -> StreamUtils.copyToByteArray(servletRequest.getInputStream());
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        final var captor = ArgumentCaptor.forClass(RecordedRequest.class);
+        verify(recorder).record(any(), captor.capture());
+        assertThat(captor.getValue())
+                .usingRecursiveComparison()
+                .isEqualTo(new RecordedRequest(
+                        "POST",
+                        "/orders",
+                        "expand=items",
+                        Map.of("Accept", "application/json"),
+                        "application/json",
+                        "{}".getBytes(UTF_8)));
+    }
+
+    @Test
+    void doFilter_recordsOnlySafeMethodsByDefault() throws ServletException, IOException {
+        when(warmUpRunner.isWarmedUp()).thenReturn(true);
+
+        for (final var method : List.of("POST", "PUT", "PATCH", "DELETE")) {
+            final var chain = new MockFilterChain();
+            filter.doFilter(new MockHttpServletRequest(method, "/orders"), new MockHttpServletResponse(), chain);
+            assertThat(chain.getRequest()).isNotNull();
+        }
+        filter.doFilter(
+                new MockHttpServletRequest("HEAD", "/orders"), new MockHttpServletResponse(), new MockFilterChain());
+
+        final var captor = ArgumentCaptor.forClass(RecordedRequest.class);
+        verify(recorder).record(any(), captor.capture());
+        assertThat(captor.getValue().method()).isEqualTo("HEAD");
+    }
+
+    @Test
+    void doFilter_skipsActuator() throws ServletException, IOException {
+        when(warmUpRunner.isWarmedUp()).thenReturn(true);
+        final var chain = new MockFilterChain();
+
+        filter.doFilter(
+                new MockHttpServletRequest("GET", "/actuator/health/readiness"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        verifyNoInteractions(recorder);
+    }
+
+    @Test
+    void doFilter_skipsConfiguredManagementPaths() throws ServletException, IOException {
+        when(warmUpRunner.isWarmedUp()).thenReturn(true);
+        environment.setProperty(TrafficRecordingFilter.MANAGEMENT_BASE_PATH, "/manage/");
+        environment.setProperty(TrafficRecordingFilter.PROBE_PATHS, "true");
+
+        filter.doFilter(
+                new MockHttpServletRequest("GET", "/manage/info"),
+                new MockHttpServletResponse(),
+                new MockFilterChain());
+        filter.doFilter(
+                new MockHttpServletRequest("GET", "/livez"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(
+                new MockHttpServletRequest("GET", "/management"), new MockHttpServletResponse(), new MockFilterChain());
+
+        final var captor = ArgumentCaptor.forClass(RecordedRequest.class);
+        verify(recorder).record(any(), captor.capture());
+        assertThat(captor.getValue().path()).isEqualTo("/management");
+    }
+
+    @Test
+    void doFilter_notWarmedUp() throws ServletException, IOException {
+        when(warmUpRunner.isWarmedUp()).thenReturn(false);
+        final var chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/orders"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        verifyNoInteractions(recorder);
+    }
+
+    @Test
+    void doFilter_recordingDisabled() throws ServletException, IOException {
+        when(warmUpRunner.isWarmedUp()).thenReturn(true);
+        when(settings.trafficRecording()).thenReturn(null);
+        final var chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/orders"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        verifyNoInteractions(recorder);
+    }
+
+    @Test
+    void doFilter_recorderFails_doesNotBreakRequest() throws ServletException, IOException {
+        when(warmUpRunner.isWarmedUp()).thenReturn(true);
+        final var exception = new IllegalStateException("test");
+        doThrow(exception).when(recorder).record(any(), any());
+        final var chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/orders"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        verify(recorder).record(any(), any());
+    }
+}
@@ -0,0 +1,117 @@
+package dev.jeschke.spring.warmup.report;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import dev.jeschke.spring.warmup.Endpoint;
+import dev.jeschke.spring.warmup.WarmUpFactory;
+import dev.jeschke.spring.warmup.initializers.HttpInitializer;
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import dev.jeschke.spring.warmup.listener.WarmUpCall;
+import dev.jeschke.spring.warmup.listener.WarmUpCallResult;
+import dev.jeschke.spring.warmup.report.WarmUpReport.EndpointReport;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class WarmUpReporterTest {
+
+    private static final Endpoint ENDPOINT = new Endpoint("/path");
+
+    @Mock
+    private WarmUpFactory factory;
+
+    @Mock
+    private WarmUpSettings settings;
+
+    @InjectMocks
+    private WarmUpReporter reporter;
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(factory.getCachedSettings()).thenReturn(Optional.of(settings));
+    }
+
+    @Test
+    void getReport_comparesFirstAndLastCall() {
+        reporter.callFinished(call(0), new WarmUpCallResult(Duration.ofMillis(100), 1000, null));
+        reporter.callFinished(call(1), new WarmUpCallResult(Duration.ofMillis(40), 300, new RuntimeException()));
+        reporter.callFinished(call(2), new WarmUpCallResult(Duration.ofMillis(20), 200, null));
+
+        final var report = reporter.getReport();
+
+        assertThat(report.finished()).isFalse();
+        assertThat(report.endpoints())
+                .containsExactly(new EndpointReport("HttpInitializer", "GET", "/path", 3, 1, 100, 20, 5, 1500));
+    }
+
+    @Test
+    void getReport_unknownAllocations() {
+        reporter.callFinished(call(0), new WarmUpCallResult(Duration.ofMillis(10), 1000, null));
+        reporter.callFinished(call(1), new WarmUpCallResult(Duration.ofMillis(10), -1, null));
+
+        assertThat(reporter.getReport().endpoints())
+                .extracting(EndpointReport::allocatedBytes)
+                .containsExactly(-1L);
+    }
+
+    @Test
+    void callFinished_ignoresOtherInitializers() {
+        reporter.callFinished(
+                new WarmUpCall("TrafficReplayInitializer", ENDPOINT, 0),
+                new WarmUpCallResult(Duration.ofMillis(10), 0, null));
+
+        assertThat(reporter.getReport().endpoints()).isEmpty();
+    }
+
+    @Test
+    void warmUpFinished_writesReportFile() throws IOException {
+        final var file = directory.resolve("reports/warmup.json");
+        when(settings.reportFile()).thenReturn(file);
+        reporter.callFinished(call(0), new WarmUpCallResult(Duration.ofMillis(10), 64, null));
+
+        reporter.warmUpFinished(Duration.ofSeconds(1));
+
+        assertThat(reporter.getReport().finished()).isTrue();
+        assertThat(Files.readString(file, UTF_8))
+                .isEqualTo(
+                        "{\"finished\":true,\"durationMillis\":1000.0,\"endpoints\":[{\"initializer\":\"HttpInitializer\","
+                                + "\"method\":\"GET\",\"path\":\"/path\",\"calls\":1,\"failures\":0,\"firstCallMillis\":10.0,"
+                                + "\"lastCallMillis\":10.0,\"speedUp\":1.0,\"allocatedBytes\":64}]}");
+    }
+
+    @Test
+    void warmUpFinished_withoutReportFile() {
+        reporter.warmUpFinished(Duration.ofSeconds(1));
+
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    @Test
+    void toJson_escapesStrings() {
+        final var report =
+                new WarmUpReport(true, 1, List.of(new EndpointReport("a\"b", "GET", "/p\\q\n", 1, 0, 1, 1, 1, 0)));
+
+        assertThat(report.toJson()).contains("\"a\\\"b\"", "\"/p\\\\q\\n\"");
+    }
+
+    private WarmUpCall call(final int repetition) {
+        return new WarmUpCall(HttpInitializer.NAME, ENDPOINT, repetition);
+    }
+}
@@ -0,0 +1,29 @@
+package dev.jeschke.spring.warmup.webflux;
+
+import dev.jeschke.spring.warmup.ControllerWarmUp;
+
+/**
+ * Marks router function routes for the WarmUp, the counterpart of {@link ControllerWarmUp} for functional endpoints.
+ * <p>
+ * {@snippet :
+ *  @Bean
+ *  public RouterFunction<ServerResponse> routes() {
+ *      return RouterFunctions.route()
+ *          .GET("/getPath", request -> ServerResponse.ok().build())
+ *          .withAttribute(WarmUpRoutes.ATTRIBUTE, true) // will be called without body
+ *          .POST("/postPath", request -> ServerResponse.ok().build())
+ *          .withAttribute(WarmUpRoutes.ATTRIBUTE, new RequestBody()) // will be called with the given body
+ *          .build();
+ *  }
+ * }
+ */
+public final class WarmUpRoutes {
+
+    /**
+     * The route attribute that marks a route for the WarmUp. If the value is {@code true}, the route is called without body.
+     * Otherwise, the value is sent as JSON request body.
+     */
+    public static final String ATTRIBUTE = ControllerWarmUp.class.getName();
+
+    private WarmUpRoutes() {}
+}
@@ -0,0 +1,96 @@
+package dev.jeschke.spring.warmup.webflux;
+
+import static java.util.Objects.requireNonNullElseGet;
+
+import dev.jeschke.spring.warmup.WarmUpBuilder;
+import dev.jeschke.spring.warmup.WarmUpCustomizer;
+import dev.jeschke.spring.warmup.builder.WarmUpBuilderImpl;
+import dev.jeschke.spring.warmup.internal.HttpClientPool;
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import dev.jeschke.spring.warmup.webflux.initializers.ReactiveWarmUpInitializer;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.bind.Name;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Component
+public class WebFluxWarmUpFactory {
+    private final ApplicationContext context;
+
+    private final ObjectProvider<WebClient.Builder> webClientBuilder;
+
+    private final AtomicReference<Result<WarmUpSettings>> cachedSettings = new AtomicReference<>();
+    private final HttpClientPool<WebClient> clientPool;
+
+    public WebFluxWarmUpFactory(
+            final ApplicationContext context,
+            @Name("defaultWarmUpHttpClient") final ObjectProvider<HttpClient.Builder> defaultWarmUpHttpClient,
+            final ObjectProvider<WebClient.Builder> webClientBuilder) {
+        this.context = context;
+        this.webClientBuilder = webClientBuilder;
+        this.clientPool = new HttpClientPool<>(defaultWarmUpHttpClient::getObject, this::buildWebClient);
+    }
+
+    // Sonar complains that Exception is too generic, but that's what we get, so what can we do
+    @SuppressWarnings("java:S112")
+    public WarmUpSettings getSettings(final List<ReactiveWarmUpInitializer> initializers) throws Exception {
+        final var result = cachedSettings.updateAndGet(
+                settings -> requireNonNullElseGet(settings, () -> buildSettings(initializers)));
+        if (result instanceof Result.Success<WarmUpSettings> success) {
+            return success.result();
+        }
+        throw ((Result.Failure<WarmUpSettings>) result).cause();
+    }
+
+    /**
+     * Returns a client for the given settings. Settings with the same protocol, TLS mode and HTTP version share a client, so
+     * connections are reused across all calls.
+     */
+    public WebClient getWebClient(final WarmUpSettings settings) {
+        return clientPool.get(settings);
+    }
+
+    /**
+     * Closes all clients created by the library. Custom clients set with {@link WarmUpBuilder#setHttpClient(HttpClient)} are left
+     * open.
+     */
+    public void closeClients() {
+        clientPool.close();
+    }
+
+    private WebClient buildWebClient(final HttpClient httpClient) {
+        return webClientBuilder
+                .getIfAvailable(WebClient::builder)
+                .clone()
+                .clientConnector(new JdkClientHttpConnector(httpClient))
+                .build();
+    }
+
+    private Result<WarmUpSettings> buildSettings(final List<ReactiveWarmUpInitializer> initializers) {
+        try {
+            WarmUpBuilder builder = new WarmUpBuilderImpl();
+            for (final var customizer :
+                    context.getBeansOfType(WarmUpCustomizer.class).values()) {
+                builder = customizer.apply(builder);
+            }
+            for (final var initializer : initializers) {
+                builder = initializer.configure(builder);
+            }
+            return new Result.Success<>(builder.build());
+        } catch (final Exception e) {
+            return new Result.Failure<>(e);
+        }
+    }
+
+    @SuppressWarnings({"unused", "java:S2326"})
+    private sealed interface Result<T> {
+        record Success<T>(T result) implements Result<T> {}
+
+        record Failure<T>(Exception cause) implements Result<T> {}
+    }
+}
@@ -0,0 +1,45 @@
+package dev.jeschke.spring.warmup.webflux;
+
+import static org.springframework.boot.availability.ReadinessState.ACCEPTING_TRAFFIC;
+import static org.springframework.boot.availability.ReadinessState.REFUSING_TRAFFIC;
+
+import dev.jeschke.spring.warmup.webflux.initializers.ReactiveWarmUpInitializer;
+import java.util.List;
+import org.springframework.boot.actuate.availability.ReadinessStateHealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityState;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnClass(ReadinessStateHealthIndicator.class)
+public class WebFluxWarmUpReadinessIndicator extends ReadinessStateHealthIndicator {
+
+    private final WebFluxWarmUpRunner warmUpRunner;
+    private final WebFluxWarmUpFactory factory;
+    private final List<ReactiveWarmUpInitializer> initializers;
+
+    public WebFluxWarmUpReadinessIndicator(
+            final ApplicationAvailability availability,
+            final WebFluxWarmUpRunner warmUpRunner,
+            final WebFluxWarmUpFactory factory,
+            final List<ReactiveWarmUpInitializer> initializers) {
+        super(availability);
+        this.warmUpRunner = warmUpRunner;
+        this.factory = factory;
+        this.initializers = initializers;
+    }
+
+    @Override
+    protected AvailabilityState getState(final ApplicationAvailability applicationAvailability) {
+        try {
+            final var settings = factory.getSettings(initializers);
+            return !warmUpRunner.isWarmedUp() && settings.enableReadinessIndicator()
+                    ? REFUSING_TRAFFIC
+                    : ACCEPTING_TRAFFIC;
+        } catch (final Exception e) {
+            // Don't log here, this method might be called often. The error will be logged somewhere else
+            return ACCEPTING_TRAFFIC;
+        }
+    }
+}
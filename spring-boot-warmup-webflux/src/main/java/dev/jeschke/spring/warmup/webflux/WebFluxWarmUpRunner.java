@@ -0,0 +1,49 @@
+package dev.jeschke.spring.warmup.webflux;
+
+import dev.jeschke.spring.warmup.webflux.initializers.ReactiveWarmUpInitializer;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebFluxWarmUpRunner {
+
+    private final List<ReactiveWarmUpInitializer> initializers;
+    private final WebFluxWarmUpFactory factory;
+    private final AtomicBoolean done = new AtomicBoolean(false);
+
+    /**
+     * Starts the WarmUp without blocking the calling thread.
+     */
+    @EventListener
+    public void onContextRefreshed(final ContextRefreshedEvent ignoredEvent) {
+        Mono.fromCallable(() -> factory.getSettings(initializers))
+                .flatMap(settings -> {
+                    final var warmUp = Flux.fromIterable(initializers)
+                            .concatMap(initializer -> initializer.warmUp(settings))
+                            .then();
+                    return settings.timeBudget() == null ? warmUp : warmUp.timeout(settings.timeBudget());
+                })
+                .doOnError(TimeoutException.class, e -> log.warn("Warm up did not finish within its time budget"))
+                .doOnError(e -> !(e instanceof TimeoutException), e -> log.error("Could not execute warm up steps", e))
+                .onErrorComplete()
+                .doFinally(signal -> {
+                    factory.closeClients();
+                    done.set(true);
+                })
+                .subscribe();
+    }
+
+    public boolean isWarmedUp() {
+        return done.get();
+    }
+}
@@ -0,0 +1,25 @@
+package dev.jeschke.spring.warmup.webflux.config;
+
+import static java.net.http.HttpClient.Redirect.ALWAYS;
+import static org.springframework.beans.factory.config.ConfigurableBeanFactory.SCOPE_PROTOTYPE;
+
+import java.net.http.HttpClient;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Scope;
+
+@AutoConfiguration
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@ComponentScan("dev.jeschke.spring.warmup.webflux")
+public class WebFluxWarmUpConfiguration {
+
+    // A prototype, so each pooled client starts with a fresh builder
+    @Bean("defaultWarmUpHttpClient")
+    @Scope(SCOPE_PROTOTYPE)
+    public HttpClient.Builder defaultHttpClient() {
+        return HttpClient.newBuilder().followRedirects(ALWAYS);
+    }
+}
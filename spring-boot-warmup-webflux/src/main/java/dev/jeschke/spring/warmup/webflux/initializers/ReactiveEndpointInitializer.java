@@ -0,0 +1,194 @@
+package dev.jeschke.spring.warmup.webflux.initializers;
+
+import static java.util.Objects.requireNonNull;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import dev.jeschke.spring.warmup.ControllerWarmUp;
+import dev.jeschke.spring.warmup.ControllerWarmUp.DefaultRequestBodyType;
+import dev.jeschke.spring.warmup.Endpoint;
+import dev.jeschke.spring.warmup.WarmUpBuilder;
+import dev.jeschke.spring.warmup.internal.ControllerWarmUpSamples;
+import dev.jeschke.spring.warmup.internal.RepeatingWarmUpSettings;
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import dev.jeschke.spring.warmup.webflux.WarmUpRoutes;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.result.method.RequestMappingInfo;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Calls all endpoints annotated with {@link ControllerWarmUp}, all routes marked with {@link WarmUpRoutes#ATTRIBUTE} and all
+ * configured endpoints. At most {@link WarmUpSettings#parallelism()} calls are in flight at the same time, and no thread is
+ * blocked while waiting for a response.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveEndpointInitializer implements ReactiveWarmUpInitializer {
+
+    private final ApplicationContext applicationContext;
+    private final WebClientCaller caller;
+
+    @Override
+    public WarmUpBuilder configure(final WarmUpBuilder builder) {
+        applicationContext.getBeansOfType(RequestMappingHandlerMapping.class).values().stream()
+                .map(RequestMappingHandlerMapping::getHandlerMethods)
+                .map(Map::entrySet)
+                .flatMap(Set::stream)
+                .filter(mapping -> mapping.getValue().hasMethodAnnotation(ControllerWarmUp.class))
+                .forEach(mappingInfo -> addEndpoint(mappingInfo.getKey(), mappingInfo.getValue(), builder));
+        final var routeVisitor = new WarmUpRouteVisitor();
+        applicationContext
+                .getBeanProvider(RouterFunction.class)
+                .orderedStream()
+                .forEach(routerFunction -> routerFunction.accept(routeVisitor));
+        routeVisitor.getEndpoints().forEach(builder::addEndpoint);
+        return builder;
+    }
+
+    @Override
+    public Mono<Void> warmUp(final WarmUpSettings configuration) {
+        final var calls = new ArrayList<PrioritizedCall>();
+        for (final var endpoint : configuration.endpoints()) {
+            calls.add(new PrioritizedCall(endpoint.priority(), call(endpoint, configuration)));
+        }
+        for (final var repeating : configuration.repeatingWarmUpSettings()) {
+            if (repeating.convergence() != null
+                    || repeating.compilerPacing() != null
+                    || repeating.latencyTarget() != null) {
+                log.info("Adaptive repetitions are not supported for WebFlux. Will repeat {} times", repeating.times());
+            }
+            for (final var endpoint : repeating.settings().endpoints()) {
+                calls.add(new PrioritizedCall(endpoint.priority(), repeat(repeating, endpoint)));
+            }
+        }
+        if (!configuration.loadWarmUpSettings().isEmpty()) {
+            log.warn("Load profiles are not supported for WebFlux. Will skip them");
+        }
+        // Stable sort, so endpoints with the same priority keep their configured order
+        calls.sort(Comparator.comparingInt(PrioritizedCall::priority).reversed());
+        return Flux.fromIterable(calls)
+                .flatMap(PrioritizedCall::call, configuration.parallelism())
+                .then();
+    }
+
+    private Mono<Void> repeat(final RepeatingWarmUpSettings repeating, final Endpoint endpoint) {
+        final var call = call(endpoint, repeating.settings());
+        return Flux.range(0, repeating.times())
+                .concatMap(i -> i == 0 ? call : call.delaySubscription(repeating.interval()))
+                .then();
+    }
+
+    /*
+     * A failing call must not cancel the other calls, which run in the same Flux
+     */
+    private Mono<Void> call(final Endpoint endpoint, final WarmUpSettings configuration) {
+        return caller.callEndpoint(endpoint, configuration).onErrorResume(e -> {
+            log.warn(
+                    "Call to {} with method {} failed. Will continue with the next call",
+                    endpoint.path(),
+                    endpoint.method(),
+                    e);
+            return Mono.empty();
+        });
+    }
+
+    private void addEndpoint(
+            final RequestMappingInfo requestMappingInfo,
+            final HandlerMethod handlerMethod,
+            final WarmUpBuilder builder) {
+        final var requestMethod = requestMappingInfo //
+                .getMethodsCondition() //
+                .getMethods() //
+                .stream() //
+                .findAny();
+        final var patterns = requestMappingInfo.getPatternsCondition().getPatterns().stream()
+                .map(PathPattern::getPatternString)
+                .toList();
+        final var methodAnnotation = getMethodAnnotation(handlerMethod);
+        final var requestBody = getRequestBody(handlerMethod, methodAnnotation);
+
+        if (requestMethod.isEmpty() || patterns.isEmpty()) {
+            log.warn(
+                    "Could not find request for {}. Got method {} and patterns {}",
+                    requestMappingInfo,
+                    requestMethod,
+                    patterns);
+            return;
+        }
+        try {
+            ControllerWarmUpSamples.toEndpoints(
+                            methodAnnotation,
+                            requestMethod.get().toString(),
+                            patterns,
+                            requestBody,
+                            APPLICATION_JSON_VALUE)
+                    .forEach(builder::addEndpoint);
+        } catch (final IllegalArgumentException e) {
+            log.warn("Will not call {}: {}", requestMappingInfo, e.getMessage());
+        }
+    }
+
+    private record PrioritizedCall(int priority, Mono<Void> call) {}
+
+    private ControllerWarmUp getMethodAnnotation(final HandlerMethod handlerMethod) {
+        return requireNonNull(
+                handlerMethod.getMethodAnnotation(ControllerWarmUp.class),
+                () -> "The handler method %s should have a @ControllerWarmUp annotation"
+                        .formatted(handlerMethod.getMethod().getName()));
+    }
+
+    private Object getRequestBody(final HandlerMethod handlerMethod, final ControllerWarmUp methodAnnotation) {
+        // First: Try a body configured with the annotation
+        final var configuredType = Optional.<Class<?>>ofNullable(methodAnnotation.requestBody())
+                .filter(clazz -> !clazz.isAssignableFrom(DefaultRequestBodyType.class));
+        // Second: Try to find a @RequestBody parameter
+        final var annotatedParameterType = configuredType.or(() -> findParameterTypeByAnnotation(handlerMethod));
+
+        return annotatedParameterType.stream()
+                .map(Class::getConstructors)
+                .flatMap(Stream::of)
+                .filter(constructor -> constructor.getParameterCount() == 0)
+                .findFirst()
+                .flatMap(this::instantiate)
+                .orElse(null);
+    }
+
+    private Optional<Class<?>> findParameterTypeByAnnotation(final HandlerMethod handlerMethod) {
+        return Stream.of(handlerMethod.getMethodParameters())
+                .map(MethodParameter::getParameter)
+                .filter(parameter -> parameter.isAnnotationPresent(RequestBody.class))
+                .<Class<?>>map(Parameter::getType)
+                .findFirst();
+    }
+
+    private Optional<?> instantiate(final Constructor<?> constructor) {
+        try {
+            return Optional.of(constructor.newInstance());
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            log.error(
+                    "Failed to instantiate body with constructor {}. Will call the endpoint without body.",
+                    constructor,
+                    e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package dev.jeschke.spring.warmup.webflux.initializers;
+
+import dev.jeschke.spring.warmup.WarmUpBuilder;
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveWarmUpInitializer {
+
+    default WarmUpBuilder configure(final WarmUpBuilder builder) {
+        return builder;
+    }
+
+    Mono<Void> warmUp(WarmUpSettings configuration);
+}
@@ -0,0 +1,169 @@
+package dev.jeschke.spring.warmup.webflux.initializers;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import dev.jeschke.spring.warmup.Endpoint;
+import dev.jeschke.spring.warmup.webflux.WarmUpRoutes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.RequestPredicate;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Mono;
+
+/**
+ * Collects the routes marked with {@link WarmUpRoutes#ATTRIBUTE}. Attributes are visited right before the route they belong to.
+ */
+@Slf4j
+class WarmUpRouteVisitor implements RouterFunctions.Visitor {
+
+    @Getter
+    private final List<Endpoint> endpoints = new ArrayList<>();
+
+    private final Deque<String> nestedPaths = new ArrayDeque<>();
+    private Map<String, Object> pendingAttributes = Map.of();
+
+    @Override
+    public void startNested(final RequestPredicate predicate) {
+        final var collector = new PredicateCollector();
+        predicate.accept(collector);
+        nestedPaths.push(currentPrefix() + collector.path);
+    }
+
+    @Override
+    public void endNested(final RequestPredicate predicate) {
+        nestedPaths.pop();
+    }
+
+    @Override
+    public void route(final RequestPredicate predicate, final HandlerFunction<?> handlerFunction) {
+        final var attributes = pendingAttributes;
+        pendingAttributes = Map.of();
+        if (!attributes.containsKey(WarmUpRoutes.ATTRIBUTE)) {
+            return;
+        }
+        final var collector = new PredicateCollector();
+        predicate.accept(collector);
+        final var method = collector.methods.stream().findAny();
+        if (method.isEmpty()) {
+            log.warn("Could not find a method for the route {}. Will skip it", predicate);
+            return;
+        }
+        final var value = attributes.get(WarmUpRoutes.ATTRIBUTE);
+        final var body = value instanceof Boolean ? null : value;
+        endpoints.add(new Endpoint(
+                method.get().name(),
+                currentPrefix() + collector.path,
+                body,
+                body == null ? null : APPLICATION_JSON_VALUE));
+    }
+
+    @Override
+    public void resources(final Function<ServerRequest, Mono<Resource>> lookupFunction) {
+        pendingAttributes = Map.of();
+    }
+
+    @Override
+    public void attributes(final Map<String, Object> attributes) {
+        pendingAttributes = attributes;
+    }
+
+    @Override
+    public void unknown(final RouterFunction<?> routerFunction) {
+        pendingAttributes = Map.of();
+    }
+
+    private String currentPrefix() {
+        return nestedPaths.isEmpty() ? "" : nestedPaths.peek();
+    }
+
+    /**
+     * Collects the method and path of a predicate, e.g. of {@code GET("/path")}.
+     */
+    private static final class PredicateCollector implements RequestPredicates.Visitor {
+        private Set<HttpMethod> methods = Set.of();
+        private String path = "";
+
+        @Override
+        public void method(final Set<HttpMethod> methods) {
+            this.methods = methods;
+        }
+
+        @Override
+        public void path(final String pattern) {
+            this.path = pattern;
+        }
+
+        @Override
+        public void pathExtension(final String extension) {
+            // not relevant for the call
+        }
+
+        @Override
+        public void header(final String name, final String value) {
+            // not relevant for the call
+        }
+
+        @Override
+        public void queryParam(final String name, final String value) {
+            // not relevant for the call
+        }
+
+        @Override
+        public void startAnd() {
+            // not relevant for the call
+        }
+
+        @Override
+        public void and() {
+            // not relevant for the call
+        }
+
+        @Override
+        public void endAnd() {
+            // not relevant for the call
+        }
+
+        @Override
+        public void startOr() {
+            // not relevant for the call
+        }
+
+        @Override
+        public void or() {
+            // not relevant for the call
+        }
+
+        @Override
+        public void endOr() {
+            // not relevant for the call
+        }
+
+        @Override
+        public void startNegate() {
+            // not relevant for the call
+        }
+
+        @Override
+        public void endNegate() {
+            // not relevant for the call
+        }
+
+        @Override
+        public void unknown(final RequestPredicate predicate) {
+            // not relevant for the call
+        }
+    }
+}
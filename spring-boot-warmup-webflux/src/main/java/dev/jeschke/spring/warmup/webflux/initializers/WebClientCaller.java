@@ -0,0 +1,85 @@
+package dev.jeschke.spring.warmup.webflux.initializers;
+
+import static org.springframework.http.HttpMethod.PATCH;
+import static org.springframework.http.HttpMethod.POST;
+import static org.springframework.http.HttpMethod.PUT;
+
+import dev.jeschke.spring.warmup.Endpoint;
+import dev.jeschke.spring.warmup.internal.EndpointUris;
+import dev.jeschke.spring.warmup.internal.WarmUpSettings;
+import dev.jeschke.spring.warmup.webflux.WebFluxWarmUpFactory;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebClientCaller {
+
+    private final ApplicationContext context;
+    private final WebFluxWarmUpFactory warmUpFactory;
+
+    /**
+     * Calls the endpoint without blocking. Fails with a {@link
+     * org.springframework.web.reactive.function.client.WebClientResponseException} on 4xx and 5xx responses, like the
+     * blocking client of the MVC module does.
+     */
+    public Mono<Void> callEndpoint(final Endpoint endpoint, final WarmUpSettings configuration) {
+        return Mono.defer(() -> call(endpoint, configuration));
+    }
+
+    private Mono<Void> call(final Endpoint endpoint, final WarmUpSettings configuration) {
+        if (!(context instanceof WebServerApplicationContext webServerContext)) {
+            return Mono.error(new IllegalStateException("The application has no web server"));
+        }
+        final var method = HttpMethod.valueOf(endpoint.method());
+        if (endpoint.body() == null && expectRequestBody(method)) {
+            log.warn(
+                    "Trying to call endpoint {} with method {} but no body was provided. Call might fail.",
+                    endpoint,
+                    method);
+        }
+        final var port = webServerContext.getWebServer().getPort();
+        final var url = EndpointUris.toUri(
+                "%s://%s:%s".formatted(configuration.protocol(), configuration.hostname(), port), endpoint.path());
+        log.debug(
+                "Calling endpoint {} {} with body {} ({})",
+                endpoint.method(),
+                url,
+                endpoint.body(),
+                endpoint.contentType());
+
+        final var spec = warmUpFactory
+                .getWebClient(configuration)
+                .method(method)
+                .uri(url)
+                .headers(headers -> endpoint.headers().forEach(headers::add));
+        final WebClient.RequestHeadersSpec<?> request = endpoint.body() == null
+                ? spec
+                : spec.contentType(MediaType.valueOf(endpoint.contentType())).bodyValue(endpoint.body());
+        var response = request //
+                .retrieve() //
+                .toBodilessEntity();
+        if (configuration.requestTimeout() != null) {
+            response = response.timeout(configuration.requestTimeout());
+        }
+        return response.onErrorResume(TimeoutException.class, e -> {
+                    log.warn("Call to {} with method {} timed out. Will continue with the next call", url, method);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private boolean expectRequestBody(final HttpMethod httpMethod) {
+        return List.of(POST, PUT, PATCH).contains(httpMethod);
+    }
+}
@@ -0,0 +1,91 @@
+package dev.jeschke.spring.warmup.webflux;
+
+import static dev.jeschke.spring.warmup.webflux.application.TestApplication.INIT_CALL_COUNT;
+import static dev.jeschke.spring.warmup.webflux.application.TestApplication.ROUTE_TEST_REQUEST_BODY;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.test.context.bean.override.mockito.MockReset.NONE;
+
+import dev.jeschke.spring.warmup.webflux.application.TestApplication;
+import dev.jeschke.spring.warmup.webflux.application.TestMock;
+import dev.jeschke.spring.warmup.webflux.application.TestRequestBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(webEnvironment = RANDOM_PORT, classes = TestApplication.class)
+class WebFluxWarmUpTest {
+
+    // Don't reset the mock between tests. The warm up only runs when the application starts
+    @MockitoBean(reset = NONE)
+    private TestMock testMock;
+
+    @Autowired
+    private HealthEndpoint healthEndpoint;
+
+    @Autowired
+    private WebFluxWarmUpRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        await().until(() -> runner.isWarmedUp() && healthEndpoint.health().getStatus() == Status.UP);
+    }
+
+    @Test
+    void getNoParams() {
+        verify(testMock).getNoParams();
+    }
+
+    @Test
+    void failing_doesNotStopOtherCalls() {
+        // Called first, the other tests verify the calls after it
+        verify(testMock).failing();
+    }
+
+    @Test
+    void postWithRequestBodyParameter() {
+        verify(testMock).postWithRequestBodyParameter(new TestRequestBody());
+    }
+
+    @Test
+    void getWithSamples() {
+        verify(testMock).getWithSamples(7, "a");
+    }
+
+    @Test
+    void getByCustomizer() {
+        verify(testMock).getByCustomizer();
+    }
+
+    @Test
+    void getMultipleTimes() {
+        verify(testMock, times(INIT_CALL_COUNT)).getMultipleTimes();
+    }
+
+    @Test
+    void getByRoute() {
+        verify(testMock).getByRoute();
+    }
+
+    @Test
+    void postByRoute() {
+        verify(testMock).postByRoute(ROUTE_TEST_REQUEST_BODY);
+    }
+
+    @Test
+    void getNestedRoute() {
+        verify(testMock).getNestedRoute();
+    }
+
+    @Test
+    void neverCall() {
+        verify(testMock, never()).neverCall();
+    }
+}
@@ -0,0 +1,130 @@
+package dev.jeschke.spring.warmup.webflux.application;
+
+import dev.jeschke.spring.warmup.ControllerWarmUp;
+import dev.jeschke.spring.warmup.ControllerWarmUp.Sample;
+import dev.jeschke.spring.warmup.WarmUpCustomizer;
+import dev.jeschke.spring.warmup.webflux.WarmUpRoutes;
+import dev.jeschke.spring.warmup.webflux.config.WebFluxWarmUpConfiguration;
+import java.time.Duration;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+@SpringBootApplication
+@Import(WebFluxWarmUpConfiguration.class)
+public class TestApplication {
+    public static final TestRequestBody ROUTE_TEST_REQUEST_BODY = new TestRequestBody("routeTestRequestBody");
+    public static final int INIT_CALL_COUNT = 3;
+
+    public static void main(final String[] args) {
+        SpringApplication.run(TestApplication.class, args);
+    }
+
+    @Configuration
+    public static class TestConfiguration {
+        @Bean
+        public WarmUpCustomizer warmUpCustomizer() {
+            return builder -> builder.addEndpoint("/getByCustomizer")
+                    .initializingMultipleTimes(
+                            INIT_CALL_COUNT,
+                            Duration.ofMillis(100),
+                            multipleTimesBuilder -> multipleTimesBuilder.addEndpoint("/getMultipleTimes"))
+                    .setParallelism(2);
+        }
+
+        @Bean
+        public RouterFunction<ServerResponse> routes(final TestMock testMock) {
+            return RouterFunctions.route()
+                    .GET("/getByRoute", request -> {
+                        testMock.getByRoute();
+                        return ServerResponse.ok().build();
+                    })
+                    .withAttribute(WarmUpRoutes.ATTRIBUTE, true)
+                    .POST("/postByRoute", request -> request.bodyToMono(TestRequestBody.class)
+                            .doOnNext(testMock::postByRoute)
+                            .then(ServerResponse.ok().build()))
+                    .withAttribute(WarmUpRoutes.ATTRIBUTE, ROUTE_TEST_REQUEST_BODY)
+                    .path("/nested", nested -> nested.GET("/route", request -> {
+                                testMock.getNestedRoute();
+                                return ServerResponse.ok().build();
+                            })
+                            .withAttribute(WarmUpRoutes.ATTRIBUTE, true))
+                    .GET("/notAnnotatedRoute", request -> {
+                        testMock.neverCall();
+                        return ServerResponse.ok().build();
+                    })
+                    .build();
+        }
+    }
+
+    @RestController
+    public static class TestController {
+        private final TestMock testMock;
+
+        public TestController(final TestMock testMock) {
+            this.testMock = testMock;
+        }
+
+        // Called first, so the other calls run after it failed
+        @ControllerWarmUp(priority = 10)
+        @GetMapping("/failing")
+        public Mono<String> failing() {
+            testMock.failing();
+            return Mono.error(new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR));
+        }
+
+        @ControllerWarmUp
+        @GetMapping("/getNoParams")
+        public Mono<String> getNoParams() {
+            testMock.getNoParams();
+            return Mono.just("getNoParams");
+        }
+
+        @GetMapping("/notAnnotated")
+        public Mono<String> notAnnotated() {
+            testMock.neverCall();
+            return Mono.just("notAnnotated");
+        }
+
+        @GetMapping("/getByCustomizer")
+        public Mono<String> getByCustomizer() {
+            testMock.getByCustomizer();
+            return Mono.just("getByCustomizer");
+        }
+
+        @ControllerWarmUp(samples = @Sample(pathVariables = "id=7", queryParameters = "filter=a"))
+        @GetMapping("/getWithSamples/{id}")
+        public Mono<String> getWithSamples(
+                @PathVariable("id") final long id, @RequestParam("filter") final String filter) {
+            testMock.getWithSamples(id, filter);
+            return Mono.just("getWithSamples");
+        }
+
+        @ControllerWarmUp
+        @PostMapping("/postWithRequestBodyParameter")
+        public Mono<String> postWithRequestBodyParameter(@RequestBody final TestRequestBody requestBody) {
+            testMock.postWithRequestBodyParameter(requestBody);
+            return Mono.just("postWithRequestBodyParameter");
+        }
+
+        @GetMapping("/getMultipleTimes")
+        public Mono<String> getMultipleTimes() {
+            testMock.getMultipleTimes();
+            return Mono.just("getMultipleTimes");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.jeschke.spring.warmup.webflux.application;
+
+import org.springframework.stereotype.Component;
+
+@Component
+@SuppressWarnings({"unused", "java:S1186"})
+public class TestMock {
+
+    public void getNoParams() {}
+
+    public void neverCall() {}
+
+    public void getByCustomizer() {}
+
+    public void getWithSamples(final long id, final String filter) {}
+
+    public void postWithRequestBodyParameter(final TestRequestBody body) {}
+
+    public void getByRoute() {}
+
+    public void postByRoute(final TestRequestBody body) {}
+
+    public void getNestedRoute() {}
+
+    public void getMultipleTimes() {}
+
+    public void failing() {}
+}
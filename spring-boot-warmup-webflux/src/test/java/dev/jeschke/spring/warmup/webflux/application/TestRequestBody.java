@@ -0,0 +1,12 @@
+package dev.jeschke.spring.warmup.webflux.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestRequestBody {
+    private String testField;
+}